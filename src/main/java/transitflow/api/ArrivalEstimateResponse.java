@@ -10,15 +10,18 @@ public class ArrivalEstimateResponse {
     private final String trackingId;
     private final Instant terminalArrival;
     private final Instant customerDelivery;
+    private final Instant delayFreeArrival;
 
     public ArrivalEstimateResponse(
             String trackingId,
             Instant terminalArrival,
-            Instant customerDelivery
+            Instant customerDelivery,
+            Instant delayFreeArrival
     ) {
         this.trackingId = trackingId;
         this.terminalArrival = terminalArrival;
         this.customerDelivery = customerDelivery;
+        this.delayFreeArrival = delayFreeArrival;
     }
 
     public String getTrackingId() {
@@ -32,4 +35,12 @@ public class ArrivalEstimateResponse {
     public Instant getCustomerDelivery() {
         return customerDelivery;
     }
+
+    /**
+     * Returns the terminal arrival if the shipment met no delays,
+     * computed from route transit times without simulating.
+     */
+    public Instant getDelayFreeArrival() {
+        return delayFreeArrival;
+    }
 }
@@ -3,14 +3,12 @@ package transitflow.api;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import transitflow.delivery.StandardDeliveryPolicy;
-import transitflow.domain.route.*;
+import transitflow.domain.route.Route;
 import transitflow.domain.shipment.Shipment;
-import transitflow.transport.truck.TruckTransport;
+import transitflow.repo.RouteRepository;
+import transitflow.repo.ShipmentRepository;
 
-import java.time.LocalTime;
-import java.time.ZoneId;
-import java.util.List;
+import java.time.Instant;
 
 /**
  * Seeds in-memory data for local development and API testing.
@@ -19,33 +17,14 @@ import java.util.List;
 public class ShipmentDataInitializer {
 
     @Bean
-    CommandLineRunner seedShipments(InMemoryShipmentRepository repository) {
+    CommandLineRunner seedShipments(
+            ShipmentRepository repository,
+            RouteRepository routeRepository
+    ) {
         return args -> {
-            Terminal origin = new Terminal(
-                    "CHI",
-                    "Chicago",
-                    new StandardDeliveryPolicy(
-                            ZoneId.of("America/Chicago"),
-                            LocalTime.of(6, 0)
-                    )
-            );
-
-            Terminal destination = new Terminal(
-                    "DAL",
-                    "Dallas",
-                    new StandardDeliveryPolicy(
-                            ZoneId.of("America/Chicago"),
-                            LocalTime.of(6, 0)
-                    )
-            );
-
-            Segment segment = new Segment(
-                    origin,
-                    destination,
-                    new TruckTransport()
-            );
-
-            Route route = new Route(origin, destination, List.of(segment));
+            Route route = routeRepository
+                    .findFastestRoute("CHI", "DAL", Instant.now())
+                    .orElseThrow(() -> new IllegalStateException("No route from CHI to DAL"));
 
             Shipment shipment = new Shipment("TRACK123", route);
 
@@ -3,6 +3,7 @@ package transitflow.api;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import transitflow.prediction.*;
+import transitflow.repo.ShipmentRepository;
 import transitflow.simulation.SimulationState;
 
 import java.time.Instant;
@@ -16,10 +17,10 @@ import java.util.List;
 public class ShipmentPredictionController {
 
     private final PredictionEngine predictionEngine;
-    private final InMemoryShipmentRepository shipmentRepository;
+    private final ShipmentRepository shipmentRepository;
 
     public ShipmentPredictionController(
-            InMemoryShipmentRepository shipmentRepository,
+            ShipmentRepository shipmentRepository,
             PredictionEngine predictionEngine
     ) {
         this.shipmentRepository = shipmentRepository;
@@ -33,8 +34,10 @@ public class ShipmentPredictionController {
         return shipmentRepository.findByTrackingId(trackingId)
                 .map(shipment -> {
 
+                    Instant now = Instant.now();
+
                     SimulationState liveState = new SimulationState(
-                            Instant.now(),
+                            now,
                             List.of(shipment)
                     );
 
@@ -44,14 +47,16 @@ public class ShipmentPredictionController {
                     ArrivalEstimate estimate =
                             predictionEngine.predictArrivalEstimate(
                                     snapshot,
-                                    shipment.getFinalDestination()
+                                    shipment.getFinalDestination(),
+                                    PredictionMode.EVENT_DRIVEN
                             );
 
                     return ResponseEntity.ok(
                             new ArrivalEstimateResponse(
                                     shipment.getTrackingNumber(),
                                     estimate.getTerminalArrival(),
-                                    estimate.getCustomerDelivery()
+                                    estimate.getCustomerDelivery(),
+                                    shipment.estimateDelayFreeArrival(now)
                             )
                     );
                 })
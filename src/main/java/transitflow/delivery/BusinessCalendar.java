@@ -2,46 +2,201 @@ package transitflow.delivery;
 
 import java.time.DayOfWeek;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Encapsulates business calendar rules such as business days,
- * weekend handling, and time zone conversion.
+ * weekend and holiday handling, and time zone conversion.
  *
  * This class provides reusable date and time calculations used
  * by delivery policies to ensure consistent delivery date logic
  * across terminals.
+ *
+ * Each year is compiled once into two bitsets indexed by day of
+ * year: days that are neither weekend nor holiday, and days that are
+ * not holidays. Business-day checks are then a bit test and the next
+ * business day a set-bit scan, without allocation. Years are compiled
+ * on first use and cached for 1900 through 2299.
  */
 public class BusinessCalendar {
 
+    private static final int FIRST_CACHED_YEAR = 1900;
+    private static final int CACHED_YEARS = 400;
+    private static final int WORDS_PER_YEAR = 6; // 366 bits
+    private static final int MAX_SCANNED_YEARS = 10;
+
+    // Epoch day of January 1 for every cached year, plus one past the end
+    private static final long[] YEAR_START = new long[CACHED_YEARS + 1];
+
+    static {
+        for (int i = 0; i <= CACHED_YEARS; i++) {
+            YEAR_START[i] = LocalDate.of(FIRST_CACHED_YEAR + i, 1, 1).toEpochDay();
+        }
+    }
+
     private final ZoneId zoneId;
+    private final Holidays holidays;
+
+    // [year index] -> weekday bits followed by open-day bits
+    private final AtomicReferenceArray<long[]> compiledYears =
+            new AtomicReferenceArray<>(CACHED_YEARS);
 
     public BusinessCalendar(ZoneId zoneId) {
+        this(zoneId, Holidays.none());
+    }
+
+    public BusinessCalendar(ZoneId zoneId, Holidays holidays) {
         this.zoneId = zoneId;
+        this.holidays = holidays;
     }
 
     public boolean isBusinessDay(ZonedDateTime dateTime, boolean allowWeekends) {
-        DayOfWeek day = dateTime.getDayOfWeek();
+        return isBusinessDay(dateTime.toLocalDate().toEpochDay(), allowWeekends);
+    }
 
-        if (allowWeekends) {
-            return true;
-        }
+    /**
+     * Returns whether the day is a business day. Holidays never are;
+     * weekends are unless {@code allowWeekends} is set.
+     */
+    public boolean isBusinessDay(long epochDay, boolean allowWeekends) {
+        int year = yearOf(epochDay);
+        long[] bits = bitsOf(year);
+        int day = (int) (epochDay - yearStart(year));
+        int offset = allowWeekends ? WORDS_PER_YEAR : 0;
 
-        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY;
+        return (bits[offset + (day >>> 6)] & (1L << day)) != 0;
     }
 
     public ZonedDateTime nextBusinessDay(ZonedDateTime dateTime, boolean allowWeekends) {
-        ZonedDateTime next = dateTime.plusDays(1);
+        long today = dateTime.toLocalDate().toEpochDay();
+        return dateTime.plusDays(nextBusinessDay(today, allowWeekends) - today);
+    }
 
-        while (!isBusinessDay(next, allowWeekends)) {
-            next = next.plusDays(1);
+    /**
+     * Returns the first business day strictly after the given day.
+     *
+     * @throws IllegalStateException if none falls within ten years
+     */
+    public long nextBusinessDay(long epochDay, boolean allowWeekends) {
+        long candidate = epochDay + 1;
+        int year = yearOf(candidate);
+        int offset = allowWeekends ? WORDS_PER_YEAR : 0;
+
+        for (int scanned = 0; scanned < MAX_SCANNED_YEARS; scanned++, year++) {
+            long start = yearStart(year);
+            long[] bits = bitsOf(year);
+            int from = (int) Math.max(0, candidate - start);
+
+            int found = nextSetBit(bits, offset, from);
+            if (found >= 0) {
+                return start + found;
+            }
         }
 
-        return next;
+        throw new IllegalStateException("No business day within " + MAX_SCANNED_YEARS + " years");
     }
 
     public ZonedDateTime toZonedDateTime(Instant instant) {
         return instant.atZone(zoneId);
     }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    public Holidays getHolidays() {
+        return holidays;
+    }
+
+    private long[] bitsOf(int year) {
+        int index = year - FIRST_CACHED_YEAR;
+
+        if (index < 0 || index >= CACHED_YEARS) {
+            return compile(year);
+        }
+
+        long[] bits = compiledYears.get(index);
+        if (bits == null) {
+            // Concurrent compiles produce equal bitsets, either may win
+            bits = compile(year);
+            compiledYears.set(index, bits);
+        }
+        return bits;
+    }
+
+    private long[] compile(int year) {
+        long start = LocalDate.of(year, 1, 1).toEpochDay();
+        int length = LocalDate.of(year, 1, 1).lengthOfYear();
+        long[] bits = new long[2 * WORDS_PER_YEAR];
+
+        // 1970-01-01 was a Thursday
+        int dayOfWeek = Math.floorMod(start + 3, 7) + 1;
+
+        for (int day = 0; day < length; day++) {
+            boolean weekend = dayOfWeek == DayOfWeek.SATURDAY.getValue()
+                    || dayOfWeek == DayOfWeek.SUNDAY.getValue();
+
+            if (!weekend) {
+                bits[day >>> 6] |= 1L << day;
+            }
+            bits[WORDS_PER_YEAR + (day >>> 6)] |= 1L << day;
+
+            dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+        }
+
+        // Holidays of neighbouring years may be observed in this one
+        for (int y = year - 1; y <= year + 1; y++) {
+            for (LocalDate holiday : holidays.in(y)) {
+                long day = holiday.toEpochDay() - start;
+                if (day >= 0 && day < length) {
+                    bits[(int) (day >>> 6)] &= ~(1L << day);
+                    bits[WORDS_PER_YEAR + (int) (day >>> 6)] &= ~(1L << day);
+                }
+            }
+        }
+
+        return bits;
+    }
+
+    private static int nextSetBit(long[] bits, int offset, int from) {
+        int word = from >>> 6;
+        if (word >= WORDS_PER_YEAR) {
+            return -1;
+        }
+
+        long current = bits[offset + word] & (-1L << from);
+
+        while (true) {
+            if (current != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(current);
+            }
+            if (++word == WORDS_PER_YEAR) {
+                return -1;
+            }
+            current = bits[offset + word];
+        }
+    }
+
+    static int yearOf(long epochDay) {
+        // 146097 days per 400-year cycle; the estimate is off by at most one
+        int year = (int) (1970 + Math.floorDiv(epochDay * 400, 146097));
+
+        if (epochDay < yearStart(year)) {
+            year--;
+        } else if (epochDay >= yearStart(year + 1)) {
+            year++;
+        }
+        return year;
+    }
+
+    static long yearStart(int year) {
+        int index = year - FIRST_CACHED_YEAR;
+        if (index >= 0 && index <= CACHED_YEARS) {
+            return YEAR_START[index];
+        }
+        return LocalDate.of(year, 1, 1).toEpochDay();
+    }
 }
@@ -1,8 +1,10 @@
 package transitflow.delivery;
 
 import transitflow.domain.route.Terminal;
+import transitflow.domain.route.TerminalRegistry;
 
 import java.time.Instant;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -12,6 +14,29 @@ import org.springframework.stereotype.Component;
 @Component
 public class DeliveryEstimateService {
 
+    private final DeliveryPolicyRegistry policyRegistry;
+
+    public DeliveryEstimateService() {
+        this(new DeliveryPolicyRegistry());
+    }
+
+    /**
+     * @param policyRegistry registry whose rule set passes over many
+     *                       shipments capture; see {@link #snapshotPolicies()}
+     */
+    @Autowired
+    public DeliveryEstimateService(DeliveryPolicyRegistry policyRegistry) {
+        this.policyRegistry = policyRegistry;
+    }
+
+    /**
+     * Captures the current delivery rule set, so a pass estimating
+     * many deliveries applies one rule set throughout.
+     */
+    public DeliveryPolicySnapshot snapshotPolicies() {
+        return policyRegistry.snapshot();
+    }
+
     /**
      * Computes the earliest customer delivery time based on
      * terminal arrival and delivery policy.
@@ -23,4 +48,85 @@ public class DeliveryEstimateService {
         return terminal.getDeliveryPolicy()
                 .calculateDeliveryDate(terminalArrival);
     }
+
+    /**
+     * Computes the earliest customer delivery time under a captured
+     * rule set.
+     */
+    public Instant estimateDeliveryTime(
+            Instant terminalArrival,
+            Terminal terminal,
+            DeliveryPolicySnapshot policies
+    ) {
+        return policies.resolve(terminal.getDeliveryPolicy())
+                .calculateDeliveryDate(terminalArrival);
+    }
+
+    /**
+     * Computes delivery times for many arrivals at once.
+     *
+     * Arrivals are given in epoch milliseconds together with the
+     * registry id of their terminal. They are grouped by terminal with
+     * a counting sort, and each terminal's policy then fills its share
+     * of {@code deliveryMillis} in a single call. Results equal
+     * {@link #estimateDeliveryTime} truncated to milliseconds. All
+     * terminals apply the rule set current when the call starts.
+     *
+     * @throws IllegalArgumentException  if the arrays differ in length
+     * @throws IndexOutOfBoundsException if a terminal id is not in the
+     *                                   registry
+     */
+    public void estimateDeliveryTimes(
+            long[] arrivalMillis,
+            int[] terminalIds,
+            TerminalRegistry terminals,
+            long[] deliveryMillis
+    ) {
+        estimateDeliveryTimes(arrivalMillis, terminalIds, terminals, snapshotPolicies(), deliveryMillis);
+    }
+
+    /**
+     * Computes delivery times for many arrivals at once under a
+     * captured rule set; see
+     * {@link #estimateDeliveryTimes(long[], int[], TerminalRegistry, long[])}.
+     */
+    public void estimateDeliveryTimes(
+            long[] arrivalMillis,
+            int[] terminalIds,
+            TerminalRegistry terminals,
+            DeliveryPolicySnapshot policies,
+            long[] deliveryMillis
+    ) {
+        int count = arrivalMillis.length;
+        if (terminalIds.length != count || deliveryMillis.length != count) {
+            throw new IllegalArgumentException("Arrival, terminal and delivery arrays must have equal length");
+        }
+
+        int terminalCount = terminals.size();
+
+        // groupStart[t] .. groupStart[t + 1] holds terminal t's positions
+        int[] groupStart = new int[terminalCount + 1];
+        for (int terminalId : terminalIds) {
+            if (terminalId < 0 || terminalId >= terminalCount) {
+                throw new IndexOutOfBoundsException(terminalId);
+            }
+            groupStart[terminalId + 1]++;
+        }
+        for (int t = 0; t < terminalCount; t++) {
+            groupStart[t + 1] += groupStart[t];
+        }
+
+        int[] positions = new int[count];
+        int[] next = groupStart.clone();
+        for (int i = 0; i < count; i++) {
+            positions[next[terminalIds[i]]++] = i;
+        }
+
+        for (int t = 0; t < terminalCount; t++) {
+            if (groupStart[t] < groupStart[t + 1]) {
+                policies.resolve(terminals.get(t).getDeliveryPolicy()).calculateDeliveryDates(
+                        arrivalMillis, positions, groupStart[t], groupStart[t + 1], deliveryMillis);
+            }
+        }
+    }
 }
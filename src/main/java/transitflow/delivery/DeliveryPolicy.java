@@ -20,4 +20,27 @@ public interface DeliveryPolicy {
      */
     Instant calculateDeliveryDate(Instant terminalArrivalTime);
 
+    /**
+     * Calculates delivery times in bulk, in epoch milliseconds. For
+     * each {@code positions[i]} with {@code from <= i < to}, writes the
+     * delivery for {@code arrivalMillis[positions[i]]} to the same
+     * position of {@code deliveryMillis}.
+     *
+     * The result equals {@link #calculateDeliveryDate(Instant)}
+     * truncated to milliseconds. Implementations backed by compiled
+     * tables override this to avoid allocating per arrival.
+     */
+    default void calculateDeliveryDates(
+            long[] arrivalMillis,
+            int[] positions,
+            int from,
+            int to,
+            long[] deliveryMillis
+    ) {
+        for (int i = from; i < to; i++) {
+            int position = positions[i];
+            deliveryMillis[position] = calculateDeliveryDate(
+                    Instant.ofEpochMilli(arrivalMillis[position])).toEpochMilli();
+        }
+    }
 }
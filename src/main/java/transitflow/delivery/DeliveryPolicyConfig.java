@@ -0,0 +1,59 @@
+package transitflow.delivery;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the shared delivery policy registry from the configured rule
+ * file at startup and polls the file for changes until the context
+ * closes.
+ */
+@Configuration
+public class DeliveryPolicyConfig {
+
+    private final ScheduledExecutorService reloadExecutor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "delivery-rules-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @Bean
+    DeliveryPolicyRegistry deliveryPolicyRegistry() {
+        return new DeliveryPolicyRegistry();
+    }
+
+    @Bean
+    DeliveryRulesWatcher deliveryRulesWatcher(
+            DeliveryPolicyRegistry registry,
+            @Value("${delivery.rules-file:classpath:delivery/rules.csv}") Resource rulesFile,
+            @Value("${delivery.reload-interval:PT30S}") Duration reloadInterval
+    ) {
+        DeliveryRulesWatcher watcher = new DeliveryRulesWatcher(registry, rulesFile);
+
+        // A broken file fails startup rather than running without rules
+        watcher.load();
+
+        reloadExecutor.scheduleWithFixedDelay(
+                watcher, reloadInterval.toMillis(), reloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        return watcher;
+    }
+
+    /**
+     * Stops polling the rule file when the context closes, so a reload
+     * never runs against a closed context.
+     */
+    @PreDestroy
+    void stopReloading() {
+        reloadExecutor.shutdownNow();
+    }
+}
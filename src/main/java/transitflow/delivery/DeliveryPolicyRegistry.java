@@ -0,0 +1,223 @@
+package transitflow.delivery;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared, hot-reloadable delivery policies of all terminals.
+ *
+ * Terminal rules are read from a flat, comma-separated file in which
+ * each non-blank line not starting with {@code #} is a record:
+ * <pre>
+ * RULE,terminal-code,zone-id,inbound-cut-time,weekend-delivery,holidays
+ * </pre>
+ * where {@code holidays} names a built-in {@link Holidays} set.
+ *
+ * Identical rules are interned to one compiled policy, kept across
+ * reloads so unchanged rules keep their compiled tables. Each reload
+ * then drops the policies that neither the new rule set nor any
+ * terminal fallback uses, so rules edited over the uptime do not
+ * accumulate. A reload
+ * parses the whole file before publishing the new rule set with a
+ * single reference swap; a malformed file leaves the current set in
+ * place. Lookups never block and always see one complete rule set.
+ *
+ * Terminals hold the handle returned by
+ * {@link #policyFor(String, DeliveryRule)}, which resolves the current
+ * rule on every call, so reloads take effect without rebuilding them.
+ * Passes over many shipments resolve handles once against a
+ * {@link #snapshot()} instead, so the whole pass applies one rule set
+ * and reads the current one only once.
+ */
+public class DeliveryPolicyRegistry {
+
+    private final Map<DeliveryRule, DeliveryPolicy> interned = new ConcurrentHashMap<>();
+    private final Set<DeliveryRule> fallbackRules = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<Map<String, DeliveryPolicy>> policies =
+            new AtomicReference<>(Map.of());
+
+    private final LongAdder reloads = new LongAdder();
+
+    /**
+     * Returns the shared policy implementing the rule. A policy that
+     * is neither a terminal fallback nor in the current rule set is
+     * only shared until the next reload.
+     */
+    public DeliveryPolicy intern(DeliveryRule rule) {
+        return interned.computeIfAbsent(rule, DeliveryRule::toPolicy);
+    }
+
+    /**
+     * Returns a policy that applies the terminal's current rule, or the
+     * given fallback while the rule set has none for it.
+     */
+    public DeliveryPolicy policyFor(String terminalCode, DeliveryRule fallback) {
+        // Recorded before interning, so a concurrent reload keeps it
+        fallbackRules.add(fallback);
+        return new TerminalPolicy(terminalCode, intern(fallback));
+    }
+
+    /**
+     * Returns the current policy of a terminal, if the rule set has one.
+     */
+    public Optional<DeliveryPolicy> findPolicy(String terminalCode) {
+        return Optional.ofNullable(policies.get().get(terminalCode));
+    }
+
+    /**
+     * Returns the current rule set, keyed by terminal code.
+     */
+    public Map<String, DeliveryPolicy> getPolicies() {
+        return policies.get();
+    }
+
+    /**
+     * Captures the current rule set for a calculation pass.
+     */
+    public DeliveryPolicySnapshot snapshot() {
+        return new DeliveryPolicySnapshot(this, policies.get());
+    }
+
+    /**
+     * Parses a complete rule file and replaces the current rule set
+     * with it.
+     *
+     * @throws IllegalArgumentException on a malformed record, with its
+     *                                  line number; nothing is replaced
+     */
+    public void reload(Reader source) throws IOException {
+        Map<String, DeliveryPolicy> next = new HashMap<>();
+        Set<DeliveryRule> rules = new HashSet<>();
+        BufferedReader reader = new BufferedReader(source);
+
+        String line;
+        int lineNumber = 0;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] fields = line.split(",", -1);
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].strip();
+            }
+
+            try {
+                if (!fields[0].equals("RULE")) {
+                    throw new IllegalArgumentException("Unknown record type " + fields[0]);
+                }
+                if (fields.length != 6) {
+                    throw new IllegalArgumentException("Expected 6 fields but found " + fields.length);
+                }
+                if (next.containsKey(fields[1])) {
+                    throw new IllegalArgumentException("Duplicate rule for " + fields[1]);
+                }
+
+                DeliveryRule rule = new DeliveryRule(
+                        ZoneId.of(fields[2]),
+                        LocalTime.parse(fields[3]),
+                        parseFlag(fields[4]),
+                        Holidays.named(fields[5])
+                );
+                rules.add(rule);
+                next.put(fields[1], intern(rule));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(
+                        "Invalid delivery rule on line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        policies.set(Collections.unmodifiableMap(next));
+        reloads.increment();
+
+        interned.keySet().removeIf(rule -> !rules.contains(rule) && !fallbackRules.contains(rule));
+    }
+
+    /**
+     * Returns the number of rule sets published so far.
+     */
+    public long getReloadCount() {
+        return reloads.sum();
+    }
+
+    /**
+     * Returns the number of distinct compiled policies.
+     */
+    public int internedCount() {
+        return interned.size();
+    }
+
+    private static boolean parseFlag(String value) {
+        return switch (value) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException("Expected true or false but found " + value);
+        };
+    }
+
+    /**
+     * Policy handle of one terminal, resolved on every calculation
+     * unless resolved once through a {@link DeliveryPolicySnapshot}.
+     */
+    final class TerminalPolicy implements DeliveryPolicy {
+
+        private final String terminalCode;
+        private final DeliveryPolicy fallback;
+
+        private TerminalPolicy(String terminalCode, DeliveryPolicy fallback) {
+            this.terminalCode = terminalCode;
+            this.fallback = fallback;
+        }
+
+        /**
+         * Returns the policy this handle applies under the snapshot, or
+         * under the current rule set if the snapshot is of another
+         * registry.
+         */
+        DeliveryPolicy resolveIn(DeliveryPolicySnapshot snapshot) {
+            return resolveIn(snapshot.isOf(DeliveryPolicyRegistry.this)
+                    ? snapshot.getPolicies()
+                    : policies.get());
+        }
+
+        @Override
+        public Instant calculateDeliveryDate(Instant terminalArrivalTime) {
+            return resolveIn(policies.get()).calculateDeliveryDate(terminalArrivalTime);
+        }
+
+        @Override
+        public void calculateDeliveryDates(
+                long[] arrivalMillis,
+                int[] positions,
+                int from,
+                int to,
+                long[] deliveryMillis
+        ) {
+            // One rule set for the whole batch
+            resolveIn(policies.get())
+                    .calculateDeliveryDates(arrivalMillis, positions, from, to, deliveryMillis);
+        }
+
+        private DeliveryPolicy resolveIn(Map<String, DeliveryPolicy> ruleSet) {
+            DeliveryPolicy current = ruleSet.get(terminalCode);
+            return current != null ? current : fallback;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package transitflow.delivery;
+
+import java.util.Map;
+
+/**
+ * One rule set of a {@link DeliveryPolicyRegistry}, captured for a
+ * calculation pass.
+ *
+ * Terminal policy handles resolved through it apply the captured rule
+ * set however often the registry is reloaded meanwhile, and do not
+ * read the registry again for every calculation.
+ */
+public final class DeliveryPolicySnapshot {
+
+    private final DeliveryPolicyRegistry registry;
+    private final Map<String, DeliveryPolicy> policies;
+
+    DeliveryPolicySnapshot(DeliveryPolicyRegistry registry, Map<String, DeliveryPolicy> policies) {
+        this.registry = registry;
+        this.policies = policies;
+    }
+
+    /**
+     * Returns the policy the given one applies under this rule set.
+     * A terminal handle resolves to its terminal's rule, or to its
+     * fallback; any other policy resolves to itself. Handles of
+     * another registry resolve against its current rule set.
+     */
+    public DeliveryPolicy resolve(DeliveryPolicy policy) {
+        return policy instanceof DeliveryPolicyRegistry.TerminalPolicy handle
+                ? handle.resolveIn(this)
+                : policy;
+    }
+
+    /**
+     * Returns the captured rule set, keyed by terminal code.
+     */
+    public Map<String, DeliveryPolicy> getPolicies() {
+        return policies;
+    }
+
+    boolean isOf(DeliveryPolicyRegistry registry) {
+        return this.registry == registry;
+    }
+}
@@ -0,0 +1,86 @@
+package transitflow.delivery;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Delivery rule of a terminal: its zone, inbound cut time, whether it
+ * delivers on weekends and which holidays it observes.
+ *
+ * Rules are values, so terminals with identical rules can share one
+ * compiled {@link DeliveryPolicy}. Holiday sets compare by identity;
+ * the built-in sets from {@link Holidays#named(String)} are shared.
+ */
+public final class DeliveryRule {
+
+    private final ZoneId zoneId;
+    private final LocalTime inboundCutTime;
+    private final boolean weekendDelivery;
+    private final Holidays holidays;
+
+    public DeliveryRule(ZoneId zoneId, LocalTime inboundCutTime, boolean weekendDelivery, Holidays holidays) {
+        this.zoneId = Objects.requireNonNull(zoneId);
+        this.inboundCutTime = Objects.requireNonNull(inboundCutTime);
+        this.weekendDelivery = weekendDelivery;
+        this.holidays = Objects.requireNonNull(holidays);
+    }
+
+    /**
+     * Returns a weekday-only rule without holidays.
+     */
+    public static DeliveryRule standard(ZoneId zoneId, LocalTime inboundCutTime) {
+        return new DeliveryRule(zoneId, inboundCutTime, false, Holidays.none());
+    }
+
+    /**
+     * Builds a new policy implementing this rule.
+     */
+    public DeliveryPolicy toPolicy() {
+        return weekendDelivery
+                ? new WeekendDeliveryPolicy(zoneId, inboundCutTime, holidays)
+                : new StandardDeliveryPolicy(zoneId, inboundCutTime, holidays);
+    }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    public LocalTime getInboundCutTime() {
+        return inboundCutTime;
+    }
+
+    public boolean isWeekendDelivery() {
+        return weekendDelivery;
+    }
+
+    public Holidays getHolidays() {
+        return holidays;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof DeliveryRule rule)) {
+            return false;
+        }
+        return weekendDelivery == rule.weekendDelivery
+                && zoneId.equals(rule.zoneId)
+                && inboundCutTime.equals(rule.inboundCutTime)
+                && holidays == rule.holidays;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(zoneId, inboundCutTime, weekendDelivery, System.identityHashCode(holidays));
+    }
+
+    @Override
+    public String toString() {
+        return zoneId + " " + inboundCutTime
+                + (weekendDelivery ? " weekends" : " weekdays")
+                + " " + holidays.getRegion();
+    }
+}
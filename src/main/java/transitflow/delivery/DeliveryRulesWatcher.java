@@ -0,0 +1,86 @@
+package transitflow.delivery;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reloads a {@link DeliveryPolicyRegistry} from its rule file whenever
+ * the file's modification time changes.
+ *
+ * Meant to be run periodically on a background thread. A file that
+ * cannot be read or parsed is counted as a failure and the current
+ * rule set stays in effect until the file changes again.
+ */
+public class DeliveryRulesWatcher implements Runnable {
+
+    private final DeliveryPolicyRegistry registry;
+    private final Resource rulesFile;
+
+    private volatile long lastModified;
+
+    private final LongAdder failures = new LongAdder();
+
+    public DeliveryRulesWatcher(DeliveryPolicyRegistry registry, Resource rulesFile) {
+        this.registry = registry;
+        this.rulesFile = rulesFile;
+    }
+
+    /**
+     * Loads the rule file unconditionally.
+     *
+     * @throws UncheckedIOException     if the file cannot be read
+     * @throws IllegalArgumentException if the file is malformed
+     */
+    public void load() {
+        long modified = modifiedTime();
+
+        try (Reader reader = new InputStreamReader(rulesFile.getInputStream(), StandardCharsets.UTF_8)) {
+            registry.reload(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load delivery rules from " + rulesFile, e);
+        }
+
+        lastModified = modified;
+    }
+
+    /**
+     * Reloads the rule file if it changed since the last attempt.
+     */
+    @Override
+    public void run() {
+        long modified = modifiedTime();
+        if (modified == lastModified) {
+            return;
+        }
+
+        try {
+            load();
+        } catch (RuntimeException e) {
+            // Do not retry the same broken file on every poll
+            lastModified = modified;
+            failures.increment();
+        }
+    }
+
+    /**
+     * Returns the number of reloads that failed.
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    private long modifiedTime() {
+        try {
+            return rulesFile.lastModified();
+        } catch (IOException e) {
+            // Unknown modification time: reload only on startup
+            return lastModified;
+        }
+    }
+}
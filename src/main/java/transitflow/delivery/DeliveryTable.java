@@ -0,0 +1,326 @@
+package transitflow.delivery;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Delivery rule compiled into lookup tables, so that mapping a
+ * terminal arrival to a delivery time needs no date-time objects.
+ *
+ * A weekly table indexed by local arrival minute-of-week holds the
+ * number of days until delivery at the inbound cut time, or marks a
+ * delivery at the arrival time itself. Each year is compiled once
+ * into per-day holiday overrides of that weekly pattern and into the
+ * zone offset in effect on every UTC and local day, taken from the
+ * zone's {@link ZoneRules}. Days containing an offset transition, and
+ * years outside 1900 through 2299, are handed to the policy's direct
+ * calculation, so results always match it exactly.
+ */
+final class DeliveryTable {
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int MINUTES_PER_DAY = 1_440;
+    private static final int DAYS_PER_WEEK = 7;
+
+    private static final int FIRST_CACHED_YEAR = 1900;
+    private static final int CACHED_YEARS = 400;
+
+    // Weekly table entries other than a day count
+    private static final byte SAME_TIME = 0;
+    private static final byte AT_CUT = -1;
+
+    // Offset of a day that contains a transition
+    private static final int IN_TRANSITION = Integer.MIN_VALUE;
+
+    // Override of a day only the direct calculation can resolve
+    private static final short UNRESOLVED = -1;
+
+    // Lookup results other than a delivery epoch second
+    private static final long AT_ARRIVAL = Long.MIN_VALUE;
+    private static final long UNCOMPILED = Long.MIN_VALUE + 1;
+
+    private static final class CompiledYear {
+
+        private final int[] utcOffsets;
+        private final int[] localOffsets;
+        // (days to next open day << 1) | open, 0 where the weekly pattern holds
+        private final short[] overrides;
+
+        private CompiledYear(int[] utcOffsets, int[] localOffsets, short[] overrides) {
+            this.utcOffsets = utcOffsets;
+            this.localOffsets = localOffsets;
+            this.overrides = overrides;
+        }
+    }
+
+    private final BusinessCalendar calendar;
+    private final ZoneRules rules;
+    private final boolean allowWeekends;
+    private final DeliveryPolicy direct;
+
+    private final long cutNanoOfDay;
+    private final int cutSecondOfDay;
+    private final int cutNano;
+
+    // Indexed by day of week, Monday first
+    private final boolean[] open = new boolean[DAYS_PER_WEEK];
+    private final byte[] nextOpen = new byte[DAYS_PER_WEEK];
+
+    private final byte[] weekly = new byte[DAYS_PER_WEEK * MINUTES_PER_DAY];
+
+    private final AtomicReferenceArray<CompiledYear> compiledYears =
+            new AtomicReferenceArray<>(CACHED_YEARS);
+
+    /**
+     * @param calendar      business days and zone of the terminal
+     * @param inboundCutTime local time deliveries are made at
+     * @param allowWeekends whether weekends count as business days
+     * @param direct        the uncompiled calculation, used where the
+     *                      tables cannot answer
+     */
+    DeliveryTable(
+            BusinessCalendar calendar,
+            LocalTime inboundCutTime,
+            boolean allowWeekends,
+            DeliveryPolicy direct
+    ) {
+        this.calendar = calendar;
+        this.rules = calendar.getZoneId().getRules();
+        this.allowWeekends = allowWeekends;
+        this.direct = direct;
+
+        this.cutNanoOfDay = inboundCutTime.toNanoOfDay();
+        this.cutSecondOfDay = inboundCutTime.toSecondOfDay();
+        this.cutNano = inboundCutTime.getNano();
+
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            open[day] = allowWeekends || day < 5;
+        }
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            byte ahead = 1;
+            while (!open[(day + ahead) % DAYS_PER_WEEK]) {
+                ahead++;
+            }
+            nextOpen[day] = ahead;
+        }
+
+        int cutMinute = cutSecondOfDay / 60;
+        boolean cutWithinMinute = cutNanoOfDay % 60_000_000_000L != 0;
+
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+                byte entry;
+                if (minute < cutMinute) {
+                    entry = open[day] ? SAME_TIME : nextOpen[day];
+                } else if (minute == cutMinute && cutWithinMinute) {
+                    entry = AT_CUT;
+                } else {
+                    entry = nextOpen[day];
+                }
+                weekly[day * MINUTES_PER_DAY + minute] = entry;
+            }
+        }
+    }
+
+    /**
+     * Returns the delivery time for a terminal arrival, identical to
+     * the direct calculation.
+     */
+    Instant deliveryFor(Instant arrival) {
+        long delivery = deliveryEpochSecond(arrival.getEpochSecond(), arrival.getNano());
+
+        if (delivery == AT_ARRIVAL) {
+            return arrival;
+        }
+        if (delivery == UNCOMPILED) {
+            return direct.calculateDeliveryDate(arrival);
+        }
+        return Instant.ofEpochSecond(delivery, cutNano);
+    }
+
+    /**
+     * Returns the delivery time for an arrival in epoch milliseconds,
+     * equal to the direct calculation truncated to milliseconds.
+     * Allocates only on days next to an offset transition or where the
+     * direct calculation is needed.
+     */
+    long deliveryMillisFor(long arrivalMillis) {
+        long delivery = deliveryEpochSecond(
+                Math.floorDiv(arrivalMillis, 1_000L),
+                (int) Math.floorMod(arrivalMillis, 1_000L) * 1_000_000);
+
+        if (delivery == AT_ARRIVAL) {
+            return arrivalMillis;
+        }
+        if (delivery == UNCOMPILED) {
+            return direct.calculateDeliveryDate(Instant.ofEpochMilli(arrivalMillis)).toEpochMilli();
+        }
+        return delivery * 1_000L + cutNano / 1_000_000;
+    }
+
+    /**
+     * Returns the epoch second of delivery at the cut time, or
+     * {@code AT_ARRIVAL} or {@code UNCOMPILED}.
+     */
+    private long deliveryEpochSecond(long epochSecond, int nano) {
+        int offset = offsetOf(Math.floorDiv(epochSecond, SECONDS_PER_DAY), true);
+        if (offset == IN_TRANSITION) {
+            offset = rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+
+        long localSecond = epochSecond + offset;
+        long localDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        int secondOfDay = Math.floorMod(localSecond, SECONDS_PER_DAY);
+
+        int year = BusinessCalendar.yearOf(localDay);
+        CompiledYear compiled = compiled(year);
+        if (compiled == null) {
+            return UNCOMPILED;
+        }
+
+        int dayOfWeek = Math.floorMod(localDay + 3, DAYS_PER_WEEK);
+        short override = compiled.overrides != null
+                ? compiled.overrides[(int) (localDay - BusinessCalendar.yearStart(year))]
+                : 0;
+        int days;
+
+        if (override == UNRESOLVED) {
+            return UNCOMPILED;
+        } else if (override != 0) {
+            boolean openToday = (override & 1) != 0;
+            days = openToday && isBeforeCut(secondOfDay, nano) ? SAME_TIME : override >>> 1;
+        } else {
+            days = weekly[dayOfWeek * MINUTES_PER_DAY + secondOfDay / 60];
+            if (days == AT_CUT) {
+                days = open[dayOfWeek] && isBeforeCut(secondOfDay, nano)
+                        ? SAME_TIME
+                        : nextOpen[dayOfWeek];
+            }
+        }
+
+        if (days == SAME_TIME) {
+            return AT_ARRIVAL;
+        }
+
+        long deliveryDay = localDay + days;
+        int deliveryOffset = offsetOf(deliveryDay, false);
+        if (deliveryOffset == IN_TRANSITION) {
+            // Gap or overlap possible: resolution depends on the arrival offset
+            return UNCOMPILED;
+        }
+
+        return deliveryDay * SECONDS_PER_DAY + cutSecondOfDay - deliveryOffset;
+    }
+
+    private boolean isBeforeCut(int secondOfDay, int nano) {
+        return secondOfDay * 1_000_000_000L + nano < cutNanoOfDay;
+    }
+
+    /**
+     * Returns the offset in effect for the whole of a UTC or local
+     * day, or {@code IN_TRANSITION} if it is not constant or unknown.
+     */
+    private int offsetOf(long epochDay, boolean utc) {
+        int year = BusinessCalendar.yearOf(epochDay);
+        CompiledYear compiled = compiled(year);
+        if (compiled == null) {
+            return IN_TRANSITION;
+        }
+
+        int day = (int) (epochDay - BusinessCalendar.yearStart(year));
+        return utc ? compiled.utcOffsets[day] : compiled.localOffsets[day];
+    }
+
+    private CompiledYear compiled(int year) {
+        int index = year - FIRST_CACHED_YEAR;
+
+        if (index < 0 || index >= CACHED_YEARS) {
+            return null;
+        }
+
+        CompiledYear compiled = compiledYears.get(index);
+        if (compiled == null) {
+            // Concurrent compiles produce equal tables, either may win
+            compiled = compile(year);
+            compiledYears.set(index, compiled);
+        }
+        return compiled;
+    }
+
+    private CompiledYear compile(int year) {
+        long start = BusinessCalendar.yearStart(year);
+        int length = (int) (BusinessCalendar.yearStart(year + 1) - start);
+
+        int[] utcOffsets = new int[length];
+        int[] localOffsets = new int[length];
+
+        for (int day = 0; day < length; day++) {
+            long epochDay = start + day;
+            utcOffsets[day] = rules.getOffset(
+                    Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY)).getTotalSeconds();
+            localOffsets[day] = rules.getOffset(
+                    LocalDate.ofEpochDay(epochDay).atStartOfDay()).getTotalSeconds();
+        }
+
+        // Mark every day a transition touches, on either side of it
+        long end = (start + length + 2) * SECONDS_PER_DAY;
+        ZoneOffsetTransition transition =
+                rules.nextTransition(Instant.ofEpochSecond((start - 2) * SECONDS_PER_DAY));
+
+        while (transition != null && transition.toEpochSecond() < end) {
+            markInTransition(utcOffsets, Math.floorDiv(transition.toEpochSecond(), SECONDS_PER_DAY) - start);
+
+            long before = transition.getDateTimeBefore().toLocalDate().toEpochDay();
+            long after = transition.getDateTimeAfter().toLocalDate().toEpochDay();
+            for (long day = Math.min(before, after); day <= Math.max(before, after); day++) {
+                markInTransition(localOffsets, day - start);
+            }
+
+            transition = rules.nextTransition(transition.getInstant());
+        }
+
+        return new CompiledYear(utcOffsets, localOffsets, compileOverrides(start, length));
+    }
+
+    private short[] compileOverrides(long start, int length) {
+        short[] overrides = null;
+
+        for (int day = 0; day < length; day++) {
+            long epochDay = start + day;
+            int dayOfWeek = Math.floorMod(epochDay + 3, DAYS_PER_WEEK);
+            short override;
+
+            try {
+                boolean openToday = calendar.isBusinessDay(epochDay, allowWeekends);
+                long ahead = calendar.nextBusinessDay(epochDay, allowWeekends) - epochDay;
+
+                if (openToday == open[dayOfWeek] && ahead == nextOpen[dayOfWeek]) {
+                    continue;
+                }
+                override = ahead > Short.MAX_VALUE >> 1
+                        ? UNRESOLVED
+                        : (short) ((ahead << 1) | (openToday ? 1 : 0));
+            } catch (IllegalStateException e) {
+                // Let the direct calculation report it
+                override = UNRESOLVED;
+            }
+
+            if (overrides == null) {
+                overrides = new short[length];
+            }
+            overrides[day] = override;
+        }
+
+        return overrides;
+    }
+
+    private static void markInTransition(int[] offsets, long day) {
+        if (day >= 0 && day < offsets.length) {
+            offsets[(int) day] = IN_TRANSITION;
+        }
+    }
+}
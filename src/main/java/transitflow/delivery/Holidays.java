@@ -0,0 +1,120 @@
+package transitflow.delivery;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
+/**
+ * Holiday set of one region, resolved one year at a time.
+ *
+ * A set is either a fixed list of dates or a rule that derives each
+ * year's holidays, such as the US federal calendar. Business calendars
+ * compile the holidays of a year into their bitsets once, so rules are
+ * evaluated at most once per year and calendar.
+ */
+public final class Holidays {
+
+    private static final Holidays NONE = new Holidays("NONE", year -> List.of());
+    private static final Holidays US_FEDERAL = new Holidays("US", Holidays::usFederalIn);
+
+    private final String region;
+    private final IntFunction<List<LocalDate>> rule;
+
+    private Holidays(String region, IntFunction<List<LocalDate>> rule) {
+        this.region = region;
+        this.rule = rule;
+    }
+
+    /**
+     * Returns a set without any holidays.
+     */
+    public static Holidays none() {
+        return NONE;
+    }
+
+    /**
+     * Returns a set of explicitly listed dates.
+     */
+    public static Holidays of(String region, Collection<LocalDate> dates) {
+        Set<LocalDate> sorted = new TreeSet<>(dates);
+
+        return new Holidays(region, year -> {
+            List<LocalDate> inYear = new ArrayList<>();
+            for (LocalDate date : sorted) {
+                if (date.getYear() == year) {
+                    inYear.add(date);
+                }
+            }
+            return inYear;
+        });
+    }
+
+    /**
+     * Returns the US federal holidays. Holidays falling on a weekend
+     * are observed on the nearest weekday.
+     */
+    public static Holidays usFederal() {
+        return US_FEDERAL;
+    }
+
+    /**
+     * Returns the built-in set with the given region name, either
+     * {@code NONE} or {@code US}.
+     *
+     * @throws IllegalArgumentException for any other name
+     */
+    public static Holidays named(String region) {
+        return switch (region) {
+            case "NONE" -> NONE;
+            case "US" -> US_FEDERAL;
+            default -> throw new IllegalArgumentException("Unknown holiday set " + region);
+        };
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * Returns the holidays of the given year. Dates outside that year,
+     * such as a New Year's Day observed on December 31, are included.
+     */
+    public List<LocalDate> in(int year) {
+        return rule.apply(year);
+    }
+
+    private static List<LocalDate> usFederalIn(int year) {
+        return List.of(
+                observed(LocalDate.of(year, Month.JANUARY, 1)),
+                nthWeekday(year, Month.JANUARY, DayOfWeek.MONDAY, 3),
+                nthWeekday(year, Month.FEBRUARY, DayOfWeek.MONDAY, 3),
+                LocalDate.of(year, Month.MAY, 1).with(TemporalAdjusters.lastInMonth(DayOfWeek.MONDAY)),
+                observed(LocalDate.of(year, Month.JUNE, 19)),
+                observed(LocalDate.of(year, Month.JULY, 4)),
+                nthWeekday(year, Month.SEPTEMBER, DayOfWeek.MONDAY, 1),
+                nthWeekday(year, Month.OCTOBER, DayOfWeek.MONDAY, 2),
+                observed(LocalDate.of(year, Month.NOVEMBER, 11)),
+                nthWeekday(year, Month.NOVEMBER, DayOfWeek.THURSDAY, 4),
+                observed(LocalDate.of(year, Month.DECEMBER, 25))
+        );
+    }
+
+    private static LocalDate nthWeekday(int year, Month month, DayOfWeek day, int n) {
+        return LocalDate.of(year, month, 1).with(TemporalAdjusters.dayOfWeekInMonth(n, day));
+    }
+
+    private static LocalDate observed(LocalDate date) {
+        return switch (date.getDayOfWeek()) {
+            case SATURDAY -> date.minusDays(1);
+            case SUNDAY -> date.plusDays(1);
+            default -> date;
+        };
+    }
+}
@@ -11,22 +11,54 @@ import java.time.ZonedDateTime;
  *
  * If a shipment arrives before the inbound cut time on a business day,
  * it is eligible for same-day delivery. Otherwise, delivery occurs on
- * the next business day at the cut time.
+ * the next business day at the cut time. Business days exclude the
+ * holidays of the terminal's region, if any are configured.
  *
  * This policy represents the default behavior for most freight terminals.
+ * Deliveries are looked up in a compiled {@link DeliveryTable}.
  */
 public class StandardDeliveryPolicy implements DeliveryPolicy {
 
     private final BusinessCalendar calendar;
     private final LocalTime inboundCutTime;
+    private final DeliveryTable table;
 
     public StandardDeliveryPolicy(ZoneId zoneId, LocalTime inboundCutTime) {
-        this.calendar = new BusinessCalendar(zoneId);
+        this(zoneId, inboundCutTime, Holidays.none());
+    }
+
+    /**
+     * Creates a policy that also skips the given region's holidays.
+     */
+    public StandardDeliveryPolicy(ZoneId zoneId, LocalTime inboundCutTime, Holidays holidays) {
+        this.calendar = new BusinessCalendar(zoneId, holidays);
         this.inboundCutTime = inboundCutTime;
+        this.table = new DeliveryTable(calendar, inboundCutTime, false, this::calculateDirectly);
     }
 
     @Override
     public Instant calculateDeliveryDate(Instant terminalArrivalTime) {
+        return table.deliveryFor(terminalArrivalTime);
+    }
+
+    @Override
+    public void calculateDeliveryDates(
+            long[] arrivalMillis,
+            int[] positions,
+            int from,
+            int to,
+            long[] deliveryMillis
+    ) {
+        for (int i = from; i < to; i++) {
+            int position = positions[i];
+            deliveryMillis[position] = table.deliveryMillisFor(arrivalMillis[position]);
+        }
+    }
+
+    /**
+     * Calculates the delivery date without the compiled table.
+     */
+    Instant calculateDirectly(Instant terminalArrivalTime) {
         ZonedDateTime arrival = calendar.toZonedDateTime(terminalArrivalTime);
 
         boolean arrivedBeforeCut =
@@ -10,29 +10,62 @@ import java.time.ZonedDateTime;
  *
  * If a shipment arrives before the inbound cut time, it is eligible
  * for same-day delivery regardless of the day of week. Otherwise,
- * delivery occurs on the following day.
+ * delivery occurs on the following day. Holidays of the terminal's
+ * region, if any are configured, are skipped.
  *
  * This policy is intended for terminals that operate seven days a week.
+ * Deliveries are looked up in a compiled {@link DeliveryTable}.
  */
 public class WeekendDeliveryPolicy implements DeliveryPolicy {
 
     private final BusinessCalendar calendar;
     private final LocalTime inboundCutTime;
+    private final DeliveryTable table;
 
     public WeekendDeliveryPolicy(ZoneId zoneId, LocalTime inboundCutTime) {
-        this.calendar = new BusinessCalendar(zoneId);
+        this(zoneId, inboundCutTime, Holidays.none());
+    }
+
+    /**
+     * Creates a policy that also skips the given region's holidays.
+     */
+    public WeekendDeliveryPolicy(ZoneId zoneId, LocalTime inboundCutTime, Holidays holidays) {
+        this.calendar = new BusinessCalendar(zoneId, holidays);
         this.inboundCutTime = inboundCutTime;
+        this.table = new DeliveryTable(calendar, inboundCutTime, true, this::calculateDirectly);
     }
 
     @Override
     public Instant calculateDeliveryDate(Instant terminalArrivalTime) {
+        return table.deliveryFor(terminalArrivalTime);
+    }
+
+    @Override
+    public void calculateDeliveryDates(
+            long[] arrivalMillis,
+            int[] positions,
+            int from,
+            int to,
+            long[] deliveryMillis
+    ) {
+        for (int i = from; i < to; i++) {
+            int position = positions[i];
+            deliveryMillis[position] = table.deliveryMillisFor(arrivalMillis[position]);
+        }
+    }
+
+    /**
+     * Calculates the delivery date without the compiled table.
+     */
+    Instant calculateDirectly(Instant terminalArrivalTime) {
         ZonedDateTime arrival = calendar.toZonedDateTime(terminalArrivalTime);
 
-        if (arrival.toLocalTime().isBefore(inboundCutTime)) {
+        if (arrival.toLocalTime().isBefore(inboundCutTime)
+                && calendar.isBusinessDay(arrival, true)) {
             return arrival.toInstant();
         }
 
-        return arrival.plusDays(1)
+        return calendar.nextBusinessDay(arrival, true)
                 .with(inboundCutTime)
                 .toInstant();
     }
@@ -0,0 +1,28 @@
+package transitflow.domain.network;
+
+import transitflow.domain.route.Segment;
+
+/**
+ * Travel time of a lane as a function of departure time.
+ *
+ * Implementations must be first-in-first-out: leaving later never
+ * arrives earlier. Fastest-path queries rely on this to stay exact.
+ */
+@FunctionalInterface
+public interface LaneTravelTime {
+
+    /**
+     * Lanes take their base transit time regardless of departure.
+     */
+    LaneTravelTime FREE_FLOW = (lane, baseNanos, departureEpochNanos) -> baseNanos;
+
+    /**
+     * Returns the time, in nanoseconds, to traverse the lane when
+     * departing at the given instant.
+     *
+     * @param lane                the lane's segment
+     * @param baseNanos           the lane's base transit time
+     * @param departureEpochNanos departure as nanoseconds since the epoch
+     */
+    long travelNanos(Segment lane, long baseNanos, long departureEpochNanos);
+}
@@ -0,0 +1,311 @@
+package transitflow.domain.network;
+
+import transitflow.domain.route.Segment;
+import transitflow.domain.route.Terminal;
+import transitflow.domain.route.TerminalRegistry;
+import transitflow.transport.TransportMode;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable transport network with terminals as nodes and
+ * mode-specific lanes as directed edges.
+ *
+ * Lanes are stored in compressed sparse row form: the outgoing lanes
+ * of node {@code n} occupy indexes {@code laneStart(n)} to
+ * {@code laneEnd(n)} of flat per-lane arrays. Nodes are the registry
+ * ids of {@link TerminalRegistry} terminals. Each lane is backed by
+ * one shared {@link Segment}, so routes built from paths carry stable
+ * segment ids.
+ *
+ * The graph is safe to query from any number of threads.
+ */
+public final class NetworkGraph {
+
+    private final TerminalRegistry terminals;
+    private final int nodeCount;
+    private final int[] laneOffsets;
+    private final int[] laneTargets;
+    private final long[] laneBaseNanos;
+    private final Segment[] laneSegments;
+
+    private NetworkGraph(
+            TerminalRegistry terminals,
+            int nodeCount,
+            int[] laneOffsets,
+            int[] laneTargets,
+            long[] laneBaseNanos,
+            Segment[] laneSegments
+    ) {
+        this.terminals = terminals;
+        this.nodeCount = nodeCount;
+        this.laneOffsets = laneOffsets;
+        this.laneTargets = laneTargets;
+        this.laneBaseNanos = laneBaseNanos;
+        this.laneSegments = laneSegments;
+    }
+
+    public static Builder builder(TerminalRegistry terminals) {
+        return new Builder(terminals);
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public int laneCount() {
+        return laneTargets.length;
+    }
+
+    /**
+     * Returns the index of the first outgoing lane of the node.
+     */
+    public int laneStart(int node) {
+        return node < nodeCount ? laneOffsets[node] : 0;
+    }
+
+    /**
+     * Returns one past the index of the last outgoing lane of the node.
+     */
+    public int laneEnd(int node) {
+        return node < nodeCount ? laneOffsets[node + 1] : 0;
+    }
+
+    public int laneTarget(int lane) {
+        return laneTargets[lane];
+    }
+
+    public Segment laneSegment(int lane) {
+        return laneSegments[lane];
+    }
+
+    public long laneBaseNanos(int lane) {
+        return laneBaseNanos[lane];
+    }
+
+    public Terminal terminal(int node) {
+        return terminals.get(node);
+    }
+
+    /**
+     * Returns the fastest path between two terminals when every lane
+     * takes its base transit time.
+     */
+    public Optional<NetworkPath> fastestPath(Terminal from, Terminal to, Instant departure) {
+        return fastestPath(from, to, departure, LaneTravelTime.FREE_FLOW);
+    }
+
+    /**
+     * Returns the earliest-arrival path between two terminals for
+     * time-dependent lane durations, or empty if the destination is
+     * unreachable. Runs Dijkstra over the lane arrays with a primitive
+     * heap; transfers between lanes take no time.
+     */
+    public Optional<NetworkPath> fastestPath(
+            Terminal from,
+            Terminal to,
+            Instant departure,
+            LaneTravelTime travelTime
+    ) {
+        int source = nodeOf(from);
+        int target = nodeOf(to);
+
+        if (source < 0 || target < 0) {
+            return Optional.empty();
+        }
+
+        long departureNanos = toEpochNanos(departure);
+        long[] arrival = new long[nodeCount];
+        int[] viaLane = new int[nodeCount];
+        Arrays.fill(arrival, Long.MAX_VALUE);
+        Arrays.fill(viaLane, -1);
+
+        arrival[source] = departureNanos;
+        MinHeap heap = new MinHeap();
+        heap.push(departureNanos, source);
+
+        while (!heap.isEmpty()) {
+            long at = heap.peekKey();
+            int node = heap.pop();
+
+            if (at > arrival[node]) {
+                continue; // Superseded entry
+            }
+            if (node == target) {
+                break;
+            }
+
+            for (int lane = laneOffsets[node]; lane < laneOffsets[node + 1]; lane++) {
+                long reached = at + travelTime.travelNanos(laneSegments[lane], laneBaseNanos[lane], at);
+                int next = laneTargets[lane];
+
+                if (reached < arrival[next]) {
+                    arrival[next] = reached;
+                    viaLane[next] = lane;
+                    heap.push(reached, next);
+                }
+            }
+        }
+
+        if (arrival[target] == Long.MAX_VALUE) {
+            return Optional.empty();
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        for (int node = target; node != source; ) {
+            int lane = viaLane[node];
+            segments.add(laneSegments[lane]);
+            node = laneSegments[lane].getOrigin().getRegistryId();
+        }
+        Collections.reverse(segments);
+
+        return Optional.of(new NetworkPath(segments, departure, toInstant(arrival[target])));
+    }
+
+    /**
+     * Returns the node of the terminal, resolving terminals from
+     * outside the registry by code, or -1 if it is not in the graph.
+     */
+    private int nodeOf(Terminal terminal) {
+        int id = terminal.getRegistryId();
+
+        if (id < 0 || id >= nodeCount || terminals.get(id) != terminal) {
+            id = terminals.findByCode(terminal.getCode())
+                    .map(Terminal::getRegistryId)
+                    .orElse(-1);
+        }
+        return id < nodeCount ? id : -1;
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        return Math.addExact(
+                Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L),
+                instant.getNano());
+    }
+
+    private static Instant toInstant(long nanos) {
+        return Instant.ofEpochSecond(
+                Math.floorDiv(nanos, 1_000_000_000L),
+                Math.floorMod(nanos, 1_000_000_000L));
+    }
+
+    /**
+     * Collects lanes and compresses them into row arrays.
+     */
+    public static final class Builder {
+
+        private final TerminalRegistry terminals;
+        private final List<Segment> lanes = new ArrayList<>();
+
+        private Builder(TerminalRegistry terminals) {
+            this.terminals = terminals;
+        }
+
+        /**
+         * Adds a directed lane. Terminals are interned into the
+         * registry first.
+         */
+        public Builder addLane(Terminal from, Terminal to, TransportMode mode) {
+            lanes.add(new Segment(terminals.intern(from), terminals.intern(to), mode));
+            return this;
+        }
+
+        public NetworkGraph build() {
+            int nodeCount = terminals.size();
+            int laneCount = lanes.size();
+
+            // Counting sort of lanes by origin node
+            int[] offsets = new int[nodeCount + 1];
+            for (Segment lane : lanes) {
+                offsets[lane.getOrigin().getRegistryId() + 1]++;
+            }
+            for (int n = 0; n < nodeCount; n++) {
+                offsets[n + 1] += offsets[n];
+            }
+
+            int[] cursor = Arrays.copyOf(offsets, nodeCount);
+            int[] targets = new int[laneCount];
+            long[] baseNanos = new long[laneCount];
+            Segment[] segments = new Segment[laneCount];
+
+            for (Segment lane : lanes) {
+                int slot = cursor[lane.getOrigin().getRegistryId()]++;
+                targets[slot] = lane.getDestination().getRegistryId();
+                baseNanos[slot] = lane.getBaseTransitTime().toNanos();
+                segments[slot] = lane;
+            }
+
+            return new NetworkGraph(terminals, nodeCount, offsets, targets, baseNanos, segments);
+        }
+    }
+
+    /**
+     * Binary min-heap of (arrival, node) pairs on primitive arrays.
+     */
+    private static final class MinHeap {
+
+        private long[] keys = new long[16];
+        private int[] nodes = new int[16];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long peekKey() {
+            return keys[0];
+        }
+
+        void push(long key, int node) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                keys[i] = keys[parent];
+                nodes[i] = nodes[parent];
+                i = parent;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            long key = keys[--size];
+            int node = nodes[size];
+
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                keys[i] = keys[child];
+                nodes[i] = nodes[child];
+                i = child;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+
+            return top;
+        }
+    }
+}
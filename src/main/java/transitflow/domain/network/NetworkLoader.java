@@ -0,0 +1,113 @@
+package transitflow.domain.network;
+
+import transitflow.delivery.DeliveryPolicyRegistry;
+import transitflow.delivery.DeliveryRule;
+import transitflow.domain.route.Terminal;
+import transitflow.domain.route.TerminalRegistry;
+import transitflow.transport.TransportModeFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * Reads a transport network from a flat, comma-separated file.
+ *
+ * Each non-blank line not starting with {@code #} is a record:
+ * <pre>
+ * TERMINAL,code,name,zone-id,inbound-cut-time
+ * LANE,from-code,to-code,mode
+ * </pre>
+ * Lanes are directed and may only reference terminals declared on
+ * earlier lines. Terminals get their policy from a
+ * {@link DeliveryPolicyRegistry}; the zone and cut time of the record
+ * form a weekday-only rule used while the registry has none for them.
+ */
+public final class NetworkLoader {
+
+    private NetworkLoader() {
+    }
+
+    /**
+     * Parses the network, interning its terminals into the registry,
+     * with delivery policies from an empty policy registry.
+     */
+    public static NetworkGraph load(Reader source, TerminalRegistry registry) throws IOException {
+        return load(source, registry, new DeliveryPolicyRegistry());
+    }
+
+    /**
+     * Parses the network, interning its terminals into the registry.
+     *
+     * @throws IllegalArgumentException on a malformed record, with
+     *                                  its line number
+     */
+    public static NetworkGraph load(
+            Reader source,
+            TerminalRegistry registry,
+            DeliveryPolicyRegistry policies
+    ) throws IOException {
+        NetworkGraph.Builder builder = NetworkGraph.builder(registry);
+        BufferedReader reader = new BufferedReader(source);
+
+        String line;
+        int lineNumber = 0;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] fields = line.split(",", -1);
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].strip();
+            }
+
+            try {
+                switch (fields[0]) {
+                    case "TERMINAL" -> {
+                        expectFields(fields, 5);
+                        registry.register(
+                                fields[1],
+                                fields[2],
+                                policies.policyFor(
+                                        fields[1],
+                                        DeliveryRule.standard(ZoneId.of(fields[3]), LocalTime.parse(fields[4])))
+                        );
+                    }
+                    case "LANE" -> {
+                        expectFields(fields, 4);
+                        builder.addLane(
+                                terminal(registry, fields[1]),
+                                terminal(registry, fields[2]),
+                                TransportModeFactory.create(fields[3])
+                        );
+                    }
+                    default -> throw new IllegalArgumentException("Unknown record type " + fields[0]);
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(
+                        "Invalid network record on line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static Terminal terminal(TerminalRegistry registry, String code) {
+        return registry.findByCode(code)
+                .orElseThrow(() -> new IllegalArgumentException("Undeclared terminal " + code));
+    }
+
+    private static void expectFields(String[] fields, int count) {
+        if (fields.length != count) {
+            throw new IllegalArgumentException(
+                    "Expected " + count + " fields but found " + fields.length);
+        }
+    }
+}
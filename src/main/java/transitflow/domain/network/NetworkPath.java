@@ -0,0 +1,53 @@
+package transitflow.domain.network;
+
+import transitflow.domain.route.Route;
+import transitflow.domain.route.Segment;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Result of a fastest-path query: the lanes taken and the times the
+ * path departs and arrives.
+ */
+public final class NetworkPath {
+
+    private final List<Segment> segments;
+    private final Instant departure;
+    private final Instant arrival;
+
+    NetworkPath(List<Segment> segments, Instant departure, Instant arrival) {
+        this.segments = List.copyOf(segments);
+        this.departure = departure;
+        this.arrival = arrival;
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    public Instant getDeparture() {
+        return departure;
+    }
+
+    public Instant getArrival() {
+        return arrival;
+    }
+
+    /**
+     * Builds a route over this path's lanes. The route shares the
+     * network's segments, so segment-scoped delays apply to it.
+     *
+     * @throws IllegalStateException if origin and destination coincide
+     */
+    public Route toRoute() {
+        if (segments.isEmpty()) {
+            throw new IllegalStateException("Path has no lanes");
+        }
+        return new Route(
+                segments.get(0).getOrigin(),
+                segments.get(segments.size() - 1).getDestination(),
+                segments
+        );
+    }
+}
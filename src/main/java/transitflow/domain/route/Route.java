@@ -1,5 +1,6 @@
 package transitflow.domain.route;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,6 +17,10 @@ public class Route {
     private final Terminal origin;
     private final Terminal destination;
     private final List<Segment> segments;
+    private final long[] segmentTransitNanos;
+
+    // cumulativeTransitNanos[i] is the transit time of segments before i
+    private final long[] cumulativeTransitNanos;
 
     public Route(Terminal origin, Terminal destination, List<Segment> segments) {
         if (segments == null || segments.isEmpty()) {
@@ -26,6 +31,17 @@ public class Route {
         this.origin = origin;
         this.destination = destination;
         this.segments = List.copyOf(segments); // immutable copy
+
+        // Cached so hot simulation paths never recompute transit times
+        this.segmentTransitNanos = new long[this.segments.size()];
+        for (int i = 0; i < segmentTransitNanos.length; i++) {
+            segmentTransitNanos[i] = this.segments.get(i).getBaseTransitTime().toNanos();
+        }
+
+        this.cumulativeTransitNanos = new long[segmentTransitNanos.length + 1];
+        for (int i = 0; i < segmentTransitNanos.length; i++) {
+            cumulativeTransitNanos[i + 1] = cumulativeTransitNanos[i] + segmentTransitNanos[i];
+        }
     }
 
     public UUID getId() {
@@ -45,6 +61,46 @@ public class Route {
     }
 
     public int segmentCount() {
-        return segments.size();
+        return segmentTransitNanos.length;
+    }
+
+    /**
+     * Returns the base transit time of the segment at the given
+     * index in nanoseconds, computed once at construction.
+     */
+    public long getSegmentTransitNanos(int index) {
+        return segmentTransitNanos[index];
+    }
+
+    /**
+     * Returns the base transit time of the whole route in nanoseconds.
+     */
+    public long getTotalTransitNanos() {
+        return cumulativeTransitNanos[segmentTransitNanos.length];
+    }
+
+    public Duration getTotalTransitTime() {
+        return Duration.ofNanos(getTotalTransitNanos());
+    }
+
+    /**
+     * Returns the base transit time, in nanoseconds, still required
+     * from the given position to the end of the route, ignoring any
+     * delays. Runs in constant time.
+     *
+     * @param segmentIndex        index of the current segment; the
+     *                            segment count once the route is done
+     * @param elapsedNanosInSegment time already spent in that segment
+     */
+    public long getRemainingTransitNanos(int segmentIndex, long elapsedNanosInSegment) {
+        if (segmentIndex >= segmentTransitNanos.length) {
+            return 0;
+        }
+
+        long remaining = getTotalTransitNanos()
+                - cumulativeTransitNanos[segmentIndex]
+                - elapsedNanosInSegment;
+
+        return Math.max(0, remaining);
     }
 }
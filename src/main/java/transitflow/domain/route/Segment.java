@@ -17,6 +17,7 @@ public class Segment {
     private final Terminal from;
     private final Terminal to;
     private final TransportMode transportMode;
+    private final int transportModeOrdinal;
 
     public Segment(Terminal from,
                    Terminal to,
@@ -26,6 +27,7 @@ public class Segment {
         this.from = from;
         this.to = to;
         this.transportMode = transportMode;
+        this.transportModeOrdinal = transportMode.getOrdinal();
     }
 
     public UUID getId() {
@@ -44,6 +46,14 @@ public class Segment {
         return transportMode;
     }
 
+    /**
+     * Returns the ordinal of this segment's transport mode, for
+     * matching mode-scoped delays without comparing mode objects.
+     */
+    public int getTransportModeOrdinal() {
+        return transportModeOrdinal;
+    }
+
     public Duration getBaseTransitTime() {
         return transportMode.calculateBaseTransitTime();
     }
@@ -2,6 +2,7 @@ package transitflow.domain.route;
 
 import transitflow.delivery.DeliveryPolicy;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -11,19 +12,40 @@ import java.util.UUID;
  * how customer delivery dates are calculated based on arrival times.
  *
  * Terminals act as both route endpoints and intermodal transfer points.
+ * Terminals interned by a {@link TerminalRegistry} also carry a dense
+ * registry id, so per-terminal state can be held in flat arrays.
  */
 public class Terminal {
 
+    /**
+     * Registry id of terminals created outside a registry.
+     */
+    public static final int UNREGISTERED = -1;
+
     private final UUID id;
     private final String code;
     private final String name;
     private final DeliveryPolicy deliveryPolicy;
+    private final TerminalRegistry registry;
+    private final int registryId;
 
     public Terminal(String code, String name, DeliveryPolicy deliveryPolicy) {
+        this(code, name, deliveryPolicy, null, UNREGISTERED);
+    }
+
+    Terminal(
+            String code,
+            String name,
+            DeliveryPolicy deliveryPolicy,
+            TerminalRegistry registry,
+            int registryId
+    ) {
         this.id = UUID.randomUUID();
         this.code = code;
         this.name = name;
         this.deliveryPolicy = deliveryPolicy;
+        this.registry = registry;
+        this.registryId = registryId;
     }
 
     public UUID getId() {
@@ -41,4 +63,27 @@ public class Terminal {
     public DeliveryPolicy getDeliveryPolicy() {
         return deliveryPolicy;
     }
+
+    /**
+     * Returns the dense id assigned by the registry that interned this
+     * terminal, or {@link #UNREGISTERED}.
+     */
+    public int getRegistryId() {
+        return registryId;
+    }
+
+    /**
+     * Returns the registry that interned this terminal, if any.
+     */
+    public Optional<TerminalRegistry> getRegistry() {
+        return Optional.ofNullable(registry);
+    }
+
+    /**
+     * Returns whether this terminal was interned by the given registry,
+     * so its registry id indexes that registry.
+     */
+    public boolean isRegisteredIn(TerminalRegistry registry) {
+        return this.registry == registry && registry != null;
+    }
 }
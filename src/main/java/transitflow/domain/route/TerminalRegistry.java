@@ -0,0 +1,85 @@
+package transitflow.domain.route;
+
+import transitflow.delivery.DeliveryPolicy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Interns terminals by code and assigns each a dense integer id.
+ *
+ * Every code maps to exactly one shared {@link Terminal} instance, so
+ * routes built from the registry share terminals, delivery policies
+ * and calendars. Ids run from zero without gaps in registration order,
+ * letting callers keep per-terminal state in arrays of {@link #size()}
+ * entries indexed by {@link Terminal#getRegistryId()}.
+ */
+public class TerminalRegistry {
+
+    private final Map<String, Terminal> byCode = new HashMap<>();
+    private Terminal[] byId = new Terminal[16];
+    private int size;
+
+    /**
+     * Returns the terminal registered for the code, registering a new
+     * one with the given name and policy if there is none.
+     */
+    public synchronized Terminal register(String code, String name, DeliveryPolicy deliveryPolicy) {
+        Terminal existing = byCode.get(code);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (size == byId.length) {
+            byId = Arrays.copyOf(byId, size * 2);
+        }
+
+        Terminal terminal = new Terminal(code, name, deliveryPolicy, this, size);
+        byId[size++] = terminal;
+        byCode.put(code, terminal);
+
+        return terminal;
+    }
+
+    /**
+     * Returns the registered terminal sharing the given terminal's
+     * code, registering an equivalent one if there is none.
+     */
+    public Terminal intern(Terminal terminal) {
+        return register(terminal.getCode(), terminal.getName(), terminal.getDeliveryPolicy());
+    }
+
+    public synchronized Optional<Terminal> findByCode(String code) {
+        return Optional.ofNullable(byCode.get(code));
+    }
+
+    /**
+     * Returns the terminal with the given registry id.
+     *
+     * @throws IndexOutOfBoundsException if no terminal has that id
+     */
+    public synchronized Terminal get(int registryId) {
+        if (registryId < 0 || registryId >= size) {
+            throw new IndexOutOfBoundsException(registryId);
+        }
+        return byId[registryId];
+    }
+
+    /**
+     * Returns every registered terminal, ordered by id.
+     */
+    public synchronized List<Terminal> getAll() {
+        return List.of(Arrays.copyOf(byId, size));
+    }
+
+    /**
+     * Returns the number of registered terminals, which is also one
+     * more than the highest id.
+     */
+    public synchronized int size() {
+        return size;
+    }
+}
@@ -21,7 +21,7 @@ public class Shipment {
     private final Route route;
 
     private int currentSegmentIndex;
-    private Duration elapsedInCurrentSegment = Duration.ZERO;
+    private long elapsedNanosInCurrentSegment;
     private ShipmentStatus status;
 
     public Shipment(String trackingNumber, Route route) {
@@ -40,10 +40,29 @@ public class Shipment {
         this.trackingNumber = original.trackingNumber;
         this.route = original.route; // safe: Route is immutable
         this.currentSegmentIndex = original.currentSegmentIndex;
-        this.elapsedInCurrentSegment = original.elapsedInCurrentSegment;
+        this.elapsedNanosInCurrentSegment = original.elapsedNanosInCurrentSegment;
         this.status = original.status;
     }
 
+    /**
+     * Creates a shipment with the identity and route of the given one
+     * at the given progress. Only the immutable fields of
+     * {@code identity} are read, so it may be live on another thread.
+     */
+    public Shipment(
+            Shipment identity,
+            int currentSegmentIndex,
+            long elapsedNanosInCurrentSegment,
+            ShipmentStatus status
+    ) {
+        this.id = identity.id;
+        this.trackingNumber = identity.trackingNumber;
+        this.route = identity.route;
+        this.currentSegmentIndex = currentSegmentIndex;
+        this.elapsedNanosInCurrentSegment = elapsedNanosInCurrentSegment;
+        this.status = status;
+    }
+
     /**
      * Creates a deep copy of this shipment for prediction use.
      */
@@ -52,26 +71,38 @@ public class Shipment {
     }
 
     public void advance(Duration tick) {
+        advance(tick.toNanos());
+    }
+
+    /**
+     * Advances the shipment by the given number of nanoseconds,
+     * carrying leftover time across segment boundaries.
+     *
+     * <p>This is the simulation hot path. It works purely on primitive
+     * nanoseconds and the route's cached segment transit times, and
+     * allocates nothing.</p>
+     */
+    public void advance(long tickNanos) {
         if (!hasMoreSegments()) {
             return;
         }
 
-        Duration remainingTick = tick;
+        long remainingTick = tickNanos;
 
-        while (hasMoreSegments() && remainingTick.compareTo(Duration.ZERO) > 0) {
-            Segment current = getCurrentSegment();
-            Duration remainingSegmentTime =
-                    current.getBaseTransitTime().minus(elapsedInCurrentSegment);
+        while (hasMoreSegments() && remainingTick > 0) {
+            long remainingSegmentTime =
+                    route.getSegmentTransitNanos(currentSegmentIndex)
+                            - elapsedNanosInCurrentSegment;
 
-            if (remainingTick.compareTo(remainingSegmentTime) >= 0) {
+            if (remainingTick >= remainingSegmentTime) {
                 // Finish segment
-                remainingTick = remainingTick.minus(remainingSegmentTime);
-                elapsedInCurrentSegment = Duration.ZERO;
+                remainingTick -= remainingSegmentTime;
+                elapsedNanosInCurrentSegment = 0;
                 currentSegmentIndex++;
             } else {
                 // Partial progress
-                elapsedInCurrentSegment = elapsedInCurrentSegment.plus(remainingTick);
-                remainingTick = Duration.ZERO;
+                elapsedNanosInCurrentSegment += remainingTick;
+                remainingTick = 0;
             }
         }
 
@@ -80,6 +111,16 @@ public class Shipment {
         }
     }
 
+    /**
+     * Marks the shipment as held up by a delay, or as moving again.
+     * Has no effect once it has completed its route.
+     */
+    public void setDelayed(boolean delayed) {
+        if (hasMoreSegments()) {
+            status = delayed ? ShipmentStatus.DELAYED : ShipmentStatus.IN_TRANSIT;
+        }
+    }
+
     public boolean hasMoreSegments() {
         return currentSegmentIndex < route.segmentCount();
     }
@@ -88,10 +129,56 @@ public class Shipment {
         return route.getSegments().get(currentSegmentIndex);
     }
 
+    /**
+     * Returns the transit time still required to complete the
+     * current segment, ignoring any delays.
+     */
+    public Duration getRemainingInCurrentSegment() {
+        return Duration.ofNanos(getRemainingNanosInCurrentSegment());
+    }
+
+    public long getRemainingNanosInCurrentSegment() {
+        return route.getSegmentTransitNanos(currentSegmentIndex)
+                - elapsedNanosInCurrentSegment;
+    }
+
+    /**
+     * Returns the transit time still required to complete the whole
+     * route, ignoring any delays.
+     */
+    public Duration getRemainingTransitTime() {
+        return Duration.ofNanos(getRemainingTransitNanos());
+    }
+
+    public long getRemainingTransitNanos() {
+        return route.getRemainingTransitNanos(currentSegmentIndex, elapsedNanosInCurrentSegment);
+    }
+
+    /**
+     * Returns when the shipment would reach its final terminal if it
+     * met no delays from the given instant on. This is a lower bound
+     * on any simulated arrival.
+     */
+    public Instant estimateDelayFreeArrival(Instant now) {
+        return now.plusNanos(getRemainingTransitNanos());
+    }
+
+    public Duration getElapsedInCurrentSegment() {
+        return Duration.ofNanos(elapsedNanosInCurrentSegment);
+    }
+
+    public long getElapsedNanosInCurrentSegment() {
+        return elapsedNanosInCurrentSegment;
+    }
+
     public int getCurrentSegmentIndex() {
         return currentSegmentIndex;
     }
 
+    public UUID getId() {
+        return id;
+    }
+
     public String getTrackingNumber() {
         return trackingNumber;
     }
@@ -100,6 +187,10 @@ public class Shipment {
         return status;
     }
 
+    public Route getRoute() {
+        return route;
+    }
+
     public Terminal getFinalDestination() {
         return route.getDestination();
     }
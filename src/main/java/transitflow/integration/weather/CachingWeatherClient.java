@@ -0,0 +1,328 @@
+package transitflow.integration.weather;
+
+import transitflow.domain.route.Terminal;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caching decorator for a {@link WeatherClient}.
+ *
+ * Forecasts are cached per terminal code and tagged with the forecast
+ * time bucket they were fetched in. An entry is fresh while it is
+ * younger than the TTL and still in the current bucket. Once it
+ * expires it may be served stale for a further grace window while a
+ * single background refresh per terminal runs on the refresh
+ * executor, so a slow provider only blocks on a cold or long-expired
+ * terminal. Batch lookups load all cold terminals in one provider
+ * call; terminals the provider leaves out of a batch answer are
+ * looked up singly. The cache holds at most a fixed number of
+ * terminals and evicts the least recently used one.
+ *
+ * Fallback forecasts the delegate reports through a
+ * {@link WeatherUnavailableException} are passed on to the caller but
+ * never cached: a failed refresh keeps the stale entry and the next
+ * lookup retries it.
+ */
+public class CachingWeatherClient implements WeatherClient {
+
+    private static final class Entry {
+
+        private final WeatherForecast forecast;
+        private final Instant fetchedAt;
+        private final long bucket;
+
+        private Entry(WeatherForecast forecast, Instant fetchedAt, long bucket) {
+            this.forecast = forecast;
+            this.fetchedAt = fetchedAt;
+            this.bucket = bucket;
+        }
+    }
+
+    private final WeatherClient delegate;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration staleWhileRevalidate;
+    private final Duration bucketSize;
+    private final Executor refreshExecutor;
+
+    private final Map<String, Entry> entries;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    /**
+     * @param ttl                  how long a fetched forecast is fresh
+     * @param staleWhileRevalidate how long after expiry a forecast may
+     *                             still be served while it is refreshed
+     * @param bucketSize           length of the forecast time buckets;
+     *                             entries never stay fresh across one
+     * @param maxEntries           maximum number of cached terminals
+     * @param refreshExecutor      runs background refreshes
+     */
+    public CachingWeatherClient(
+            WeatherClient delegate,
+            Clock clock,
+            Duration ttl,
+            Duration staleWhileRevalidate,
+            Duration bucketSize,
+            int maxEntries,
+            Executor refreshExecutor
+    ) {
+        if (ttl.isNegative() || ttl.isZero() || bucketSize.isNegative() || bucketSize.isZero()) {
+            throw new IllegalArgumentException("TTL and bucket size must be positive");
+        }
+        if (staleWhileRevalidate.isNegative()) {
+            throw new IllegalArgumentException("Stale window must not be negative");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache must hold at least one entry");
+        }
+
+        this.delegate = delegate;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.bucketSize = bucketSize;
+        this.refreshExecutor = refreshExecutor;
+
+        // Access-ordered so the eldest entry is the least recently used
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public WeatherForecast getForecast(Terminal terminal) {
+        return getForecasts(List.of(terminal)).get(terminal.getCode());
+    }
+
+    /**
+     * Serves every terminal it can from the cache and loads all cold
+     * or long-expired terminals with a single batched provider call.
+     * Stale terminals are refreshed together in one background call.
+     */
+    @Override
+    public Map<String, WeatherForecast> getForecasts(Collection<Terminal> terminals) {
+        Instant now = clock.instant();
+        Map<String, WeatherForecast> forecasts = new LinkedHashMap<>();
+        List<Terminal> stale = new ArrayList<>();
+        List<Terminal> missing = new ArrayList<>();
+
+        synchronized (entries) {
+            for (Terminal terminal : terminals) {
+                String code = terminal.getCode();
+                if (forecasts.containsKey(code)) {
+                    continue;
+                }
+
+                Entry entry = entries.get(code);
+
+                if (entry != null && isFresh(entry, now)) {
+                    hits.increment();
+                    forecasts.put(code, entry.forecast);
+                } else if (entry != null && isServableStale(entry, now)) {
+                    staleHits.increment();
+                    stale.add(terminal);
+                    forecasts.put(code, entry.forecast);
+                } else {
+                    // Keeps the caller's order; filled in by the load below
+                    misses.increment();
+                    missing.add(terminal);
+                    forecasts.put(code, null);
+                }
+            }
+        }
+
+        scheduleRefresh(stale);
+
+        if (!missing.isEmpty()) {
+            // Nothing usable cached: the caller has to wait for the provider
+            load(missing, now, forecasts);
+        }
+
+        return forecasts;
+    }
+
+    /**
+     * Returns the number of lookups answered with a fresh forecast.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups answered with an expired forecast
+     * while a background refresh was triggered.
+     */
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to call the provider
+     * synchronously.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of completed background refreshes.
+     */
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Returns the number of background refreshes that failed or got
+     * fallback forecasts; the stale forecast stays cached in that case.
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private boolean isFresh(Entry entry, Instant now) {
+        return entry.bucket == bucketOf(now)
+                && now.isBefore(entry.fetchedAt.plus(ttl));
+    }
+
+    private boolean isServableStale(Entry entry, Instant now) {
+        return now.isBefore(entry.fetchedAt.plus(ttl).plus(staleWhileRevalidate));
+    }
+
+    private void scheduleRefresh(List<Terminal> stale) {
+        List<Terminal> claimed = new ArrayList<>();
+
+        // At most one refresh in flight per terminal
+        for (Terminal terminal : stale) {
+            if (refreshing.add(terminal.getCode())) {
+                claimed.add(terminal);
+            }
+        }
+
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Map<String, WeatherForecast> forecasts = new LinkedHashMap<>();
+                    if (load(claimed, clock.instant(), forecasts)) {
+                        refreshes.increment();
+                    } else {
+                        refreshFailures.increment();
+                    }
+                } catch (RuntimeException e) {
+                    refreshFailures.increment();
+                } finally {
+                    release(claimed);
+                }
+            });
+        } catch (RuntimeException e) {
+            release(claimed);
+            refreshFailures.increment();
+        }
+    }
+
+    private void release(List<Terminal> terminals) {
+        for (Terminal terminal : terminals) {
+            refreshing.remove(terminal.getCode());
+        }
+    }
+
+    /**
+     * Loads forecasts from the delegate into the given map, caching
+     * only those it could supply fresh.
+     *
+     * @return whether every terminal was supplied fresh
+     */
+    private boolean load(List<Terminal> terminals, Instant requestedAt, Map<String, WeatherForecast> forecasts) {
+        Map<String, WeatherForecast> loaded;
+        Set<String> unavailable;
+
+        try {
+            loaded = delegate.getForecastsAsync(terminals).join();
+            unavailable = Set.of();
+        } catch (CompletionException e) {
+            if (!(e.getCause() instanceof WeatherUnavailableException fallback)) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            loaded = fallback.getFallbackForecasts();
+            unavailable = fallback.getUnavailableCodes();
+        }
+
+        loaded = completeBatch(terminals, loaded);
+        long bucket = bucketOf(requestedAt);
+
+        synchronized (entries) {
+            for (Map.Entry<String, WeatherForecast> forecast : loaded.entrySet()) {
+                if (!unavailable.contains(forecast.getKey())) {
+                    entries.put(forecast.getKey(), new Entry(forecast.getValue(), requestedAt, bucket));
+                }
+            }
+        }
+
+        forecasts.putAll(loaded);
+        return unavailable.isEmpty();
+    }
+
+    /**
+     * Fills in terminals the delegate left out of a batch answer with
+     * single-terminal lookups, so no caller ever gets a null forecast.
+     */
+    private Map<String, WeatherForecast> completeBatch(
+            List<Terminal> terminals,
+            Map<String, WeatherForecast> loaded
+    ) {
+        Map<String, WeatherForecast> complete = null;
+
+        for (Terminal terminal : terminals) {
+            String code = terminal.getCode();
+            if (loaded.get(code) != null) {
+                continue;
+            }
+
+            WeatherForecast forecast = delegate.getForecast(terminal);
+            if (forecast == null) {
+                throw new IllegalStateException("Weather provider returned no forecast for " + code);
+            }
+
+            if (complete == null) {
+                complete = new LinkedHashMap<>(loaded);
+            }
+            complete.put(code, forecast);
+        }
+
+        return complete != null ? complete : loaded;
+    }
+
+    private long bucketOf(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), bucketSize.toMillis());
+    }
+}
@@ -0,0 +1,45 @@
+package transitflow.integration.weather;
+
+import transitflow.domain.route.Terminal;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Immutable set of forecasts fetched once for a prediction cycle.
+ *
+ * The grid is itself a {@link WeatherClient}, so it can stand in for
+ * the live client while a prediction runs. It never calls the
+ * provider again and may be shared by any number of concurrent
+ * prediction workers. Terminals outside the fetched set are reported
+ * with {@link WeatherSeverity#LOW} severity.
+ */
+public final class ForecastGrid implements WeatherClient {
+
+    private static final WeatherForecast UNKNOWN = new WeatherForecast(WeatherSeverity.LOW);
+
+    private final Map<String, WeatherForecast> forecasts;
+
+    private ForecastGrid(Map<String, WeatherForecast> forecasts) {
+        this.forecasts = forecasts;
+    }
+
+    /**
+     * Fetches forecasts for all given terminals with one batched call.
+     */
+    public static ForecastGrid fetch(WeatherClient client, Collection<Terminal> terminals) {
+        return new ForecastGrid(Map.copyOf(client.getForecasts(terminals)));
+    }
+
+    @Override
+    public WeatherForecast getForecast(Terminal terminal) {
+        return forecasts.getOrDefault(terminal.getCode(), UNKNOWN);
+    }
+
+    /**
+     * Returns the number of terminals covered.
+     */
+    public int size() {
+        return forecasts.size();
+    }
+}
@@ -0,0 +1,267 @@
+package transitflow.integration.weather;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import transitflow.domain.route.Terminal;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link WeatherClient} backed by the external weather provider's
+ * HTTP API.
+ *
+ * A batch of terminals is resolved with a single request:
+ * {@code GET {baseUrl}/forecasts?terminals=CHI,DAL}, answered with a
+ * JSON object mapping each terminal code either to a severity name or
+ * to an hourly series such as
+ * {@code {"start": "2026-01-01T00:00:00Z", "hourly": ["LOW", "HIGH"]}}. The
+ * underlying {@link HttpClient} keeps connections alive across calls
+ * and every request carries its own timeout.
+ *
+ * Calls go through a {@link CircuitBreaker}. When a call fails, times
+ * out or is refused by the open circuit, each terminal falls back to
+ * the last forecast received for it, or to {@link WeatherSeverity#LOW}
+ * for a terminal never seen, so a provider outage never stalls the
+ * simulation. The asynchronous variant reports such answers as a
+ * {@link WeatherUnavailableException} carrying the fallback forecasts,
+ * so caches can tell them from fresh ones.
+ */
+public class HttpWeatherClient implements WeatherClient {
+
+    static final String API_KEY_HEADER = "X-Api-Key";
+
+    private static final WeatherForecast UNKNOWN = new WeatherForecast(WeatherSeverity.LOW);
+
+    private final HttpClient httpClient;
+    private final URI baseUrl;
+    private final String apiKey;
+    private final Duration requestTimeout;
+    private final CircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, WeatherForecast> lastKnown = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * @param connectTimeout time allowed to open a new connection
+     * @param requestTimeout time allowed for each request to complete
+     */
+    public HttpWeatherClient(
+            URI baseUrl,
+            String apiKey,
+            Duration connectTimeout,
+            Duration requestTimeout,
+            CircuitBreaker circuitBreaker
+    ) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        // Resolve request paths below the base, not beside it
+        this.baseUrl = baseUrl.getPath().endsWith("/")
+                ? baseUrl
+                : URI.create(baseUrl + "/");
+        this.apiKey = apiKey;
+        this.requestTimeout = requestTimeout;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public WeatherForecast getForecast(Terminal terminal) {
+        return getForecasts(List.of(terminal)).get(terminal.getCode());
+    }
+
+    /**
+     * Resolves the batch, answering with fallback forecasts for
+     * anything the provider could not supply.
+     */
+    @Override
+    public Map<String, WeatherForecast> getForecasts(Collection<Terminal> terminals) {
+        try {
+            return getForecastsAsync(terminals).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof WeatherUnavailableException unavailable) {
+                return unavailable.getFallbackForecasts();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Sends one request for the whole batch without blocking. The
+     * returned future completes exceptionally with a
+     * {@link WeatherUnavailableException}, carrying fallback forecasts,
+     * if the provider could not supply every terminal.
+     */
+    @Override
+    public CompletableFuture<Map<String, WeatherForecast>> getForecastsAsync(
+            Collection<Terminal> terminals
+    ) {
+        Set<String> codes = new LinkedHashSet<>();
+        for (Terminal terminal : terminals) {
+            codes.add(terminal.getCode());
+        }
+
+        if (codes.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        if (!circuitBreaker.allowRequest()) {
+            return CompletableFuture.failedFuture(unavailable(codes, Map.of(), null));
+        }
+
+        requests.increment();
+
+        CompletableFuture<HttpResponse<String>> response;
+        try {
+            response = httpClient.sendAsync(request(codes), HttpResponse.BodyHandlers.ofString());
+        } catch (RuntimeException e) {
+            // Failing before sending must still release a half-open trial
+            failures.increment();
+            circuitBreaker.recordFailure();
+            return CompletableFuture.failedFuture(unavailable(codes, Map.of(), e));
+        }
+
+        return response
+                .thenApply(this::parse)
+                .handle((received, error) -> {
+                    if (error != null) {
+                        failures.increment();
+                        circuitBreaker.recordFailure();
+                        throw unavailable(codes, Map.of(), error);
+                    }
+
+                    circuitBreaker.recordSuccess();
+                    lastKnown.putAll(received);
+
+                    if (!received.keySet().containsAll(codes)) {
+                        throw unavailable(codes, received, null);
+                    }
+                    return answer(codes, received);
+                });
+    }
+
+    /**
+     * Returns the number of requests sent to the provider.
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of requests that failed or timed out.
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the number of terminals answered without a fresh forecast
+     * from the provider.
+     */
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    private HttpRequest request(Set<String> codes) {
+        String query = URLEncoder.encode(String.join(",", codes), StandardCharsets.UTF_8);
+
+        return HttpRequest.newBuilder(baseUrl.resolve("forecasts?terminals=" + query))
+                .timeout(requestTimeout)
+                .header(API_KEY_HEADER, apiKey)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private Map<String, WeatherForecast> parse(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new CompletionException(new IOException(
+                    "Weather provider returned status " + response.statusCode()));
+        }
+
+        try {
+            Map<String, WeatherForecast> forecasts = new LinkedHashMap<>();
+            objectMapper.readTree(response.body()).fields().forEachRemaining(field ->
+                    forecasts.put(field.getKey(), toForecast(field.getValue())));
+            return forecasts;
+        } catch (IOException | IllegalArgumentException | DateTimeParseException e) {
+            throw new CompletionException(new IOException("Malformed weather provider response", e));
+        }
+    }
+
+    private WeatherForecast toForecast(JsonNode node) {
+        if (node.isTextual()) {
+            return new WeatherForecast(WeatherSeverity.valueOf(node.asText()));
+        }
+
+        List<WeatherSeverity> hourly = new ArrayList<>();
+        node.path("hourly").forEach(slot -> hourly.add(WeatherSeverity.valueOf(slot.asText())));
+
+        return WeatherForecast.hourly(Instant.parse(node.path("start").asText()), hourly);
+    }
+
+    /**
+     * Returns the received forecasts in the batch's order.
+     */
+    private static Map<String, WeatherForecast> answer(
+            Set<String> codes,
+            Map<String, WeatherForecast> received
+    ) {
+        Map<String, WeatherForecast> forecasts = new LinkedHashMap<>();
+        for (String code : codes) {
+            forecasts.put(code, received.get(code));
+        }
+        return forecasts;
+    }
+
+    private WeatherUnavailableException unavailable(
+            Set<String> codes,
+            Map<String, WeatherForecast> received,
+            Throwable cause
+    ) {
+        Map<String, WeatherForecast> forecasts = new LinkedHashMap<>();
+        Set<String> unavailable = new LinkedHashSet<>();
+
+        for (String code : codes) {
+            WeatherForecast forecast = received.get(code);
+
+            if (forecast != null) {
+                forecasts.put(code, forecast);
+            } else {
+                fallbacks.increment();
+                unavailable.add(code);
+                forecasts.put(code, lastKnown.getOrDefault(code, UNKNOWN));
+            }
+        }
+
+        Throwable reason = cause instanceof CompletionException && cause.getCause() != null
+                ? cause.getCause()
+                : cause;
+
+        return new WeatherUnavailableException(
+                "No forecast from weather provider for " + unavailable, forecasts, unavailable, reason);
+    }
+}
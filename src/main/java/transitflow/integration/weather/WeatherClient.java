@@ -2,8 +2,42 @@ package transitflow.integration.weather;
 
 import transitflow.domain.route.Terminal;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 public interface WeatherClient {
 
     WeatherForecast getForecast(Terminal terminal);
 
-}
\ No newline at end of file
+    /**
+     * Returns forecasts for all given terminals, keyed by terminal
+     * code. Remote implementations resolve the whole batch in a
+     * single round trip; the default asks for each terminal in turn.
+     */
+    default Map<String, WeatherForecast> getForecasts(Collection<Terminal> terminals) {
+        Map<String, WeatherForecast> forecasts = new LinkedHashMap<>();
+        for (Terminal terminal : terminals) {
+            forecasts.computeIfAbsent(terminal.getCode(), code -> getForecast(terminal));
+        }
+        return forecasts;
+    }
+
+    /**
+     * Asynchronous variant of {@link #getForecasts}. The default
+     * resolves the batch on the calling thread and returns a completed
+     * future; implementations backed by remote providers return
+     * without blocking.
+     */
+    default CompletableFuture<Map<String, WeatherForecast>> getForecastsAsync(
+            Collection<Terminal> terminals
+    ) {
+        try {
+            return CompletableFuture.completedFuture(getForecasts(terminals));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package transitflow.integration.weather;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Wires the caching layer in front of the weather provider, so every
+ * simulation and prediction component reads forecasts through it.
+ *
+ * The HTTP provider is used when {@code integration.weather.provider}
+ * is {@code http}; otherwise forecasts come from the stub client.
+ */
+@Configuration
+public class WeatherClientConfig {
+
+    private final ExecutorService refreshExecutor =
+            Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "weather-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @Bean
+    @ConditionalOnProperty(name = "integration.weather.provider", havingValue = "http")
+    HttpWeatherClient httpWeatherClient(
+            @Value("${integration.weather.base-url}") URI baseUrl,
+            @Value("${integration.weather.api-key}") String apiKey,
+            @Value("${integration.weather.http.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${integration.weather.http.request-timeout:PT5S}") Duration requestTimeout,
+            @Value("${integration.weather.http.failure-threshold:5}") int failureThreshold,
+            @Value("${integration.weather.http.open-duration:PT30S}") Duration openDuration
+    ) {
+        return new HttpWeatherClient(
+                baseUrl,
+                apiKey,
+                connectTimeout,
+                requestTimeout,
+                new CircuitBreaker(Clock.systemUTC(), failureThreshold, openDuration)
+        );
+    }
+
+    @Bean
+    @Primary
+    CachingWeatherClient cachingWeatherClient(
+            ObjectProvider<HttpWeatherClient> httpProvider,
+            StubWeatherClient stubProvider,
+            @Value("${integration.weather.cache.ttl:PT15M}") Duration ttl,
+            @Value("${integration.weather.cache.stale-while-revalidate:PT1H}") Duration staleWhileRevalidate,
+            @Value("${integration.weather.cache.bucket:PT1H}") Duration bucket,
+            @Value("${integration.weather.cache.max-entries:10000}") int maxEntries
+    ) {
+        WeatherClient provider = httpProvider.getIfAvailable();
+
+        return new CachingWeatherClient(
+                provider != null ? provider : stubProvider,
+                Clock.systemUTC(),
+                ttl,
+                staleWhileRevalidate,
+                bucket,
+                maxEntries,
+                refreshExecutor
+        );
+    }
+
+    /**
+     * Stops background forecast refreshes when the context closes, so
+     * none runs against a closed provider.
+     */
+    @PreDestroy
+    void stopRefreshing() {
+        refreshExecutor.shutdownNow();
+    }
+}
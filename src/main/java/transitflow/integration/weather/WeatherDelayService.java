@@ -1,6 +1,5 @@
 package transitflow.integration.weather;
 
-import java.time.Instant;
 import org.springframework.stereotype.Component;
 import transitflow.domain.delay.DelayEvent;
 import transitflow.domain.delay.DelayType;
@@ -8,6 +7,9 @@ import transitflow.domain.route.Terminal;
 import transitflow.simulation.SimulationState;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
 
 @Component
 public class WeatherDelayService {
@@ -22,9 +24,43 @@ public class WeatherDelayService {
             SimulationState state,
             Terminal terminal
     ) {
+        applyForecast(state, terminal, weatherClient.getForecast(terminal));
+    }
+
+    /**
+     * Applies weather delays for several terminals, resolving all of
+     * their forecasts with a single batched client call.
+     */
+    public void applyWeatherDelays(
+            SimulationState state,
+            Collection<Terminal> terminals
+    ) {
+        if (terminals.isEmpty()) {
+            return;
+        }
 
-        var forecast = weatherClient.getForecast(terminal);
-        var severity = forecast.getSeverity();
+        Map<String, WeatherForecast> forecasts = weatherClient.getForecasts(terminals);
+
+        for (Terminal terminal : terminals) {
+            WeatherForecast forecast = forecasts.get(terminal.getCode());
+            if (forecast != null) {
+                applyForecast(state, terminal, forecast);
+            }
+        }
+    }
+
+    private void applyForecast(
+            SimulationState state,
+            Terminal terminal,
+            WeatherForecast forecast
+    ) {
+        // Weather in effect at the simulated time, not at forecast issue
+        var severity = forecast.getSeverityAt(state.getCurrentTime());
+
+        Instant change = forecast.nextChangeAfter(state.getCurrentTime());
+        if (change != null) {
+            state.reportConditionChange(change);
+        }
 
         Duration delayDuration = mapSeverityToDelay(severity);
 
@@ -32,17 +68,8 @@ public class WeatherDelayService {
             return;
         }
 
-        // 🔥 NEW: Prevent duplicate active weather delays
-        boolean alreadyHasActiveWeatherDelay =
-                state.getDelayEvents().stream()
-                        .filter(delay -> delay.getType() == DelayType.WEATHER)
-                        .filter(delay -> delay.getLocationId().isPresent())
-                        .anyMatch(delay ->
-                                delay.getLocationId().get().equals(terminal.getCode())
-                                        && !isExpired(delay, state.getCurrentTime())
-                        );
-
-        if (alreadyHasActiveWeatherDelay) {
+        // Prevent duplicate active weather delays
+        if (state.getActiveWeatherDelay(terminal.getCode()).isPresent()) {
             return;
         }
 
@@ -65,10 +92,4 @@ public class WeatherDelayService {
             case EXTREME -> Duration.ofHours(8);
         };
     }
-
-    private boolean isExpired(DelayEvent delay, Instant now) {
-        return delay.getOccurredAt()
-                .plus(delay.getDuration())
-                .isBefore(now);
-    }
 }
\ No newline at end of file
@@ -1,14 +1,129 @@
 package transitflow.integration.weather;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Forecast severity for one terminal over time.
+ *
+ * A forecast is a series of severities on a fixed hourly grid starting
+ * at a given instant, held as severity ordinals in a byte array so the
+ * severity in effect at any instant is found by index arithmetic.
+ * Instants before the first slot use the first severity and instants
+ * after the last slot keep the last one. A forecast built from a
+ * single severity applies it at all times.
+ */
 public class WeatherForecast {
 
-    private final WeatherSeverity severity;
+    private static final WeatherSeverity[] SEVERITIES = WeatherSeverity.values();
+    private static final long HOUR_SECONDS = Duration.ofHours(1).toSeconds();
+
+    private final long startEpochSecond;
+    private final byte[] severities;
 
     public WeatherForecast(WeatherSeverity severity) {
-        this.severity = severity;
+        this(0, new byte[] { (byte) severity.ordinal() });
+    }
+
+    private WeatherForecast(long startEpochSecond, byte[] severities) {
+        this.startEpochSecond = startEpochSecond;
+        this.severities = severities;
+    }
+
+    /**
+     * Creates an hourly forecast whose first slot starts at the given
+     * instant.
+     */
+    public static WeatherForecast hourly(Instant start, List<WeatherSeverity> severities) {
+        if (severities.isEmpty()) {
+            throw new IllegalArgumentException("Forecast requires at least one severity");
+        }
+
+        byte[] ordinals = new byte[severities.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = (byte) severities.get(i).ordinal();
+        }
+
+        return new WeatherForecast(start.getEpochSecond(), ordinals);
     }
 
+    /**
+     * Returns the severity of the first forecast slot.
+     */
     public WeatherSeverity getSeverity() {
-        return severity;
+        return SEVERITIES[severities[0]];
+    }
+
+    /**
+     * Returns the severity in effect at the given instant.
+     */
+    public WeatherSeverity getSeverityAt(Instant instant) {
+        long slot = Math.floorDiv(instant.getEpochSecond() - startEpochSecond, HOUR_SECONDS);
+        int index = (int) Math.max(0, Math.min(severities.length - 1, slot));
+
+        return SEVERITIES[severities[index]];
+    }
+
+    /**
+     * Returns the start of the first slot after the given instant whose
+     * severity differs from the one in effect at it, or {@code null}
+     * if the severity never changes again.
+     */
+    public Instant nextChangeAfter(Instant instant) {
+        long slot = Math.floorDiv(instant.getEpochSecond() - startEpochSecond, HOUR_SECONDS);
+        int current = (int) Math.max(0, Math.min(severities.length - 1, slot));
+
+        for (int i = current + 1; i < severities.length; i++) {
+            if (severities[i] != severities[current]) {
+                return Instant.ofEpochSecond(startEpochSecond + i * HOUR_SECONDS);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the first instant, not before the given one, at which
+     * this forecast and another give different severities, or
+     * {@code null} if they agree from then on.
+     */
+    public Instant firstDifferenceFrom(WeatherForecast other, Instant from) {
+        Instant instant = from;
+
+        // Either series can only change at the start of one of its slots
+        while (instant != null) {
+            if (getSeverityAt(instant) != other.getSeverityAt(instant)) {
+                return instant;
+            }
+
+            Instant next = nextChangeAfter(instant);
+            Instant otherNext = other.nextChangeAfter(instant);
+            instant = next == null || (otherNext != null && otherNext.isBefore(next)) ? otherNext : next;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of hourly slots in this forecast.
+     */
+    public int getHours() {
+        return severities.length;
+    }
+
+    /**
+     * Returns a copy of this forecast with every slot moved the given
+     * number of severity levels, clamped to the defined levels.
+     */
+    public WeatherForecast withShiftedSeverity(int levels) {
+        if (levels == 0) {
+            return this;
+        }
+
+        byte[] shifted = new byte[severities.length];
+        for (int i = 0; i < shifted.length; i++) {
+            shifted[i] = (byte) Math.max(0, Math.min(SEVERITIES.length - 1, severities[i] + levels));
+        }
+
+        return new WeatherForecast(startEpochSecond, shifted);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package transitflow.integration.weather;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Signals that a provider could not supply fresh forecasts for some
+ * terminals of a batch.
+ *
+ * Carries the fallback answer for the whole batch, so callers that
+ * must not stall can still use it, while callers that cache forecasts
+ * can tell fallback values from fresh ones and avoid keeping them.
+ */
+public class WeatherUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, WeatherForecast> fallbackForecasts;
+    private final Set<String> unavailableCodes;
+
+    /**
+     * @param fallbackForecasts forecasts for every terminal of the batch,
+     *                          fresh where available and fallback values
+     *                          elsewhere
+     * @param unavailableCodes  terminals answered with a fallback value
+     */
+    public WeatherUnavailableException(
+            String message,
+            Map<String, WeatherForecast> fallbackForecasts,
+            Set<String> unavailableCodes,
+            Throwable cause
+    ) {
+        super(message, cause);
+        this.fallbackForecasts = Collections.unmodifiableMap(new LinkedHashMap<>(fallbackForecasts));
+        this.unavailableCodes = Set.copyOf(unavailableCodes);
+    }
+
+    public Map<String, WeatherForecast> getFallbackForecasts() {
+        return fallbackForecasts;
+    }
+
+    public Set<String> getUnavailableCodes() {
+        return unavailableCodes;
+    }
+}
@@ -0,0 +1,54 @@
+package transitflow.prediction;
+
+/**
+ * Distribution of predicted outcomes for a single shipment across the
+ * trials of an ensemble prediction.
+ *
+ * Each percentile pairs the terminal-arrival percentile with the
+ * customer-delivery percentile, computed independently over trials.
+ */
+public class EnsembleEstimate {
+
+    private final String shipmentId;
+    private final ArrivalEstimate p50;
+    private final ArrivalEstimate p90;
+    private final ArrivalEstimate p99;
+    private final RiskAssessment riskAssessment;
+
+    public EnsembleEstimate(
+            String shipmentId,
+            ArrivalEstimate p50,
+            ArrivalEstimate p90,
+            ArrivalEstimate p99,
+            RiskAssessment riskAssessment
+    ) {
+        this.shipmentId = shipmentId;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.riskAssessment = riskAssessment;
+    }
+
+    /**
+     * Returns the shipment's tracking number.
+     */
+    public String getShipmentId() {
+        return shipmentId;
+    }
+
+    public ArrivalEstimate getP50() {
+        return p50;
+    }
+
+    public ArrivalEstimate getP90() {
+        return p90;
+    }
+
+    public ArrivalEstimate getP99() {
+        return p99;
+    }
+
+    public RiskAssessment getRiskAssessment() {
+        return riskAssessment;
+    }
+}
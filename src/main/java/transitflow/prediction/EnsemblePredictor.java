@@ -0,0 +1,366 @@
+package transitflow.prediction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import transitflow.delivery.DeliveryEstimateService;
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.route.Route;
+import transitflow.domain.route.Segment;
+import transitflow.domain.route.Terminal;
+import transitflow.domain.shipment.Shipment;
+import transitflow.integration.weather.ForecastGrid;
+import transitflow.integration.weather.WeatherClient;
+import transitflow.integration.weather.WeatherDelayService;
+import transitflow.integration.weather.WeatherForecast;
+import transitflow.simulation.DelayCoordinator;
+import transitflow.simulation.ShipmentStore;
+import transitflow.simulation.SimulationEngine;
+import transitflow.simulation.SimulationState;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Runs Monte Carlo ensembles of perturbed predictions to produce
+ * confidence bands and delay risk (SRS FR-10).
+ *
+ * Each trial is a full single-pass prediction in which recorded delay
+ * durations are scaled by a log-normal factor, each terminal's
+ * forecast severity may shift one level up or down, and each shipment
+ * dwells for an exponentially distributed time at every terminal it
+ * passes through. Trials run in parallel on the fork-join pool. Forecasts
+ * are fetched once per ensemble and shared read-only by all trials.
+ *
+ * Delay risk is measured against a reference prediction in which
+ * every dwell takes its mean time, so dwell, which never shortens a
+ * trial, does not push every trial past the reference. Dwells shorter
+ * than a prediction tick cost their exact length in both, rather than
+ * nothing or a whole tick; see {@link SimulationState#heldNanos}.
+ *
+ * Every trial draws from its own {@link SplittableRandom}, split from
+ * the seed in trial order before any work is forked, so a given seed
+ * always reproduces the same result regardless of scheduling.
+ */
+@Component
+public class EnsemblePredictor {
+
+    private static final double DELAY_DURATION_SIGMA = 0.25;
+    private static final double WEATHER_SHIFT_PROBABILITY = 0.15;
+    private static final Duration MEAN_TERMINAL_DWELL = Duration.ofMinutes(45);
+
+    private final SimulationEngine simulationEngine;
+    private final DeliveryEstimateService deliveryService;
+    private final WeatherClient weatherClient;
+    private final double weatherShiftProbability;
+    private final double meanDwellMinutes;
+
+    @Autowired
+    public EnsemblePredictor(
+            SimulationEngine simulationEngine,
+            DeliveryEstimateService deliveryService,
+            WeatherClient weatherClient
+    ) {
+        this(simulationEngine, deliveryService, weatherClient, WEATHER_SHIFT_PROBABILITY, MEAN_TERMINAL_DWELL);
+    }
+
+    /**
+     * @param weatherShiftProbability probability of each of a one-level
+     *                                rise and fall of a terminal's
+     *                                forecast severity in a trial
+     * @param meanTerminalDwell       mean dwell at every terminal passed
+     */
+    EnsemblePredictor(
+            SimulationEngine simulationEngine,
+            DeliveryEstimateService deliveryService,
+            WeatherClient weatherClient,
+            double weatherShiftProbability,
+            Duration meanTerminalDwell
+    ) {
+        this.simulationEngine = simulationEngine;
+        this.deliveryService = deliveryService;
+        this.weatherClient = weatherClient;
+        this.weatherShiftProbability = weatherShiftProbability;
+        this.meanDwellMinutes = meanTerminalDwell.toSeconds() / 60.0;
+    }
+
+    /**
+     * Predicts every shipment in the snapshot across the given number
+     * of perturbed trials and returns p50/p90/p99 arrival and delivery
+     * per shipment, with the share of trials that deliver later than
+     * the reference prediction as its delay risk.
+     */
+    public EnsembleResult predict(PredictionSnapshot snapshot, int trials, long seed) {
+        if (trials < 1) {
+            throw new IllegalArgumentException("Ensemble requires at least one trial");
+        }
+
+        // One forecast fetch serves the baseline and every trial
+        ForecastGrid forecasts = ForecastGrid.fetch(weatherClient, terminalsOf(snapshot));
+
+        PredictionResult baseline = new PredictionEngine(
+                simulationEngine,
+                deliveryService,
+                new DwellDelayCoordinator(
+                        new WeatherDelayService(forecasts),
+                        () -> meanDwellMinutes)
+        ).predictAll(snapshot, PredictionMode.EVENT_DRIVEN);
+
+        int shipmentCount = baseline.getShipmentPredictions().size();
+        long[][] arrivals = new long[shipmentCount][trials];
+        long[][] deliveries = new long[shipmentCount][trials];
+
+        // Split sequentially so each trial's stream depends only on the seed
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] random = new SplittableRandom[trials];
+        for (int t = 0; t < trials; t++) {
+            random[t] = root.split();
+        }
+
+        ForkJoinPool.commonPool().invoke(
+                new TrialTask(snapshot, forecasts, random, arrivals, deliveries, 0, trials));
+
+        List<EnsembleEstimate> estimates = new ArrayList<>(shipmentCount);
+
+        for (int i = 0; i < shipmentCount; i++) {
+            ShipmentPrediction expected = baseline.getShipmentPredictions().get(i);
+            long expectedDelivery = toNanos(expected.getPredictedDeliveryTime().orElseThrow());
+
+            int late = 0;
+            for (long delivery : deliveries[i]) {
+                if (delivery > expectedDelivery) {
+                    late++;
+                }
+            }
+
+            Arrays.sort(arrivals[i]);
+            Arrays.sort(deliveries[i]);
+
+            estimates.add(new EnsembleEstimate(
+                    expected.getShipmentId(),
+                    percentile(arrivals[i], deliveries[i], 0.50),
+                    percentile(arrivals[i], deliveries[i], 0.90),
+                    percentile(arrivals[i], deliveries[i], 0.99),
+                    new RiskAssessment((double) late / trials)
+            ));
+        }
+
+        return new EnsembleResult(trials, seed, estimates);
+    }
+
+    private void runTrial(
+            PredictionSnapshot snapshot,
+            ForecastGrid forecasts,
+            SplittableRandom random,
+            int trial,
+            long[][] arrivals,
+            long[][] deliveries
+    ) {
+        List<DelayEvent> delays = new ArrayList<>();
+        for (DelayEvent delay : snapshot.getDelayEvents()) {
+            delays.add(scaleDuration(delay, Math.exp(random.nextGaussian() * DELAY_DURATION_SIGMA)));
+        }
+
+        WeatherClient perturbedWeather =
+                new PerturbedWeatherClient(forecasts, weatherShiftProbability, random.split());
+        SplittableRandom dwellRandom = random.split();
+
+        PredictionEngine engine = new PredictionEngine(
+                simulationEngine,
+                deliveryService,
+                new DwellDelayCoordinator(
+                        new WeatherDelayService(perturbedWeather),
+                        () -> -Math.log(1 - dwellRandom.nextDouble()) * meanDwellMinutes)
+        );
+
+        List<ShipmentPrediction> predictions = engine
+                .predictAll(snapshot.withDelayEvents(delays), PredictionMode.EVENT_DRIVEN)
+                .getShipmentPredictions();
+
+        for (int i = 0; i < predictions.size(); i++) {
+            ArrivalEstimate estimate = predictions.get(i).getArrivalEstimate().orElseThrow();
+            arrivals[i][trial] = toNanos(estimate.getTerminalArrival());
+            deliveries[i][trial] = toNanos(estimate.getCustomerDelivery());
+        }
+    }
+
+    /**
+     * Runs a contiguous range of trials, splitting in halves down to
+     * single trials.
+     */
+    private final class TrialTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final PredictionSnapshot snapshot;
+        private final ForecastGrid forecasts;
+        private final SplittableRandom[] random;
+        private final long[][] arrivals;
+        private final long[][] deliveries;
+        private final int from;
+        private final int to;
+
+        private TrialTask(
+                PredictionSnapshot snapshot,
+                ForecastGrid forecasts,
+                SplittableRandom[] random,
+                long[][] arrivals,
+                long[][] deliveries,
+                int from,
+                int to
+        ) {
+            this.snapshot = snapshot;
+            this.forecasts = forecasts;
+            this.random = random;
+            this.arrivals = arrivals;
+            this.deliveries = deliveries;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                runTrial(snapshot, forecasts, random[from], from, arrivals, deliveries);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new TrialTask(snapshot, forecasts, random, arrivals, deliveries, from, mid),
+                    new TrialTask(snapshot, forecasts, random, arrivals, deliveries, mid, to)
+            );
+        }
+    }
+
+    /**
+     * Shifts each terminal's forecast severity by at most one level,
+     * drawn once per terminal so a trial sees a consistent forecast.
+     */
+    private static final class PerturbedWeatherClient implements WeatherClient {
+
+        private final WeatherClient delegate;
+        private final double shiftProbability;
+        private final SplittableRandom random;
+        private final Map<String, WeatherForecast> perturbed = new HashMap<>();
+
+        private PerturbedWeatherClient(WeatherClient delegate, double shiftProbability, SplittableRandom random) {
+            this.delegate = delegate;
+            this.shiftProbability = shiftProbability;
+            this.random = random;
+        }
+
+        @Override
+        public WeatherForecast getForecast(Terminal terminal) {
+            return perturbed.computeIfAbsent(terminal.getCode(), code -> {
+                double draw = random.nextDouble();
+                int shift = draw < shiftProbability ? -1
+                        : draw < 2 * shiftProbability ? 1 : 0;
+
+                return delegate.getForecast(terminal).withShiftedSeverity(shift);
+            });
+        }
+    }
+
+    /**
+     * Applies external delays, then holds each shipment that has just
+     * entered a new segment at its terminal for a dwell time in
+     * minutes drawn from the given source. Only that shipment is held;
+     * others on the same segment keep moving. Dwell is charged from the
+     * start of the step, by the part of the step it covers.
+     */
+    private static final class DwellDelayCoordinator extends DelayCoordinator {
+
+        private final DoubleSupplier dwellMinutes;
+        private int[] lastSegment;
+
+        private DwellDelayCoordinator(WeatherDelayService weatherDelayService, DoubleSupplier dwellMinutes) {
+            super(weatherDelayService);
+            this.dwellMinutes = dwellMinutes;
+        }
+
+        @Override
+        public void applyExternalDelays(SimulationState state) {
+            super.applyExternalDelays(state);
+
+            ShipmentStore store = state.getShipmentStore().orElse(null);
+            List<Shipment> shipments = state.getActiveShipments();
+            int count = store != null ? store.size() : shipments.size();
+
+            boolean first = lastSegment == null;
+            if (first) {
+                lastSegment = new int[count];
+            }
+
+            for (int i = 0; i < count; i++) {
+                int segment = store != null
+                        ? store.getCurrentSegmentIndex(i)
+                        : shipments.get(i).getCurrentSegmentIndex();
+                boolean inTransit = store != null
+                        ? store.hasMoreSegments(i)
+                        : shipments.get(i).hasMoreSegments();
+
+                if (!first && segment > lastSegment[i] && inTransit) {
+                    long seconds = Math.round(dwellMinutes.getAsDouble() * 60);
+                    state.holdShipment(i, state.getCurrentTime().plusSeconds(seconds));
+                }
+
+                lastSegment[i] = segment;
+            }
+        }
+    }
+
+    /**
+     * Returns every terminal any shipment in the snapshot may still
+     * reach.
+     */
+    private static List<Terminal> terminalsOf(PredictionSnapshot snapshot) {
+        Map<String, Terminal> terminals = new LinkedHashMap<>();
+
+        for (Route route : snapshot.getRoutes()) {
+            for (Segment segment : route.getSegments()) {
+                terminals.putIfAbsent(segment.getDestination().getCode(), segment.getDestination());
+            }
+        }
+        return new ArrayList<>(terminals.values());
+    }
+
+    private static DelayEvent scaleDuration(DelayEvent delay, double factor) {
+        return new DelayEvent(
+                delay.getType(),
+                Duration.ofSeconds(Math.round(delay.getDuration().toSeconds() * factor)),
+                delay.getOccurredAt(),
+                delay.getLocationId().orElse(null),
+                delay.getDescription(),
+                delay.getTransportMode().orElse(null),
+                delay.getSegmentId().orElse(null)
+        );
+    }
+
+    private static ArrivalEstimate percentile(long[] arrivals, long[] deliveries, double quantile) {
+        // Nearest-rank on sorted samples
+        int index = Math.max(0, (int) Math.ceil(quantile * arrivals.length) - 1);
+        return new ArrivalEstimate(toInstant(arrivals[index]), toInstant(deliveries[index]));
+    }
+
+    private static long toNanos(Instant instant) {
+        return Math.addExact(
+                Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L),
+                instant.getNano());
+    }
+
+    private static Instant toInstant(long nanos) {
+        return Instant.ofEpochSecond(
+                Math.floorDiv(nanos, 1_000_000_000L),
+                Math.floorMod(nanos, 1_000_000_000L));
+    }
+}
@@ -0,0 +1,44 @@
+package transitflow.prediction;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outcome of an ensemble prediction run over a snapshot.
+ */
+public class EnsembleResult {
+
+    private final int trials;
+    private final long seed;
+    private final List<EnsembleEstimate> estimates;
+
+    EnsembleResult(int trials, long seed, List<EnsembleEstimate> estimates) {
+        this.trials = trials;
+        this.seed = seed;
+        this.estimates = List.copyOf(estimates);
+    }
+
+    public int getTrials() {
+        return trials;
+    }
+
+    /**
+     * Returns the seed that reproduces this result.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns one estimate per shipment, in snapshot order.
+     */
+    public List<EnsembleEstimate> getEstimates() {
+        return estimates;
+    }
+
+    public Optional<EnsembleEstimate> findByTrackingNumber(String trackingNumber) {
+        return estimates.stream()
+                .filter(estimate -> estimate.getShipmentId().equals(trackingNumber))
+                .findFirst();
+    }
+}
@@ -0,0 +1,240 @@
+package transitflow.prediction;
+
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.route.Route;
+import transitflow.domain.route.Terminal;
+import transitflow.domain.shipment.Shipment;
+import transitflow.integration.weather.WeatherClient;
+import transitflow.integration.weather.WeatherForecast;
+import transitflow.simulation.DelayIndex;
+import transitflow.simulation.SimulationStateChanges;
+import transitflow.simulation.SimulationStateSnapshot;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Keeps per-shipment arrival estimates current across prediction
+ * cycles, re-predicting only shipments whose inputs changed.
+ *
+ * A shipment is re-predicted when, since the previous cycle, it
+ * moved to a new segment, a delay targeting any of its remaining
+ * segments was added or expired, or the forecast of a terminal on its
+ * remaining route changed anywhere between now and its cached
+ * terminal arrival. Forecasts of every terminal still ahead of a
+ * shipment are fetched in one batched call per cycle.
+ *
+ * Shipments predicted together share one predicted world: a weather
+ * delay injected at a terminal for one shipment also holds up every
+ * other shipment heading there. A changed shipment is therefore
+ * re-predicted together with every shipment linked to it through
+ * terminals on their remaining routes, directly or via others, so a
+ * refresh yields the same estimates for them as a full
+ * {@link PredictionEngine#predictAll} pass. All other shipments keep
+ * their cached {@link ArrivalEstimate}.
+ *
+ * Only shipment objects are tracked; store-backed versions yield
+ * no estimates.
+ */
+public class IncrementalPredictor {
+
+    private final PredictionEngine predictionEngine;
+    private final WeatherClient weatherClient;
+    private final PredictionMode mode;
+
+    private SimulationStateSnapshot lastVersion;
+    private Map<String, WeatherForecast> lastForecasts = Map.of();
+    private final Map<String, ArrivalEstimate> estimates = new HashMap<>();
+    private int lastRecomputedCount;
+
+    public IncrementalPredictor(
+            PredictionEngine predictionEngine,
+            WeatherClient weatherClient,
+            PredictionMode mode
+    ) {
+        this.predictionEngine = predictionEngine;
+        this.weatherClient = weatherClient;
+        this.mode = mode;
+    }
+
+    /**
+     * Brings the estimates up to date with the given published
+     * version and returns them keyed by tracking number.
+     */
+    public synchronized Map<String, ArrivalEstimate> refresh(SimulationStateSnapshot version) {
+        SimulationStateChanges changes =
+                lastVersion != null ? version.changesSince(lastVersion) : null;
+
+        List<DelayEvent> changedDelays = new ArrayList<>();
+        if (changes != null) {
+            changedDelays.addAll(changes.getAddedDelays());
+            changedDelays.addAll(changes.getExpiredDelays());
+        }
+
+        List<Shipment> shipments = version.getShipments();
+        Map<String, Terminal> terminals = new LinkedHashMap<>();
+
+        for (Shipment shipment : shipments) {
+            Route route = shipment.getRoute();
+            for (int i = shipment.getCurrentSegmentIndex(); i < route.segmentCount(); i++) {
+                Terminal terminal = route.getSegments().get(i).getDestination();
+                terminals.putIfAbsent(terminal.getCode(), terminal);
+            }
+        }
+
+        // One batched lookup for every terminal still ahead of a shipment
+        Map<String, WeatherForecast> forecasts = new HashMap<>(terminals.isEmpty()
+                ? Map.of()
+                : weatherClient.getForecasts(terminals.values()));
+        forecasts.values().removeIf(Objects::isNull);
+
+        Map<String, Instant> forecastDifferences = new HashMap<>();
+        for (String code : terminals.keySet()) {
+            WeatherForecast forecast = forecasts.get(code);
+            WeatherForecast previous = lastForecasts.get(code);
+            Instant first = forecast != null && previous != null
+                    ? forecast.firstDifferenceFrom(previous, version.getCurrentTime())
+                    : version.getCurrentTime();
+            forecastDifferences.put(code, first != null ? first : Instant.MAX);
+        }
+
+        Set<String> present = new HashSet<>();
+        boolean[] dirty = new boolean[shipments.size()];
+
+        for (int s = 0; s < shipments.size(); s++) {
+            Shipment shipment = shipments.get(s);
+            String trackingNumber = shipment.getTrackingNumber();
+            present.add(trackingNumber);
+
+            ArrivalEstimate cached = estimates.get(trackingNumber);
+            boolean forecastChanged = false;
+
+            Route route = shipment.getRoute();
+            for (int i = shipment.getCurrentSegmentIndex(); i < route.segmentCount(); i++) {
+                Instant difference = forecastDifferences.get(route.getSegments().get(i).getDestination().getCode());
+
+                // Only changes before the shipment arrives can affect it
+                if (cached != null && !difference.isAfter(cached.getTerminalArrival())) {
+                    forecastChanged = true;
+                }
+            }
+
+            dirty[s] = changes == null
+                    || cached == null
+                    || changes.hasAdvanced(shipment.getId())
+                    || forecastChanged
+                    || affectsRemainingRoute(changedDelays, shipment);
+        }
+
+        List<Shipment> dirtyShipments = withLinkedShipments(shipments, dirty);
+
+        if (!dirtyShipments.isEmpty()) {
+            // One simulation pass covers every changed shipment
+            PredictionResult result = predictionEngine.predictAll(
+                    new PredictionSnapshot(
+                            version.getCurrentTime(),
+                            dirtyShipments,
+                            version.getDelayEvents()
+                    ),
+                    mode
+            );
+
+            for (ShipmentPrediction prediction : result.getShipmentPredictions()) {
+                prediction.getArrivalEstimate().ifPresent(estimate ->
+                        estimates.put(prediction.getShipmentId(), estimate));
+            }
+        }
+
+        estimates.keySet().retainAll(present);
+
+        lastVersion = version;
+        lastForecasts = forecasts;
+        lastRecomputedCount = dirtyShipments.size();
+
+        return Collections.unmodifiableMap(new HashMap<>(estimates));
+    }
+
+    /**
+     * Returns how many shipments the most recent refresh re-predicted.
+     */
+    public synchronized int getLastRecomputedCount() {
+        return lastRecomputedCount;
+    }
+
+    /**
+     * Returns the dirty shipments together with every shipment linked
+     * to one of them through terminals on their remaining routes, in
+     * version order.
+     */
+    private static List<Shipment> withLinkedShipments(List<Shipment> shipments, boolean[] dirty) {
+        int count = shipments.size();
+
+        // Union-find over shipments, joined by shared remaining terminals
+        int[] parent = new int[count];
+        for (int s = 0; s < count; s++) {
+            parent[s] = s;
+        }
+
+        Map<String, Integer> firstHeadingTo = new HashMap<>();
+        for (int s = 0; s < count; s++) {
+            Shipment shipment = shipments.get(s);
+            Route route = shipment.getRoute();
+
+            for (int i = shipment.getCurrentSegmentIndex(); i < route.segmentCount(); i++) {
+                Integer other = firstHeadingTo.putIfAbsent(
+                        route.getSegments().get(i).getDestination().getCode(), s);
+                if (other != null) {
+                    parent[root(parent, s)] = root(parent, other);
+                }
+            }
+        }
+
+        boolean[] dirtyGroup = new boolean[count];
+        for (int s = 0; s < count; s++) {
+            if (dirty[s]) {
+                dirtyGroup[root(parent, s)] = true;
+            }
+        }
+
+        List<Shipment> repredicted = new ArrayList<>();
+        for (int s = 0; s < count; s++) {
+            if (dirtyGroup[root(parent, s)]) {
+                repredicted.add(shipments.get(s));
+            }
+        }
+        return repredicted;
+    }
+
+    private static int root(int[] parent, int s) {
+        while (parent[s] != s) {
+            parent[s] = parent[parent[s]];
+            s = parent[s];
+        }
+        return s;
+    }
+
+    private boolean affectsRemainingRoute(List<DelayEvent> delays, Shipment shipment) {
+        if (delays.isEmpty() || !shipment.hasMoreSegments()) {
+            return false;
+        }
+
+        Route route = shipment.getRoute();
+
+        for (DelayEvent delay : delays) {
+            for (int i = shipment.getCurrentSegmentIndex(); i < route.segmentCount(); i++) {
+                if (DelayIndex.appliesTo(delay, route.getSegments().get(i))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -1,15 +1,24 @@
 package transitflow.prediction;
 
 import transitflow.delivery.DeliveryEstimateService;
+import transitflow.delivery.DeliveryPolicySnapshot;
+import transitflow.domain.route.Route;
 import transitflow.domain.route.Terminal;
+import transitflow.domain.route.TerminalRegistry;
 import transitflow.domain.shipment.Shipment;
 import transitflow.simulation.DelayCoordinator;
+import transitflow.simulation.ShipmentStore;
 import transitflow.simulation.SimulationEngine;
 import transitflow.simulation.SimulationState;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
 
 /**
  * Executes read-only predictive simulations based on
@@ -18,6 +27,8 @@ import java.time.Instant;
 @Component
 public class PredictionEngine {
 
+    private static final Duration PREDICTION_TICK = Duration.ofHours(1);
+
     private final SimulationEngine simulationEngine;
     private final DeliveryEstimateService deliveryService;
     private final DelayCoordinator delayCoordinator;
@@ -36,20 +47,28 @@ public class PredictionEngine {
      * Runs a predictive simulation forward for the given horizon.
      * This method operates exclusively on prediction snapshots
      * and cannot mutate live simulation state.
+     *
+     * <p>Shipments that complete within the horizon carry their
+     * predicted arrival; the rest are reported as in transit.</p>
      */
     public PredictionResult predict(PredictionSnapshot snapshot, Duration horizon) {
+        return predictShipments(
+                snapshot, PredictionMode.TICK, snapshot.getSnapshotTime().plus(horizon));
+    }
 
-        SimulationState predictedState = new SimulationState(
-                snapshot.getSnapshotTime(),
-                snapshot.getShipments()
-        );
-
-        // Apply external delays before advancing
-        delayCoordinator.applyExternalDelays(predictedState);
-
-        simulationEngine.tick(predictedState, horizon);
-
-        return PredictionResult.from(predictedState);
+    /**
+     * Predicts every shipment in the snapshot in a single simulation
+     * pass, running until the last shipment completes.
+     *
+     * <p>Each shipment's terminal arrival is the end of the step in
+     * which it completes its final segment, and its customer delivery
+     * applies the delivery policy of its own destination terminal.
+     * All shipments share one predicted world, so a delay injected for
+     * one shipment's terminal also affects the others routed there,
+     * as in the live simulation.</p>
+     */
+    public PredictionResult predictAll(PredictionSnapshot snapshot, PredictionMode mode) {
+        return predictShipments(snapshot, mode, null);
     }
 
     /**
@@ -60,20 +79,33 @@ public class PredictionEngine {
             PredictionSnapshot snapshot,
             Terminal destination
     ) {
+        return predictArrivalEstimate(snapshot, destination, PredictionMode.TICK);
+    }
 
-        SimulationState state = new SimulationState(
-                snapshot.getSnapshotTime(),
-                snapshot.getShipments()
-        );
+    /**
+     * Predicts arrival semantics using the given time advancement mode.
+     *
+     * <p>{@link PredictionMode#EVENT_DRIVEN} skips ticks on which
+     * nothing can change, so a multi-day leg costs a handful of steps
+     * instead of one per hour. External conditions are re-evaluated
+     * at every step, and no step passes the next tick at which a
+     * forecast relevant to a shipment changes severity.</p>
+     */
+    public ArrivalEstimate predictArrivalEstimate(
+            PredictionSnapshot snapshot,
+            Terminal destination,
+            PredictionMode mode
+    ) {
+
+        SimulationState state = snapshot.toSimulationState();
 
         // Advance simulation until all shipments complete
-        while (state.getActiveShipments().stream()
-                .anyMatch(Shipment::hasMoreSegments)) {
+        while (state.hasShipmentsInTransit()) {
 
             // Apply external delays at each step
             delayCoordinator.applyExternalDelays(state);
 
-            simulationEngine.tick(state, Duration.ofHours(1));
+            simulationEngine.tick(state, nextStep(state, mode));
         }
 
         Instant terminalArrival = state.getCurrentTime();
@@ -86,4 +118,189 @@ public class PredictionEngine {
 
         return new ArrivalEstimate(terminalArrival, customerDelivery);
     }
+
+    private PredictionResult predictShipments(
+            PredictionSnapshot snapshot,
+            PredictionMode mode,
+            Instant deadline
+    ) {
+        SimulationState state = snapshot.toSimulationState();
+        ShipmentStore store = state.getShipmentStore().orElse(null);
+        List<Shipment> shipments = state.getActiveShipments();
+
+        int count = store != null ? store.size() : shipments.size();
+        IntPredicate inTransit = store != null
+                ? store::hasMoreSegments
+                : index -> shipments.get(index).hasMoreSegments();
+        IntToLongFunction remainingNanos = store != null
+                ? store::getRemainingRouteNanos
+                : index -> shipments.get(index).getRemainingTransitNanos();
+
+        long horizonNanos = deadline != null
+                ? Duration.between(state.getCurrentTime(), deadline).toNanos()
+                : Long.MAX_VALUE;
+
+        Instant[] arrivals = new Instant[count];
+        int[] pending = new int[count];
+        int pendingCount = 0;
+        boolean pruned = false;
+
+        for (int i = 0; i < count; i++) {
+            if (!inTransit.test(i)) {
+                arrivals[i] = state.getCurrentTime();
+            } else if (remainingNanos.applyAsLong(i) <= horizonNanos) {
+                // Delays only add time, so a shipment whose delay-free
+                // remaining transit exceeds the horizon cannot complete
+                // within it and need not keep the pass running
+                pending[pendingCount++] = i;
+            } else {
+                pruned = true;
+            }
+        }
+
+        while (pendingCount > 0) {
+            Duration remaining = deadline != null
+                    ? Duration.between(state.getCurrentTime(), deadline)
+                    : null;
+
+            if (remaining != null && (remaining.isZero() || remaining.isNegative())) {
+                break;
+            }
+
+            delayCoordinator.applyExternalDelays(state);
+
+            Duration step = nextStep(state, mode);
+            if (remaining != null && step.compareTo(remaining) > 0) {
+                step = remaining;
+            }
+
+            simulationEngine.tick(state, step);
+
+            // Record completions from this step and compact the rest
+            int stillPending = 0;
+            for (int p = 0; p < pendingCount; p++) {
+                int index = pending[p];
+                if (inTransit.test(index)) {
+                    pending[stillPending++] = index;
+                } else {
+                    arrivals[index] = state.getCurrentTime();
+                }
+            }
+            pendingCount = stillPending;
+        }
+
+        Terminal[] destinations = new Terminal[count];
+        for (int i = 0; i < count; i++) {
+            Route route = store != null ? store.getRoute(i) : shipments.get(i).getRoute();
+            destinations[i] = route.getDestination();
+        }
+        Instant[] deliveries = estimateDeliveries(arrivals, destinations);
+
+        List<ShipmentPrediction> predictions = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            String trackingNumber = store != null
+                    ? store.getTrackingNumber(i)
+                    : shipments.get(i).getTrackingNumber();
+
+            if (arrivals[i] == null) {
+                predictions.add(ShipmentPrediction.inTransit(trackingNumber));
+                continue;
+            }
+
+            predictions.add(ShipmentPrediction.from(
+                    trackingNumber,
+                    new ArrivalEstimate(arrivals[i], deliveries[i])
+            ));
+        }
+
+        // Shipments left in transit are reported as of the full horizon
+        Instant predictedAt = pruned || pendingCount > 0
+                ? deadline
+                : state.getCurrentTime();
+
+        return new PredictionResult(predictedAt, predictions);
+    }
+
+    /**
+     * Returns the customer delivery of every shipment with an arrival,
+     * under one delivery rule set for the whole pass.
+     *
+     * <p>Shipments bound for terminals of one {@link TerminalRegistry}
+     * are estimated in a single bulk call grouped by terminal. The bulk
+     * calculation works in epoch milliseconds, so arrivals off the
+     * millisecond grid, like destinations outside the registry, are
+     * estimated one by one.</p>
+     */
+    private Instant[] estimateDeliveries(Instant[] arrivals, Terminal[] destinations) {
+        DeliveryPolicySnapshot policies = deliveryService.snapshotPolicies();
+        int count = arrivals.length;
+
+        TerminalRegistry terminals = null;
+        int[] bulk = new int[count];
+        int bulkCount = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (arrivals[i] == null || arrivals[i].getNano() % 1_000_000 != 0) {
+                continue;
+            }
+            if (terminals == null) {
+                terminals = destinations[i].getRegistry().orElse(null);
+            }
+            if (destinations[i].isRegisteredIn(terminals)) {
+                bulk[bulkCount++] = i;
+            }
+        }
+
+        Instant[] deliveries = new Instant[count];
+
+        if (bulkCount > 0) {
+            long[] arrivalMillis = new long[bulkCount];
+            int[] terminalIds = new int[bulkCount];
+            long[] deliveryMillis = new long[bulkCount];
+
+            for (int b = 0; b < bulkCount; b++) {
+                arrivalMillis[b] = arrivals[bulk[b]].toEpochMilli();
+                terminalIds[b] = destinations[bulk[b]].getRegistryId();
+            }
+
+            deliveryService.estimateDeliveryTimes(
+                    arrivalMillis, terminalIds, terminals, policies, deliveryMillis);
+
+            for (int b = 0; b < bulkCount; b++) {
+                deliveries[bulk[b]] = Instant.ofEpochMilli(deliveryMillis[b]);
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (arrivals[i] != null && deliveries[i] == null) {
+                deliveries[i] = deliveryService.estimateDeliveryTime(arrivals[i], destinations[i], policies);
+            }
+        }
+
+        return deliveries;
+    }
+
+    /**
+     * Returns the length of the next simulation step: one prediction
+     * tick, or in event-driven mode every tick up to the next event,
+     * stopping at the tick where a reported condition change occurs.
+     */
+    private Duration nextStep(SimulationState state, PredictionMode mode) {
+        if (mode != PredictionMode.EVENT_DRIVEN) {
+            return PREDICTION_TICK;
+        }
+
+        long ticks = simulationEngine.ticksUntilNextEvent(state, PREDICTION_TICK);
+
+        // Stop at the tick where conditions applied at this step change
+        Optional<Instant> change = state.getNextConditionChange();
+        if (change.isPresent()) {
+            Duration untilChange = Duration.between(state.getCurrentTime(), change.get());
+            long ticksUntilChange = untilChange.plus(PREDICTION_TICK).minusNanos(1).dividedBy(PREDICTION_TICK);
+            ticks = Math.max(1, Math.min(ticks, ticksUntilChange));
+        }
+
+        return PREDICTION_TICK.multipliedBy(ticks);
+    }
 }
@@ -0,0 +1,20 @@
+package transitflow.prediction;
+
+/**
+ * Controls how a predictive simulation advances time.
+ */
+public enum PredictionMode {
+
+    /**
+     * Advances in fixed one-hour ticks, evaluating external
+     * conditions at every tick.
+     */
+    TICK,
+
+    /**
+     * Jumps directly to the next tick on which something can change
+     * (segment completion, delay expiry or forecast re-check),
+     * producing the same result as {@link #TICK} at tick granularity.
+     */
+    EVENT_DRIVEN
+}
@@ -1,11 +1,8 @@
 package transitflow.prediction;
 
-import transitflow.domain.shipment.Shipment;
-
 import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
-import transitflow.simulation.SimulationState;
+import java.util.Optional;
 
 /**
  * Represents the outcome of a predictive simulation run.
@@ -15,32 +12,31 @@ public class PredictionResult {
     private final Instant predictedAt;
     private final List<ShipmentPrediction> shipmentPredictions;
 
-    private PredictionResult(
+    PredictionResult(
             Instant predictedAt,
             List<ShipmentPrediction> shipmentPredictions
     ) {
         this.predictedAt = predictedAt;
-        this.shipmentPredictions = shipmentPredictions;
-    }
-
-    public static PredictionResult from(SimulationState snapshot) {
-        return new PredictionResult(
-                snapshot.getCurrentTime(),
-                snapshot.getActiveShipments().stream()
-                        .map(shipment -> ShipmentPrediction.from(
-                                shipment,
-                                snapshot.getCurrentTime()
-                        ))
-                        .collect(Collectors.toList())
-
-        );
+        this.shipmentPredictions = List.copyOf(shipmentPredictions);
     }
 
+    /**
+     * Returns the simulated time at which the prediction run ended.
+     */
     public Instant getPredictedAt() {
         return predictedAt;
     }
 
+    /**
+     * Returns one prediction per shipment, in snapshot order.
+     */
     public List<ShipmentPrediction> getShipmentPredictions() {
         return shipmentPredictions;
     }
+
+    public Optional<ShipmentPrediction> findByTrackingNumber(String trackingNumber) {
+        return shipmentPredictions.stream()
+                .filter(prediction -> prediction.getShipmentId().equals(trackingNumber))
+                .findFirst();
+    }
 }
@@ -1,18 +1,31 @@
 package transitflow.prediction;
 
 import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.route.Route;
 import transitflow.domain.shipment.Shipment;
+import transitflow.simulation.ShipmentStore;
+import transitflow.simulation.SimulationState;
+import transitflow.simulation.SimulationStateSnapshot;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Immutable snapshot of simulation state used for prediction.
+ *
+ * The snapshot's shipments and store may be shared with the live
+ * simulation's published versions, so they are never handed out
+ * directly: every accessor that allows mutation returns a private
+ * copy.
  */
 public class PredictionSnapshot {
 
     private final Instant snapshotTime;
     private final List<Shipment> shipments;
+    private final ShipmentStore shipmentStore;
     private final List<DelayEvent> delayEvents;
 
     public PredictionSnapshot(
@@ -22,15 +35,101 @@ public class PredictionSnapshot {
     ) {
         this.snapshotTime = snapshotTime;
         this.shipments = shipments;
+        this.shipmentStore = null;
         this.delayEvents = delayEvents;
     }
 
+    /**
+     * Creates a snapshot of a columnar shipment store. The store is
+     * never mutated by this snapshot.
+     */
+    public PredictionSnapshot(
+            Instant snapshotTime,
+            ShipmentStore shipmentStore,
+            List<DelayEvent> delayEvents
+    ) {
+        this.snapshotTime = snapshotTime;
+        this.shipments = List.of();
+        this.shipmentStore = shipmentStore;
+        this.delayEvents = delayEvents;
+    }
+
+    /**
+     * Wraps a published simulation version without copying it.
+     */
+    public PredictionSnapshot(SimulationStateSnapshot version) {
+        this.snapshotTime = version.getCurrentTime();
+        this.shipments = version.getShipments();
+        this.shipmentStore = version.getShipmentStore().orElse(null);
+        this.delayEvents = version.getDelayEvents();
+    }
+
+    private PredictionSnapshot(PredictionSnapshot original, List<DelayEvent> delayEvents) {
+        this.snapshotTime = original.snapshotTime;
+        this.shipments = original.shipments;
+        this.shipmentStore = original.shipmentStore;
+        this.delayEvents = delayEvents;
+    }
+
+    /**
+     * Returns a snapshot sharing this snapshot's shipments but
+     * recording the given delays instead.
+     */
+    public PredictionSnapshot withDelayEvents(List<DelayEvent> delayEvents) {
+        return new PredictionSnapshot(this, List.copyOf(delayEvents));
+    }
+
     public Instant getSnapshotTime() {
         return snapshotTime;
     }
 
+    /**
+     * Returns private copies of the snapshot's shipments, which the
+     * caller may advance freely.
+     */
     public List<Shipment> getShipments() {
-        return shipments;
+        return shipments.stream()
+                .map(Shipment::copy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a private copy of the snapshot's columnar store, if any.
+     */
+    public Optional<ShipmentStore> getShipmentStore() {
+        return Optional.ofNullable(shipmentStore).map(ShipmentStore::copy);
+    }
+
+    /**
+     * Returns the route of every shipment, object or columnar, without
+     * copying any shipment state.
+     */
+    List<Route> getRoutes() {
+        List<Route> routes = new ArrayList<>();
+
+        for (Shipment shipment : shipments) {
+            routes.add(shipment.getRoute());
+        }
+        if (shipmentStore != null) {
+            for (int row = 0; row < shipmentStore.size(); row++) {
+                routes.add(shipmentStore.getRoute(row));
+            }
+        }
+        return routes;
+    }
+
+    /**
+     * Creates a fresh, detached simulation state seeded from private
+     * copies of this snapshot, including its recorded delays.
+     */
+    public SimulationState toSimulationState() {
+        SimulationState state = shipmentStore != null
+                ? SimulationState.detached(snapshotTime, shipmentStore.copy())
+                : SimulationState.detached(snapshotTime, getShipments());
+
+        delayEvents.forEach(state::addDelayEvent);
+
+        return state;
     }
 
     public List<DelayEvent> getDelayEvents() {
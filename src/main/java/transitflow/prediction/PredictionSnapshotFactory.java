@@ -1,14 +1,46 @@
 package transitflow.prediction;
 
+import transitflow.simulation.DiscreteEventKernel;
 import transitflow.simulation.SimulationState;
+import transitflow.simulation.SimulationStateSnapshot;
 import transitflow.domain.shipment.Shipment;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class PredictionSnapshotFactory {
 
+    /**
+     * Snapshots the state as it is now. Must be called on the thread
+     * advancing the state; readers on other threads build snapshots
+     * from {@link SimulationState#getPublishedSnapshot()} instead.
+     */
     public static PredictionSnapshot fromSimulationState(SimulationState state) {
+        Optional<SimulationStateSnapshot> published = state.currentSnapshot();
+        if (published.isPresent()) {
+            // O(1): the version is immutable and consistent with one tick
+            return new PredictionSnapshot(published.get());
+        }
+
+        Optional<DiscreteEventKernel> kernel = state.getEventKernel();
+        if (kernel.isPresent()) {
+            // Pending progress is applied to the copies only, live state stays untouched
+            return new PredictionSnapshot(
+                    state.getCurrentTime(),
+                    kernel.get().copyShipments(),
+                    List.copyOf(state.getDelayEvents())
+            );
+        }
+
+        if (state.getShipmentStore().isPresent()) {
+            return new PredictionSnapshot(
+                    state.getCurrentTime(),
+                    state.getShipmentStore().get().copy(),
+                    List.copyOf(state.getDelayEvents())
+            );
+        }
+
         return new PredictionSnapshot(
                 state.getCurrentTime(),
                 deepCopyShipments(state.getActiveShipments()),
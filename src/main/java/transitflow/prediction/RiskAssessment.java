@@ -5,6 +5,9 @@ package transitflow.prediction;
  *
  * This class interprets predictions but does not influence
  * simulation or prediction behavior.
+ *
+ * The delay risk score is the probability, between 0 and 1, that
+ * customer delivery happens later than the deterministic prediction.
  */
 public class RiskAssessment {
 
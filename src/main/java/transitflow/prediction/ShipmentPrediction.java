@@ -1,34 +1,59 @@
 package transitflow.prediction;
 
-import transitflow.domain.shipment.Shipment;
-
 import java.time.Instant;
+import java.util.Optional;
 
 /**
  * Predicted outcome for a single shipment.
+ *
+ * Shipments that do not complete within the prediction horizon carry
+ * no completion or delivery time.
  */
 public class ShipmentPrediction {
 
     private final String shipmentId;
-    private final Instant predictedCompletionTime;
+    private final ArrivalEstimate arrivalEstimate;
 
-    private ShipmentPrediction(String shipmentId, Instant predictedCompletionTime) {
+    private ShipmentPrediction(String shipmentId, ArrivalEstimate arrivalEstimate) {
         this.shipmentId = shipmentId;
-        this.predictedCompletionTime = predictedCompletionTime;
+        this.arrivalEstimate = arrivalEstimate;
+    }
+
+    public static ShipmentPrediction from(String trackingNumber, ArrivalEstimate arrivalEstimate) {
+        return new ShipmentPrediction(trackingNumber, arrivalEstimate);
     }
 
-    public static ShipmentPrediction from(Shipment shipment, Instant snapshotTime) {
-        return new ShipmentPrediction(
-                shipment.toString(), // temporary identifier
-                snapshotTime
-        );
+    /**
+     * Creates a prediction for a shipment still in transit at the end
+     * of the prediction horizon.
+     */
+    public static ShipmentPrediction inTransit(String trackingNumber) {
+        return new ShipmentPrediction(trackingNumber, null);
     }
 
+    /**
+     * Returns the shipment's tracking number.
+     */
     public String getShipmentId() {
         return shipmentId;
     }
 
-    public Instant getPredictedCompletionTime() {
-        return predictedCompletionTime;
+    public boolean isComplete() {
+        return arrivalEstimate != null;
+    }
+
+    public Optional<ArrivalEstimate> getArrivalEstimate() {
+        return Optional.ofNullable(arrivalEstimate);
+    }
+
+    /**
+     * Returns the predicted terminal arrival at the final destination.
+     */
+    public Optional<Instant> getPredictedCompletionTime() {
+        return getArrivalEstimate().map(ArrivalEstimate::getTerminalArrival);
+    }
+
+    public Optional<Instant> getPredictedDeliveryTime() {
+        return getArrivalEstimate().map(ArrivalEstimate::getCustomerDelivery);
     }
 }
@@ -1,4 +1,56 @@
-package main.java.transitflow.repo;
+package transitflow.repo;
 
-public class DelayEventRepository {
+import transitflow.domain.delay.DelayEvent;
+import transitflow.simulation.DelayArchive;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Bounded in-memory audit log of expired delay events.
+ *
+ * Retains the most recent expired delays up to a fixed capacity,
+ * discarding the oldest once full, so archival never grows memory
+ * without bound. Attach it with
+ * {@link transitflow.simulation.SimulationState#setDelayArchive} to a
+ * state that is advanced over time; delays only expire as ticks pass.
+ */
+public class DelayEventRepository implements DelayArchive {
+
+    private final int capacity;
+    private final Deque<DelayEvent> expired;
+    private long archivedCount;
+
+    public DelayEventRepository(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.expired = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public synchronized void archive(DelayEvent delay) {
+        if (expired.size() == capacity) {
+            expired.removeFirst();
+        }
+        expired.addLast(delay);
+        archivedCount++;
+    }
+
+    /**
+     * Returns the retained expired delays, oldest first.
+     */
+    public synchronized List<DelayEvent> findRecent() {
+        return List.copyOf(expired);
+    }
+
+    /**
+     * Returns the total number of delays archived, including those
+     * no longer retained.
+     */
+    public synchronized long getArchivedCount() {
+        return archivedCount;
+    }
 }
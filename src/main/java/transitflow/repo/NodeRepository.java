@@ -1,4 +1,42 @@
-package main.java.transitflow.repo;
+package transitflow.repo;
 
+import org.springframework.stereotype.Component;
+import transitflow.domain.route.Terminal;
+import transitflow.domain.route.TerminalRegistry;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository of network nodes, backed by a {@link TerminalRegistry} so
+ * each terminal code resolves to one shared instance with a dense id.
+ */
+@Component
 public class NodeRepository {
+
+    private final TerminalRegistry registry = new TerminalRegistry();
+
+    /**
+     * Stores the terminal, returning the shared instance for its code.
+     * Callers should use the returned terminal from then on.
+     */
+    public Terminal save(Terminal terminal) {
+        return registry.intern(terminal);
+    }
+
+    public Optional<Terminal> findByCode(String code) {
+        return registry.findByCode(code);
+    }
+
+    public Terminal findById(int registryId) {
+        return registry.get(registryId);
+    }
+
+    public List<Terminal> findAll() {
+        return registry.getAll();
+    }
+
+    public TerminalRegistry getRegistry() {
+        return registry;
+    }
 }
@@ -1,4 +1,74 @@
-package main.java.transitflow.repo;
+package transitflow.repo;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import transitflow.delivery.DeliveryPolicyRegistry;
+import transitflow.domain.network.LaneTravelTime;
+import transitflow.domain.network.NetworkGraph;
+import transitflow.domain.network.NetworkLoader;
+import transitflow.domain.network.NetworkPath;
+import transitflow.domain.route.Route;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repository of routes over the transport network, which is loaded
+ * once at startup from the configured lanes file. Terminal delivery
+ * policies come from the shared {@link DeliveryPolicyRegistry}.
+ */
+@Component
 public class RouteRepository {
+
+    private final NodeRepository nodeRepository;
+    private final NetworkGraph network;
+
+    public RouteRepository(
+            NodeRepository nodeRepository,
+            DeliveryPolicyRegistry deliveryPolicies,
+            @Value("${network.lanes-file:classpath:network/lanes.csv}") Resource lanesFile
+    ) {
+        this.nodeRepository = nodeRepository;
+
+        try (Reader reader = new InputStreamReader(lanesFile.getInputStream(), StandardCharsets.UTF_8)) {
+            this.network = NetworkLoader.load(reader, nodeRepository.getRegistry(), deliveryPolicies);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load network from " + lanesFile, e);
+        }
+    }
+
+    public NetworkGraph getNetwork() {
+        return network;
+    }
+
+    /**
+     * Returns the fastest route between two terminals departing at the
+     * given time, with every lane at its base transit time.
+     */
+    public Optional<Route> findFastestRoute(String fromCode, String toCode, Instant departure) {
+        return findFastestPath(fromCode, toCode, departure, LaneTravelTime.FREE_FLOW)
+                .filter(path -> !path.getSegments().isEmpty())
+                .map(NetworkPath::toRoute);
+    }
+
+    /**
+     * Returns the earliest-arrival path between two terminals under
+     * the given time-dependent lane durations.
+     */
+    public Optional<NetworkPath> findFastestPath(
+            String fromCode,
+            String toCode,
+            Instant departure,
+            LaneTravelTime travelTime
+    ) {
+        return nodeRepository.findByCode(fromCode).flatMap(from ->
+                nodeRepository.findByCode(toCode).flatMap(to ->
+                        network.fastestPath(from, to, departure, travelTime)));
+    }
 }
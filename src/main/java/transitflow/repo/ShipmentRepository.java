@@ -1,4 +1,267 @@
-package main.java.transitflow.repo;
+package transitflow.repo;
 
-public class ShipmentRepository {
+import org.springframework.stereotype.Component;
+import transitflow.domain.shipment.Shipment;
+import transitflow.domain.shipment.ShipmentStatus;
+import transitflow.simulation.ShipmentTracker;
+import transitflow.simulation.SimulationState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Concurrent in-memory repository of shipments keyed by tracking
+ * number, with secondary indexes by status, final destination code
+ * and the destination code of the current segment.
+ *
+ * Shipments are spread over a fixed number of lock stripes by
+ * tracking number, so writers to different stripes never contend.
+ * A shipment's index entries are only changed while its stripe is
+ * held, and index lookups read concurrent sets without locking, so
+ * dashboard queries neither scan the store nor block writers. Index
+ * queries are weakly consistent: a shipment being re-indexed may be
+ * missing from one query.
+ *
+ * Stored shipments must only be changed through
+ * {@link #update(String, Consumer)}, which changes them under their
+ * stripe and re-indexes them. In this application that is the only
+ * path that keeps the indexes current: no production code advances
+ * the stored shipments in a simulation. A simulation that does must
+ * register this repository as its tracker (see
+ * {@link SimulationState#setShipmentTracker}), or the indexes go
+ * stale as it moves them. Lookups return copies taken under the
+ * stripe, never the stored shipment itself.
+ */
+@Component
+public class ShipmentRepository implements ShipmentTracker {
+
+    private static final int STRIPES = 16;
+
+    /**
+     * Keys a shipment is currently indexed under.
+     */
+    private static final class Entry {
+
+        private final Shipment shipment;
+        private final ShipmentStatus status;
+        private final String destinationCode;
+        private final String nextTerminalCode;
+
+        private Entry(Shipment shipment) {
+            this.shipment = shipment;
+            this.status = shipment.getStatus();
+            this.destinationCode = shipment.getFinalDestination().getCode();
+            this.nextTerminalCode = nextTerminalCodeOf(shipment);
+        }
+
+        /**
+         * Returns whether the shipment is still indexed under the keys
+         * it has now.
+         */
+        private boolean isIndexedAs(Shipment current) {
+            return status == current.getStatus()
+                    && Objects.equals(nextTerminalCode, nextTerminalCodeOf(current));
+        }
+
+        private static String nextTerminalCodeOf(Shipment shipment) {
+            return shipment.hasMoreSegments()
+                    ? shipment.getCurrentSegment().getDestination().getCode()
+                    : null;
+        }
+    }
+
+    private static final class Stripe {
+
+        private final Map<String, Entry> entries = new HashMap<>();
+    }
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    private final Map<ShipmentStatus, Set<Shipment>> byStatus = new EnumMap<>(ShipmentStatus.class);
+    private final Map<String, Set<Shipment>> byDestination = new ConcurrentHashMap<>();
+    private final Map<String, Set<Shipment>> byNextTerminal = new ConcurrentHashMap<>();
+
+    public ShipmentRepository() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        // Filled once, then only read, so safe without locking
+        for (ShipmentStatus status : ShipmentStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Stores the shipment, replacing any with the same tracking number.
+     */
+    public void save(Shipment shipment) {
+        Stripe stripe = stripeOf(shipment.getTrackingNumber());
+
+        synchronized (stripe) {
+            Entry entry = new Entry(shipment);
+            Entry previous = stripe.entries.put(shipment.getTrackingNumber(), entry);
+
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(entry);
+        }
+    }
+
+    public Optional<Shipment> findByTrackingId(String trackingId) {
+        Stripe stripe = stripeOf(trackingId);
+
+        synchronized (stripe) {
+            Entry entry = stripe.entries.get(trackingId);
+            return entry != null ? Optional.of(entry.shipment.copy()) : Optional.empty();
+        }
+    }
+
+    /**
+     * Applies a change, such as advancing it, to a stored shipment and
+     * re-indexes it. Other changes to the same stripe wait meanwhile.
+     *
+     * @return a copy of the changed shipment, or empty if none is stored
+     */
+    public Optional<Shipment> update(String trackingId, Consumer<Shipment> change) {
+        Stripe stripe = stripeOf(trackingId);
+
+        synchronized (stripe) {
+            Entry previous = stripe.entries.get(trackingId);
+            if (previous == null) {
+                return Optional.empty();
+            }
+
+            change.accept(previous.shipment);
+            reindex(stripe, previous);
+
+            return Optional.of(previous.shipment.copy());
+        }
+    }
+
+    /**
+     * Applies a change the simulation makes to a shipment under its
+     * stripe, and re-indexes it if it is the one stored. Changes that
+     * leave its status and segment alone, as most ticks do, touch no
+     * index. Only called for simulations that registered this
+     * repository as their tracker.
+     */
+    @Override
+    public void update(Shipment shipment, Consumer<Shipment> change) {
+        Stripe stripe = stripeOf(shipment.getTrackingNumber());
+
+        synchronized (stripe) {
+            change.accept(shipment);
+
+            Entry previous = stripe.entries.get(shipment.getTrackingNumber());
+            if (previous != null && previous.shipment == shipment) {
+                reindex(stripe, previous);
+            }
+        }
+    }
+
+    /**
+     * Removes a shipment.
+     *
+     * @return whether one was stored
+     */
+    public boolean delete(String trackingId) {
+        Stripe stripe = stripeOf(trackingId);
+
+        synchronized (stripe) {
+            Entry previous = stripe.entries.remove(trackingId);
+            if (previous != null) {
+                unindex(previous);
+            }
+            return previous != null;
+        }
+    }
+
+    public List<Shipment> findByStatus(ShipmentStatus status) {
+        return snapshotOf(byStatus.get(status));
+    }
+
+    /**
+     * Returns shipments whose route ends at the given terminal.
+     */
+    public List<Shipment> findByDestination(String terminalCode) {
+        return snapshotOf(byDestination.get(terminalCode));
+    }
+
+    /**
+     * Returns shipments currently on a segment into the given terminal.
+     */
+    public List<Shipment> findInboundTo(String terminalCode) {
+        return snapshotOf(byNextTerminal.get(terminalCode));
+    }
+
+    public int count() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.entries.size();
+            }
+        }
+        return count;
+    }
+
+    private void reindex(Stripe stripe, Entry previous) {
+        if (previous.isIndexedAs(previous.shipment)) {
+            return;
+        }
+
+        Entry entry = new Entry(previous.shipment);
+        stripe.entries.put(entry.shipment.getTrackingNumber(), entry);
+        unindex(previous);
+        index(entry);
+    }
+
+    private void index(Entry entry) {
+        byStatus.get(entry.status).add(entry.shipment);
+        byDestination.computeIfAbsent(entry.destinationCode, code -> ConcurrentHashMap.newKeySet())
+                .add(entry.shipment);
+
+        if (entry.nextTerminalCode != null) {
+            byNextTerminal.computeIfAbsent(entry.nextTerminalCode, code -> ConcurrentHashMap.newKeySet())
+                    .add(entry.shipment);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        byStatus.get(entry.status).remove(entry.shipment);
+        // Emptied sets are kept: terminal codes are few and reused
+        byDestination.get(entry.destinationCode).remove(entry.shipment);
+
+        if (entry.nextTerminalCode != null) {
+            byNextTerminal.get(entry.nextTerminalCode).remove(entry.shipment);
+        }
+    }
+
+    private Stripe stripeOf(String trackingId) {
+        int hash = trackingId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private List<Shipment> snapshotOf(Set<Shipment> shipments) {
+        if (shipments == null) {
+            return Collections.emptyList();
+        }
+
+        List<Shipment> copies = new ArrayList<>(shipments.size());
+        for (Shipment shipment : shipments) {
+            synchronized (stripeOf(shipment.getTrackingNumber())) {
+                copies.add(shipment.copy());
+            }
+        }
+        return copies;
+    }
 }
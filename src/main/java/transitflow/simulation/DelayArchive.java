@@ -0,0 +1,13 @@
+package transitflow.simulation;
+
+import transitflow.domain.delay.DelayEvent;
+
+/**
+ * Receives delay events once they expire and leave live
+ * simulation state, e.g. for auditing or persistence.
+ */
+@FunctionalInterface
+public interface DelayArchive {
+
+    void archive(DelayEvent delay);
+}
@@ -5,17 +5,52 @@ import transitflow.domain.route.Terminal;
 import transitflow.domain.shipment.Shipment;
 import transitflow.integration.weather.WeatherDelayService;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Injects external delays into simulation state before each tick.
+ *
+ * Weather delays are scoped to a terminal, so each call collects the
+ * distinct next terminals of all shipments in transit and resolves
+ * every terminal exactly once, in a single batched forecast lookup.
+ * The resulting location-scoped delay then applies to every shipment
+ * heading there. Terminals are resolved in the order shipments first
+ * reference them. Condition changes reported on the state by an
+ * earlier call are cleared first, so the state afterwards holds the
+ * next change of the conditions just evaluated.
+ */
 @Component
 public class DelayCoordinator {
 
     private final WeatherDelayService weatherDelayService;
 
+    private final LongAdder shipmentsVisited = new LongAdder();
+    private final LongAdder terminalLookups = new LongAdder();
+
     public DelayCoordinator(WeatherDelayService weatherDelayService) {
         this.weatherDelayService = weatherDelayService;
     }
 
     public void applyExternalDelays(SimulationState state) {
 
+        state.clearConditionChanges();
+
+        Map<String, Terminal> nextTerminals = new LinkedHashMap<>();
+        long visited = 0;
+
+        ShipmentStore store = state.getShipmentStore().orElse(null);
+        if (store != null) {
+            for (int row = 0; row < store.size(); row++) {
+                if (store.hasMoreSegments(row)) {
+                    Terminal destination = store.getCurrentSegment(row).getDestination();
+                    nextTerminals.putIfAbsent(destination.getCode(), destination);
+                    visited++;
+                }
+            }
+        }
+
         for (Shipment shipment : state.getActiveShipments()) {
 
             if (!shipment.hasMoreSegments()) {
@@ -25,7 +60,31 @@ public class DelayCoordinator {
             Terminal destination =
                     shipment.getCurrentSegment().getDestination();
 
-            weatherDelayService.applyWeatherDelays(state, destination);
+            nextTerminals.putIfAbsent(destination.getCode(), destination);
+            visited++;
         }
+
+        // One batched forecast round trip for the whole tick
+        weatherDelayService.applyWeatherDelays(state, nextTerminals.values());
+
+        shipmentsVisited.add(visited);
+        terminalLookups.add(nextTerminals.size());
+    }
+
+    /**
+     * Returns the total number of in-transit shipments inspected
+     * across all calls.
+     */
+    public long getShipmentsVisited() {
+        return shipmentsVisited.sum();
+    }
+
+    /**
+     * Returns the total number of terminal weather resolutions
+     * performed across all calls, at most one per distinct terminal
+     * per call.
+     */
+    public long getTerminalLookups() {
+        return terminalLookups.sum();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,179 @@
+package transitflow.simulation;
+
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.route.Segment;
+import transitflow.transport.TransportModeFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Indexes delay events by scope so that blocked checks cost a few
+ * hash probes instead of a scan over every recorded delay.
+ *
+ * <p>For blocking purposes only the latest end time per scope key
+ * matters, so each scope (global, transport mode, segment, location)
+ * maps its key to that instant. A min-heap ordered by end time lets
+ * expired keys be dropped without rescanning the index.</p>
+ */
+public class DelayIndex {
+
+    private static final class Entry {
+
+        private final Instant end;
+        private final DelayEvent delay;
+
+        private Entry(Instant end, DelayEvent delay) {
+            this.end = end;
+            this.delay = delay;
+        }
+    }
+
+    private Instant globalEnd;
+    private final Instant[] byMode = new Instant[TransportModeFactory.MODE_COUNT];
+    private final Map<UUID, Instant> bySegment = new HashMap<>();
+    private final Map<String, Instant> byLocation = new HashMap<>();
+
+    private final PriorityQueue<Entry> byExpiry =
+            new PriorityQueue<>(Comparator.comparing((Entry entry) -> entry.end));
+
+    /**
+     * Adds a delay to the index under every scope it targets.
+     */
+    public void add(DelayEvent delay) {
+        Instant end = endOf(delay);
+
+        if (isGlobal(delay)) {
+            globalEnd = later(globalEnd, end);
+        }
+
+        delay.getTransportMode().ifPresent(mode ->
+                byMode[mode.getOrdinal()] = later(byMode[mode.getOrdinal()], end));
+        delay.getSegmentId().ifPresent(id -> bySegment.merge(id, end, DelayIndex::later));
+        delay.getLocationId().ifPresent(code -> byLocation.merge(code, end, DelayIndex::later));
+
+        byExpiry.add(new Entry(end, delay));
+    }
+
+    /**
+     * Returns whether any delay active at the given instant applies
+     * to the segment.
+     */
+    public boolean isBlocked(Segment segment, Instant at) {
+        return blockedUntil(segment, at) != null;
+    }
+
+    /**
+     * Returns the latest end of all delays active at the given instant
+     * that apply to the segment, or {@code null} if none do.
+     */
+    public Instant blockedUntil(Segment segment, Instant at) {
+        Instant until = activeAt(globalEnd, at);
+
+        until = later(until, activeAt(byMode[segment.getTransportModeOrdinal()], at));
+        until = later(until, activeAt(bySegment.get(segment.getId()), at));
+        until = later(until, activeAt(byLocation.get(segment.getDestination().getCode()), at));
+
+        return until;
+    }
+
+    /**
+     * Returns the earliest end among indexed delays, or {@code null}
+     * if there are none. Assumes {@link #expire} has been called for
+     * the given instant.
+     */
+    public Instant nextExpiry(Instant now) {
+        return byExpiry.isEmpty() ? null : activeAt(byExpiry.peek().end, now);
+    }
+
+    /**
+     * Drops every delay that expired before the given instant and
+     * returns them in expiry order. Allocates nothing on ticks where
+     * no delay expires.
+     */
+    public List<DelayEvent> expire(Instant now) {
+        if (byExpiry.isEmpty() || !byExpiry.peek().end.isBefore(now)) {
+            return List.of();
+        }
+
+        List<DelayEvent> expired = new ArrayList<>();
+
+        while (!byExpiry.isEmpty() && byExpiry.peek().end.isBefore(now)) {
+            DelayEvent delay = byExpiry.poll().delay;
+            expired.add(delay);
+
+            if (isGlobal(delay) && globalEnd != null && globalEnd.isBefore(now)) {
+                globalEnd = null;
+            }
+
+            delay.getTransportMode().ifPresent(mode -> {
+                Instant modeEnd = byMode[mode.getOrdinal()];
+                if (modeEnd != null && modeEnd.isBefore(now)) {
+                    byMode[mode.getOrdinal()] = null;
+                }
+            });
+            delay.getSegmentId().ifPresent(id -> removeExpired(bySegment, id, now));
+            delay.getLocationId().ifPresent(code -> removeExpired(byLocation, code, now));
+        }
+
+        return expired;
+    }
+
+    /**
+     * Returns the number of delays not yet dropped from the index.
+     */
+    public int size() {
+        return byExpiry.size();
+    }
+
+    /**
+     * Returns whether the delay targets the segment under any of its
+     * scopes, regardless of when it is active. Mirrors the scope
+     * resolution of {@link #blockedUntil}.
+     */
+    public static boolean appliesTo(DelayEvent delay, Segment segment) {
+        return isGlobal(delay)
+                || delay.getTransportMode()
+                        .map(mode -> mode.getOrdinal() == segment.getTransportModeOrdinal())
+                        .orElse(false)
+                || delay.getSegmentId().map(segment.getId()::equals).orElse(false)
+                || delay.getLocationId().map(segment.getDestination().getCode()::equals).orElse(false);
+    }
+
+    static Instant endOf(DelayEvent delay) {
+        return delay.getOccurredAt().plus(delay.getDuration());
+    }
+
+    private static boolean isGlobal(DelayEvent delay) {
+        return delay.getTransportMode().isEmpty()
+                && delay.getSegmentId().isEmpty()
+                && delay.getLocationId().isEmpty();
+    }
+
+    private static <K> void removeExpired(Map<K, Instant> scope, K key, Instant now) {
+        Instant end = scope.get(key);
+        if (end != null && end.isBefore(now)) {
+            scope.remove(key);
+        }
+    }
+
+    private static Instant activeAt(Instant end, Instant at) {
+        return end == null || end.isBefore(at) ? null : end;
+    }
+
+    private static Instant later(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return b.isAfter(a) ? b : a;
+    }
+}
@@ -0,0 +1,480 @@
+package transitflow.simulation;
+
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.route.Segment;
+import transitflow.domain.route.Terminal;
+import transitflow.domain.shipment.Shipment;
+import transitflow.transport.TransportModeFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Discrete-event kernel that advances a {@link SimulationState}
+ * by processing timestamped events from a min-heap instead of
+ * visiting every active shipment on every tick.
+ *
+ * <p>Events are segment completions, delay expirations that may
+ * unblock a shipment, and scheduled weather checks per terminal.
+ * Shipments with no event due are not touched; their progress within
+ * the current segment is materialized lazily when an event, a new
+ * delay or {@link #synchronize()} requires it.</p>
+ *
+ * <p>All events fall on the kernel's tick grid, so the outcome is
+ * identical to calling {@link SimulationEngine#tick} once per grid
+ * tick. The set of shipments is fixed when the kernel is enabled.</p>
+ */
+public class DiscreteEventKernel {
+
+    private enum EventType {
+        // Declaration order breaks ties between events at the same instant
+        SEGMENT_COMPLETION,
+        WEATHER_CHECK,
+        DELAY_EXPIRY
+    }
+
+    private static final class ScheduledEvent implements Comparable<ScheduledEvent> {
+
+        private final Instant time;
+        private final EventType type;
+        private final long sequence;
+        private final Progress progress;
+        private final long version;
+        private final String terminalCode;
+
+        private ScheduledEvent(
+                Instant time,
+                EventType type,
+                long sequence,
+                Progress progress,
+                String terminalCode
+        ) {
+            this.time = time;
+            this.type = type;
+            this.sequence = sequence;
+            this.progress = progress;
+            this.version = progress == null ? 0 : progress.version;
+            this.terminalCode = terminalCode;
+        }
+
+        @Override
+        public int compareTo(ScheduledEvent other) {
+            int byTime = time.compareTo(other.time);
+            if (byTime != 0) {
+                return byTime;
+            }
+            int byType = type.compareTo(other.type);
+            if (byType != 0) {
+                return byType;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Lazily materialized progress of a single shipment.
+     */
+    private static final class Progress {
+
+        private final Shipment shipment;
+
+        // Instant up to which advance() has been applied, null while blocked
+        private Instant syncedAt;
+        private Instant blockedUntil;
+        private long version;
+
+        // Boundaries the current block began at and the last one ended at
+        private Instant blockedSince;
+        private Instant resumedAt;
+
+        private Progress(Shipment shipment) {
+            this.shipment = shipment;
+        }
+    }
+
+    private final SimulationState state;
+    private final Duration tickSize;
+    private final Instant origin;
+
+    private final PriorityQueue<ScheduledEvent> queue = new PriorityQueue<>();
+    private final List<Progress> tracked;
+
+    // Indexed by transport mode ordinal
+    private final List<Set<Progress>> byMode = new ArrayList<>(TransportModeFactory.MODE_COUNT);
+    private final Map<UUID, Set<Progress>> bySegment = new HashMap<>();
+    private final Map<String, Set<Progress>> byLocation = new HashMap<>();
+
+    private final Map<String, Terminal> weatherCheckTerminals = new HashMap<>();
+    private BiConsumer<SimulationState, Terminal> weatherCheck;
+    private Duration weatherCheckInterval;
+
+    private final Deque<DelayEvent> newDelays = new ArrayDeque<>();
+    private long sequence;
+
+    DiscreteEventKernel(SimulationState state, Duration tickSize) {
+        if (tickSize.isZero() || tickSize.isNegative()) {
+            throw new IllegalArgumentException("Tick size must be positive");
+        }
+
+        this.state = state;
+        this.tickSize = tickSize;
+        this.origin = state.getCurrentTime();
+        for (int mode = 0; mode < TransportModeFactory.MODE_COUNT; mode++) {
+            byMode.add(new LinkedHashSet<>());
+        }
+        this.tracked = state.getActiveShipments().stream()
+                .map(Progress::new)
+                .toList();
+        this.newDelays.addAll(state.getDelayEvents());
+
+        for (Progress progress : tracked) {
+            if (progress.shipment.hasMoreSegments()) {
+                enterSegment(progress, origin);
+            }
+        }
+    }
+
+    /**
+     * Registers a recurring weather check for every terminal that has
+     * shipments inbound on their current segment. Checks run at the
+     * given interval while the terminal has inbound shipments.
+     */
+    public void scheduleWeatherChecks(
+            BiConsumer<SimulationState, Terminal> check,
+            Duration interval
+    ) {
+        if (interval.isZero() || interval.isNegative()
+                || !interval.equals(tickSize.multipliedBy(interval.dividedBy(tickSize)))) {
+            throw new IllegalArgumentException(
+                    "Weather check interval must be a positive multiple of the tick size");
+        }
+
+        this.weatherCheck = check;
+        this.weatherCheckInterval = interval;
+
+        for (Map.Entry<String, Set<Progress>> entry : byLocation.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                scheduleWeatherCheck(entry.getValue().iterator().next(), state.getCurrentTime());
+            }
+        }
+    }
+
+    /**
+     * Advances simulated time by the given duration, which must be a
+     * multiple of the kernel's tick size, processing every event that
+     * falls due along the way.
+     */
+    public void advance(Duration duration) {
+        if (!duration.equals(tickSize.multipliedBy(duration.dividedBy(tickSize)))) {
+            throw new IllegalArgumentException(
+                    "Duration must be a multiple of the kernel tick size " + tickSize);
+        }
+
+        Instant target = state.getCurrentTime().plus(duration);
+
+        // Delays injected since the last call apply from the current boundary
+        processNewDelays();
+
+        while (!queue.isEmpty() && !queue.peek().time.isAfter(target)) {
+            ScheduledEvent event = queue.poll();
+
+            if (event.progress != null && event.version != event.progress.version) {
+                continue; // superseded
+            }
+
+            moveTo(event.time);
+
+            switch (event.type) {
+                case SEGMENT_COMPLETION -> completeSegment(event.progress, event.time);
+                case WEATHER_CHECK -> runWeatherCheck(event.terminalCode, event.time);
+                case DELAY_EXPIRY -> reevaluateBlocked(event.progress, event.time);
+            }
+
+            processNewDelays();
+        }
+
+        moveTo(target);
+    }
+
+    /**
+     * Materializes pending progress so that every shipment reflects
+     * the current simulated time. Call before reading elapsed segment
+     * time or status from outside the kernel.
+     */
+    public void synchronize() {
+        Instant now = state.getCurrentTime();
+
+        for (Progress progress : tracked) {
+            if (progress.syncedAt != null) {
+                sync(progress, now);
+            }
+
+            progress.shipment.setDelayed(isDelayed(progress, now));
+        }
+    }
+
+    /**
+     * Returns copies of the tracked shipments as they stand at the
+     * current simulated time, without materializing progress on the
+     * shipments themselves, so taking a snapshot never changes state.
+     */
+    public List<Shipment> copyShipments() {
+        Instant now = state.getCurrentTime();
+        List<Shipment> copies = new ArrayList<>(tracked.size());
+
+        for (Progress progress : tracked) {
+            Shipment copy = progress.shipment.copy();
+
+            if (progress.syncedAt != null) {
+                copy.advance(Duration.between(progress.syncedAt, now));
+            }
+            copy.setDelayed(isDelayed(progress, now));
+
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    /**
+     * Returns the number of events currently scheduled, including
+     * superseded ones not yet discarded.
+     */
+    public int pendingEvents() {
+        return queue.size();
+    }
+
+    private void moveTo(Instant time) {
+        Instant now = state.getCurrentTime();
+        if (time.isAfter(now)) {
+            state.advanceTime(Duration.between(now, time));
+        }
+    }
+
+    private void completeSegment(Progress progress, Instant at) {
+        leaveSegment(progress);
+        sync(progress, at);
+
+        if (progress.shipment.hasMoreSegments()) {
+            enterSegment(progress, at);
+        } else {
+            progress.syncedAt = null;
+        }
+    }
+
+    private void runWeatherCheck(String terminalCode, Instant at) {
+        Set<Progress> inbound = byLocation.get(terminalCode);
+
+        if (inbound == null || inbound.isEmpty()) {
+            weatherCheckTerminals.remove(terminalCode);
+            return;
+        }
+
+        Terminal terminal = weatherCheckTerminals.get(terminalCode);
+        weatherCheck.accept(state, terminal);
+
+        schedule(new ScheduledEvent(
+                at.plus(weatherCheckInterval),
+                EventType.WEATHER_CHECK,
+                sequence++,
+                null,
+                terminalCode
+        ));
+    }
+
+    private void reevaluateBlocked(Progress progress, Instant at) {
+        if (!progress.blockedUntil.isBefore(at.plus(tickSize))) {
+            // Extended by a delay injected while blocked
+            block(progress, progress.blockedUntil);
+            return;
+        }
+
+        progress.blockedUntil = null;
+        progress.blockedSince = null;
+        progress.resumedAt = at;
+        run(progress, at);
+    }
+
+    /**
+     * Starts tracking the shipment's current segment at the given
+     * boundary and schedules its next event.
+     */
+    private void enterSegment(Progress progress, Instant at) {
+        Segment segment = progress.shipment.getCurrentSegment();
+
+        byMode.get(segment.getTransportModeOrdinal()).add(progress);
+        bySegment.computeIfAbsent(segment.getId(), k -> new LinkedHashSet<>()).add(progress);
+        byLocation.computeIfAbsent(segment.getDestination().getCode(), k -> new LinkedHashSet<>()).add(progress);
+
+        if (weatherCheck != null) {
+            scheduleWeatherCheck(progress, at);
+        }
+
+        Instant blockedUntil = state.getDelayIndex()
+                .blockedUntil(segment, at.plus(tickSize));
+
+        if (blockedUntil != null) {
+            progress.syncedAt = null;
+            progress.blockedSince = at;
+            block(progress, blockedUntil);
+        } else {
+            run(progress, at);
+        }
+    }
+
+    private void leaveSegment(Progress progress) {
+        Segment segment = progress.shipment.getCurrentSegment();
+
+        byMode.get(segment.getTransportModeOrdinal()).remove(progress);
+        bySegment.get(segment.getId()).remove(progress);
+        byLocation.get(segment.getDestination().getCode()).remove(progress);
+    }
+
+    private void scheduleWeatherCheck(Progress progress, Instant at) {
+        Terminal destination = progress.shipment.getCurrentSegment().getDestination();
+
+        if (weatherCheckTerminals.putIfAbsent(destination.getCode(), destination) == null) {
+            schedule(new ScheduledEvent(
+                    at,
+                    EventType.WEATHER_CHECK,
+                    sequence++,
+                    null,
+                    destination.getCode()
+            ));
+        }
+    }
+
+    private void run(Progress progress, Instant from) {
+        progress.syncedAt = from;
+        progress.version++;
+
+        Duration remaining = progress.shipment.getRemainingInCurrentSegment();
+        long ticks = Math.max(1, ceilTicks(remaining));
+
+        schedule(new ScheduledEvent(
+                from.plus(tickSize.multipliedBy(ticks)),
+                EventType.SEGMENT_COMPLETION,
+                sequence++,
+                progress,
+                null
+        ));
+    }
+
+    private void block(Progress progress, Instant until) {
+        progress.blockedUntil = until;
+        progress.version++;
+
+        // The first unblocked tick is the one ending after the delay
+        schedule(new ScheduledEvent(
+                floorToGrid(until),
+                EventType.DELAY_EXPIRY,
+                sequence++,
+                progress,
+                null
+        ));
+    }
+
+    /**
+     * Queues a delay recorded on the state for processing at the
+     * next event boundary.
+     */
+    void delayAdded(DelayEvent delay) {
+        newDelays.add(delay);
+    }
+
+    private void processNewDelays() {
+        Instant now = state.getCurrentTime();
+
+        while (!newDelays.isEmpty()) {
+            DelayEvent delay = newDelays.poll();
+            Instant end = DelayIndex.endOf(delay);
+
+            // Only delays still active at the end of the next tick matter
+            if (end.isBefore(now.plus(tickSize))) {
+                continue;
+            }
+
+            for (Progress progress : affectedBy(delay)) {
+                if (progress.syncedAt != null) {
+                    sync(progress, now);
+                    progress.syncedAt = null;
+                    progress.blockedSince = now;
+                    block(progress, end);
+                } else if (end.isAfter(progress.blockedUntil)) {
+                    progress.blockedUntil = end;
+                }
+            }
+        }
+    }
+
+    private Set<Progress> affectedBy(DelayEvent delay) {
+        Set<Progress> affected = new LinkedHashSet<>();
+
+        if (delay.getTransportMode().isEmpty()
+                && delay.getSegmentId().isEmpty()
+                && delay.getLocationId().isEmpty()) {
+            for (Set<Progress> onMode : byMode) {
+                affected.addAll(onMode);
+            }
+            return affected;
+        }
+
+        delay.getTransportMode()
+                .map(mode -> byMode.get(mode.getOrdinal()))
+                .ifPresent(affected::addAll);
+        delay.getSegmentId()
+                .map(bySegment::get)
+                .ifPresent(affected::addAll);
+        delay.getLocationId()
+                .map(byLocation::get)
+                .ifPresent(affected::addAll);
+
+        return affected;
+    }
+
+    /**
+     * Returns whether the shipment was held during the tick ending at
+     * the given boundary, as ticking would have marked it.
+     */
+    private static boolean isDelayed(Progress progress, Instant now) {
+        return (progress.blockedSince != null && progress.blockedSince.isBefore(now))
+                || now.equals(progress.resumedAt);
+    }
+
+    private void sync(Progress progress, Instant to) {
+        Duration pending = Duration.between(progress.syncedAt, to);
+
+        if (!pending.isZero()) {
+            progress.shipment.advance(pending);
+        }
+
+        progress.syncedAt = to;
+    }
+
+    private void schedule(ScheduledEvent event) {
+        queue.add(event);
+    }
+
+    private long ceilTicks(Duration remaining) {
+        long ticks = remaining.dividedBy(tickSize);
+        if (tickSize.multipliedBy(ticks).compareTo(remaining) < 0) {
+            ticks++;
+        }
+        return ticks;
+    }
+
+    private Instant floorToGrid(Instant instant) {
+        long ticks = Duration.between(origin, instant).dividedBy(tickSize);
+        return origin.plus(tickSize.multipliedBy(ticks));
+    }
+}
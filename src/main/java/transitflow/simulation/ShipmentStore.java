@@ -0,0 +1,280 @@
+package transitflow.simulation;
+
+import transitflow.domain.route.Route;
+import transitflow.domain.route.Segment;
+import transitflow.domain.shipment.Shipment;
+import transitflow.domain.shipment.ShipmentStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar (structure-of-arrays) store of shipment progress for
+ * simulations with very large fleets.
+ *
+ * Each shipment is a row index into primitive columns: route id,
+ * current segment index, elapsed nanoseconds in the current segment
+ * and status ordinal. Routes are interned once with their cached
+ * segment transit times, so advancing a shipment is plain long
+ * arithmetic with no allocation.
+ *
+ * Advancement semantics are identical to {@link Shipment#advance}.
+ * The store is not thread-safe, but distinct rows may be advanced
+ * concurrently.
+ */
+public class ShipmentStore {
+
+    private static final ShipmentStatus[] STATUSES = ShipmentStatus.values();
+    private static final byte IN_TRANSIT = (byte) ShipmentStatus.IN_TRANSIT.ordinal();
+    private static final byte DELAYED = (byte) ShipmentStatus.DELAYED.ordinal();
+    private static final byte ARRIVED = (byte) ShipmentStatus.ARRIVED_AT_TERMINAL.ordinal();
+
+    // Route table, shared between copies since routes are immutable
+    private final Map<Route, Integer> routeIds;
+    private final List<Route> routes;
+    private final List<Segment[]> routeSegments;
+    private final List<long[]> routeTransitNanos;
+
+    private String[] trackingNumbers;
+    private int[] routeId;
+    private int[] segmentIndex;
+    private long[] elapsedNanos;
+    private byte[] status;
+    private int size;
+
+    public ShipmentStore() {
+        this(16);
+    }
+
+    public ShipmentStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+
+        this.routeIds = new IdentityHashMap<>();
+        this.routes = new ArrayList<>();
+        this.routeSegments = new ArrayList<>();
+        this.routeTransitNanos = new ArrayList<>();
+
+        this.trackingNumbers = new String[capacity];
+        this.routeId = new int[capacity];
+        this.segmentIndex = new int[capacity];
+        this.elapsedNanos = new long[capacity];
+        this.status = new byte[capacity];
+    }
+
+    private ShipmentStore(ShipmentStore original) {
+        this.routeIds = new IdentityHashMap<>(original.routeIds);
+        this.routes = new ArrayList<>(original.routes);
+        this.routeSegments = new ArrayList<>(original.routeSegments);
+        this.routeTransitNanos = new ArrayList<>(original.routeTransitNanos);
+
+        this.trackingNumbers = Arrays.copyOf(original.trackingNumbers, original.size);
+        this.routeId = Arrays.copyOf(original.routeId, original.size);
+        this.segmentIndex = Arrays.copyOf(original.segmentIndex, original.size);
+        this.elapsedNanos = Arrays.copyOf(original.elapsedNanos, original.size);
+        this.status = Arrays.copyOf(original.status, original.size);
+        this.size = original.size;
+    }
+
+    /**
+     * Creates an independent copy of this store for prediction use.
+     * Only the progress columns are copied.
+     */
+    public ShipmentStore copy() {
+        return new ShipmentStore(this);
+    }
+
+    /**
+     * Adds a new shipment at the start of its route and returns
+     * its row index.
+     */
+    public int add(String trackingNumber, Route route) {
+        return add(trackingNumber, route, 0, 0L, ShipmentStatus.IN_TRANSIT);
+    }
+
+    /**
+     * Adds an existing shipment, preserving its current progress,
+     * and returns its row index.
+     */
+    public int add(Shipment shipment) {
+        return add(
+                shipment.getTrackingNumber(),
+                shipment.getRoute(),
+                shipment.getCurrentSegmentIndex(),
+                shipment.getElapsedNanosInCurrentSegment(),
+                shipment.getStatus()
+        );
+    }
+
+    private int add(
+            String trackingNumber,
+            Route route,
+            int currentSegment,
+            long elapsed,
+            ShipmentStatus shipmentStatus
+    ) {
+        ensureCapacity(size + 1);
+
+        int row = size++;
+        trackingNumbers[row] = trackingNumber;
+        routeId[row] = internRoute(route);
+        segmentIndex[row] = currentSegment;
+        elapsedNanos[row] = elapsed;
+        status[row] = (byte) shipmentStatus.ordinal();
+
+        return row;
+    }
+
+    /**
+     * Advances the shipment in the given row by the given number of
+     * nanoseconds, carrying leftover time across segment boundaries.
+     */
+    public void advance(int row, long tickNanos) {
+        long[] transit = routeTransitNanos.get(routeId[row]);
+        int segment = segmentIndex[row];
+
+        if (segment >= transit.length) {
+            return;
+        }
+
+        long elapsed = elapsedNanos[row];
+        long remainingTick = tickNanos;
+
+        while (segment < transit.length && remainingTick > 0) {
+            long remainingSegment = transit[segment] - elapsed;
+
+            if (remainingTick >= remainingSegment) {
+                // Finish segment
+                remainingTick -= remainingSegment;
+                elapsed = 0;
+                segment++;
+            } else {
+                // Partial progress
+                elapsed += remainingTick;
+                remainingTick = 0;
+            }
+        }
+
+        segmentIndex[row] = segment;
+        elapsedNanos[row] = elapsed;
+
+        if (segment >= transit.length) {
+            status[row] = ARRIVED;
+        }
+    }
+
+    /**
+     * Marks the shipment in the given row as held up by a delay, or as
+     * moving again. Has no effect once it has completed its route.
+     */
+    public void setDelayed(int row, boolean delayed) {
+        if (hasMoreSegments(row)) {
+            status[row] = delayed ? DELAYED : IN_TRANSIT;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean hasMoreSegments(int row) {
+        return segmentIndex[row] < routeTransitNanos.get(routeId[row]).length;
+    }
+
+    /**
+     * Returns whether any shipment still has segments to complete.
+     */
+    public boolean hasShipmentsInTransit() {
+        for (int row = 0; row < size; row++) {
+            if (hasMoreSegments(row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Segment getCurrentSegment(int row) {
+        return routeSegments.get(routeId[row])[segmentIndex[row]];
+    }
+
+    public int getCurrentSegmentIndex(int row) {
+        return segmentIndex[row];
+    }
+
+    public long getElapsedNanos(int row) {
+        return elapsedNanos[row];
+    }
+
+    /**
+     * Returns the transit time, in nanoseconds, still required to
+     * complete the current segment.
+     */
+    public long getRemainingNanos(int row) {
+        return routeTransitNanos.get(routeId[row])[segmentIndex[row]] - elapsedNanos[row];
+    }
+
+    /**
+     * Returns the transit time, in nanoseconds, still required to
+     * complete the whole route, ignoring any delays.
+     */
+    public long getRemainingRouteNanos(int row) {
+        return routes.get(routeId[row]).getRemainingTransitNanos(segmentIndex[row], elapsedNanos[row]);
+    }
+
+    public String getTrackingNumber(int row) {
+        return trackingNumbers[row];
+    }
+
+    public Route getRoute(int row) {
+        return routes.get(routeId[row]);
+    }
+
+    public ShipmentStatus getStatus(int row) {
+        return STATUSES[status[row]];
+    }
+
+    /**
+     * Returns the number of distinct routes interned by this store.
+     */
+    public int routeCount() {
+        return routes.size();
+    }
+
+    private int internRoute(Route route) {
+        Integer existing = routeIds.get(route);
+        if (existing != null) {
+            return existing;
+        }
+
+        List<Segment> segments = route.getSegments();
+        Segment[] segmentArray = segments.toArray(new Segment[0]);
+        long[] transit = new long[segmentArray.length];
+
+        for (int i = 0; i < segmentArray.length; i++) {
+            transit[i] = route.getSegmentTransitNanos(i);
+        }
+
+        int id = routes.size();
+        routes.add(route);
+        routeSegments.add(segmentArray);
+        routeTransitNanos.add(transit);
+        routeIds.put(route, id);
+
+        return id;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= trackingNumbers.length) {
+            return;
+        }
+
+        int capacity = Math.max(required, trackingNumbers.length * 2);
+        trackingNumbers = Arrays.copyOf(trackingNumbers, capacity);
+        routeId = Arrays.copyOf(routeId, capacity);
+        segmentIndex = Arrays.copyOf(segmentIndex, capacity);
+        elapsedNanos = Arrays.copyOf(elapsedNanos, capacity);
+        status = Arrays.copyOf(status, capacity);
+    }
+}
@@ -0,0 +1,27 @@
+package transitflow.simulation;
+
+import transitflow.domain.shipment.Shipment;
+
+import java.util.function.Consumer;
+
+/**
+ * Applies every change the simulation engine makes to a shipment
+ * object, so an owner of those shipments, such as a repository with
+ * secondary indexes, can make it under its own locking and keep
+ * derived state current.
+ */
+@FunctionalInterface
+public interface ShipmentTracker {
+
+    /**
+     * Tracker that applies changes directly, used by default.
+     */
+    ShipmentTracker DIRECT = (shipment, change) -> change.accept(shipment);
+
+    /**
+     * Applies the change to the shipment. For large states this is
+     * called from fork-join workers, concurrently for distinct
+     * shipments.
+     */
+    void update(Shipment shipment, Consumer<Shipment> change);
+}
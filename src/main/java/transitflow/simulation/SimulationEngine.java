@@ -1,88 +1,315 @@
 package transitflow.simulation;
 
-import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.route.Segment;
 import transitflow.domain.shipment.Shipment;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 
 /**
  * Delay handling:
  * - Active delays block shipment advancement
  * - Simulation time always advances
- * - Delay applicability is currently global
- *   and will be refined in future iterations
+ * - Delays apply globally or to a transport mode, segment
+ *   or destination terminal, resolved through {@link DelayIndex}
+ * - Holds block a single shipment; see
+ *   {@link SimulationState#holdShipment(int, Instant)}. A hold ending
+ *   within a tick only withholds the held part of that tick's progress
+ * - Blocked shipments are marked DELAYED until they move again
+ *
+ * Changes to shipment objects are applied through the state's
+ * {@link ShipmentTracker}, so owners such as a repository see them.
+ *
+ * States with a {@link DiscreteEventKernel} enabled are advanced by
+ * the kernel instead of visiting every shipment on each tick.
+ *
+ * Large states are advanced in parallel fork-join chunks. Shipments
+ * are independent within a tick, so the result is identical to the
+ * serial path (SRS NFR-1).
+ *
+ * Every completed tick is published as an immutable
+ * {@link SimulationStateSnapshot} when a concurrent reader asked for
+ * one; see {@link SimulationState#getPublishedSnapshot()}.
  */
 @Component
 public class SimulationEngine {
 
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+    private static final int DEFAULT_CHUNK_SIZE = 2_048;
+
+    private final int parallelThreshold;
+    private final int chunkSize;
+
+    public SimulationEngine() {
+        this(DEFAULT_PARALLEL_THRESHOLD, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param parallelThreshold minimum number of active shipments before
+     *                          a tick is split across the fork-join pool
+     * @param chunkSize         number of shipments each fork-join leaf
+     *                          advances sequentially
+     */
+    @Autowired
+    public SimulationEngine(
+            @Value("${simulation.parallel.threshold:" + DEFAULT_PARALLEL_THRESHOLD + "}")
+            int parallelThreshold,
+            @Value("${simulation.parallel.chunk-size:" + DEFAULT_CHUNK_SIZE + "}")
+            int chunkSize
+    ) {
+        if (parallelThreshold < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException(
+                    "Parallel threshold and chunk size must be positive");
+        }
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = chunkSize;
+    }
+
     public void tick(SimulationState state, Duration tickSize) {
+        if (state.getEventKernel().isPresent()) {
+            // Only shipments with an event due are touched
+            state.getEventKernel().get().advance(tickSize);
+            return;
+        }
+
         state.advanceTime(tickSize);
 
-        for (Shipment shipment : state.getActiveShipments()) {
-            if (isShipmentBlockedByDelay(state, shipment)) {
-                continue;
-            }
+        ShipmentStore store = state.getShipmentStore().orElse(null);
+        List<Shipment> shipments = state.getActiveShipments();
+        int size = store != null ? store.size() : shipments.size();
 
-            shipment.advance(tickSize);
+        if (store == null && !(shipments instanceof RandomAccess)) {
+            shipments = List.copyOf(shipments);
+        }
+
+        if (size >= parallelThreshold) {
+            // Each shipment only reads shared delay state and mutates
+            // itself, so partitioned results equal the serial loop.
+            ForkJoinPool.commonPool().invoke(
+                    new TickTask(state, shipments, tickSize, 0, size));
+        } else {
+            advanceRange(state, shipments, tickSize, 0, size);
         }
-    }
 
-    private boolean delayExpired(DelayEvent delay, Instant now) {
-        return delay.getOccurredAt()
-                .plus(delay.getDuration())
-                .isBefore(now);
+        state.publishSnapshot();
     }
 
-    private boolean isShipmentBlockedByDelay(
+    private void advanceRange(
             SimulationState state,
-            Shipment shipment
+            List<Shipment> shipments,
+            Duration tickSize,
+            int from,
+            int to
     ) {
+        if (state.getShipmentStore().isPresent()) {
+            advanceStoreRange(state, state.getShipmentStore().get(), tickSize.toNanos(), from, to);
+            return;
+        }
+
+        long tickNanos = tickSize.toNanos();
+        ShipmentTracker tracker = state.getShipmentTracker();
         Instant now = state.getCurrentTime();
+        Instant tickStart = now.minus(tickSize);
 
-        if (!shipment.hasMoreSegments()) {
-            return false;
-        }
+        // Built once per range, not per shipment
+        Consumer<Shipment> hold = shipment -> shipment.setDelayed(true);
+        Consumer<Shipment> move = shipment -> {
+            shipment.setDelayed(false);
+            shipment.advance(tickNanos);
+        };
 
-        var currentSegment = shipment.getCurrentSegment();
+        for (int i = from; i < to; i++) {
+            Shipment shipment = shipments.get(i);
+
+            if (!shipment.hasMoreSegments()) {
+                continue;
+            }
+
+            long heldNanos = state.heldNanos(i, tickStart, now);
+
+            if (isShipmentBlockedByDelay(state, shipment) || heldNanos >= tickNanos) {
+                tracker.update(shipment, hold);
+            } else if (heldNanos == 0) {
+                tracker.update(shipment, move);
+            } else {
+                tracker.update(shipment, released -> {
+                    released.setDelayed(false);
+                    released.advance(tickNanos - heldNanos);
+                });
+            }
+        }
+    }
 
-        for (DelayEvent delay : state.getDelayEvents()) {
+    private void advanceStoreRange(
+            SimulationState state,
+            ShipmentStore store,
+            long tickNanos,
+            int from,
+            int to
+    ) {
+        DelayIndex delays = state.getDelayIndex();
+        Instant now = state.getCurrentTime();
+        Instant tickStart = now.minusNanos(tickNanos);
 
-            if (delayExpired(delay, now)) {
+        for (int row = from; row < to; row++) {
+            if (!store.hasMoreSegments(row)) {
                 continue;
             }
 
-            // GLOBAL delay
-            if (delay.getTransportMode().isEmpty()
-                    && delay.getSegmentId().isEmpty()
-                    && delay.getLocationId().isEmpty()) {
-                return true;
+            long heldNanos = state.heldNanos(row, tickStart, now);
+            boolean blocked = delays.isBlocked(store.getCurrentSegment(row), now)
+                    || heldNanos >= tickNanos;
+
+            store.setDelayed(row, blocked);
+            if (!blocked) {
+                store.advance(row, tickNanos - heldNanos);
             }
+        }
+    }
+
+    /**
+     * Advances a contiguous range of shipments, splitting in halves
+     * until a range fits within the configured chunk size.
+     */
+    private final class TickTask extends RecursiveAction {
 
-            // Transport mode scoped delay
-            if (delay.getTransportMode().isPresent()
-                    && currentSegment.getTransportMode()
-                    .equals(delay.getTransportMode().get())) {
-                return true;
+        private static final long serialVersionUID = 1L;
+
+        private final SimulationState state;
+        private final List<Shipment> shipments;
+        private final Duration tickSize;
+        private final int from;
+        private final int to;
+
+        private TickTask(
+                SimulationState state,
+                List<Shipment> shipments,
+                Duration tickSize,
+                int from,
+                int to
+        ) {
+            this.state = state;
+            this.shipments = shipments;
+            this.tickSize = tickSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                advanceRange(state, shipments, tickSize, from, to);
+                return;
             }
 
-            // Segment scoped delay
-            if (delay.getSegmentId().isPresent()
-                    && currentSegment.getId()
-                    .equals(delay.getSegmentId().get())) {
-                return true;
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new TickTask(state, shipments, tickSize, from, mid),
+                    new TickTask(state, shipments, tickSize, mid, to)
+            );
+        }
+    }
+
+    /**
+     * Returns how many consecutive ticks of the given size can be
+     * collapsed into a single {@link #tick} call without changing the
+     * outcome compared to ticking one step at a time.
+     *
+     * <p>The window ends on the tick in which the next meaningful
+     * event happens: a shipment completes its current segment, a
+     * blocked shipment becomes unblocked, or any active delay expires.
+     * Callers that inject external delays between ticks must do so
+     * idempotently while a matching delay is still active, as
+     * {@code WeatherDelayService} does.</p>
+     *
+     * <p>Always returns at least one tick.</p>
+     */
+    public long ticksUntilNextEvent(SimulationState state, Duration tickSize) {
+        Instant now = state.getCurrentTime();
+        long ticks = Long.MAX_VALUE;
+
+        // Any expiry may re-enable delay injection on the following step
+        Instant nextExpiry = state.getDelayIndex().nextExpiry(now);
+        if (nextExpiry != null) {
+            ticks = Duration.between(now, nextExpiry).dividedBy(tickSize) + 1;
+        }
+
+        ShipmentStore store = state.getShipmentStore().orElse(null);
+
+        if (store != null) {
+            for (int row = 0; row < store.size(); row++) {
+                if (store.hasMoreSegments(row)) {
+                    ticks = Math.min(ticks, ticksUntilNextEvent(
+                            state, row, store.getCurrentSegment(row),
+                            Duration.ofNanos(store.getRemainingNanos(row)), tickSize));
+                }
             }
+        }
 
-            // Location scoped delay
-            if (delay.getLocationId().isPresent()
-                    && currentSegment.getDestination()
-                    .getCode()
-                    .equals(delay.getLocationId().get())) {
-                return true;
+        List<Shipment> shipments = state.getActiveShipments();
+        for (int i = 0; i < shipments.size(); i++) {
+            Shipment shipment = shipments.get(i);
+            if (shipment.hasMoreSegments()) {
+                ticks = Math.min(ticks, ticksUntilNextEvent(
+                        state, i, shipment.getCurrentSegment(),
+                        shipment.getRemainingInCurrentSegment(), tickSize));
             }
         }
 
-        return false;
+        return ticks == Long.MAX_VALUE ? 1 : Math.max(1, ticks);
+    }
+
+    private long ticksUntilNextEvent(
+            SimulationState state,
+            int position,
+            Segment currentSegment,
+            Duration remaining,
+            Duration tickSize
+    ) {
+        Instant now = state.getCurrentTime();
+        Instant blockedUntil = state.getDelayIndex()
+                .blockedUntil(currentSegment, now.plus(tickSize));
+
+        Instant heldUntil = state.heldUntil(position, now.plus(tickSize));
+        if (heldUntil != null && (blockedUntil == null || heldUntil.isAfter(blockedUntil))) {
+            blockedUntil = heldUntil;
+        }
+
+        if (blockedUntil != null) {
+            // Stay blocked up to, but not including, the unblocking tick
+            return Duration.between(now, blockedUntil).dividedBy(tickSize);
+        }
+
+        // A hold ending within the next tick withholds part of it
+        long heldNanos = state.heldNanos(position, now, now.plus(tickSize));
+        return ceilTicks(remaining.plusNanos(heldNanos), tickSize);
+    }
+
+    private long ceilTicks(Duration remaining, Duration tickSize) {
+        long ticks = remaining.dividedBy(tickSize);
+        if (tickSize.multipliedBy(ticks).compareTo(remaining) < 0) {
+            ticks++;
+        }
+        return ticks;
+    }
+
+    private boolean isShipmentBlockedByDelay(
+            SimulationState state,
+            Shipment shipment
+    ) {
+        if (!shipment.hasMoreSegments()) {
+            return false;
+        }
+
+        return state.getDelayIndex()
+                .isBlocked(shipment.getCurrentSegment(), state.getCurrentTime());
     }
 }
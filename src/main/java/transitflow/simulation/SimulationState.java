@@ -1,33 +1,106 @@
 package transitflow.simulation;
 
 import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.delay.DelayType;
 import transitflow.domain.shipment.Shipment;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Holds the authoritative operational state of the simulation.
  *
  * The simulation state tracks the current simulated time, all
- * active shipments, and any delay events that have occurred.
+ * active shipments, and any delay events that are active or upcoming.
+ * Delays are moved to a {@link DelayArchive} once they expire, so live
+ * state stays bounded regardless of uptime. Weather delays are also
+ * indexed by terminal code, so the active delay at a terminal is found
+ * without scanning.
  *
  * It is mutated only by the simulation engine and serves as the
- * source of truth for prediction snapshots.
+ * source of truth for prediction snapshots. Immutable
+ * {@link SimulationStateSnapshot} versions are published lazily: a
+ * reader on another thread asks for one through
+ * {@link #getPublishedSnapshot()}, and the engine publishes it at the
+ * end of the next tick, so readers never copy or lock live state and
+ * ticks nobody observes copy nothing. Delays recorded during a tick
+ * are published with it, once.
  */
 public class SimulationState {
 
     private Instant currentTime;
     private final List<Shipment> activeShipments;
-    private final List<DelayEvent> delayEvents;
+    private final ShipmentStore shipmentStore;
+    // DelayEvent has identity equality, so expired delays are removed directly
+    private final Set<DelayEvent> delayEvents;
+    private List<DelayEvent> delayEventList;
+    private final DelayIndex delayIndex = new DelayIndex();
+    private final Map<String, DelayEvent> activeWeatherDelays = new HashMap<>();
+    private DelayArchive delayArchive = delay -> { };
+    private ShipmentTracker shipmentTracker = ShipmentTracker.DIRECT;
+    private DiscreteEventKernel eventKernel;
+    private Instant nextConditionChange;
+    private Instant[] holds;
+
+    private boolean publishing;
+    private boolean stale;
+    private boolean delaysChanged;
+    private volatile boolean snapshotRequested;
+    private volatile SimulationStateSnapshot published;
 
     public SimulationState(Instant startTime, List<Shipment> shipments) {
+        this(startTime, shipments, null, true);
+    }
+
+    /**
+     * Creates a state whose shipments are held in a columnar store
+     * instead of individual {@link Shipment} objects. Such states
+     * report no {@link #getActiveShipments() active shipment objects}.
+     */
+    public SimulationState(Instant startTime, ShipmentStore shipmentStore) {
+        this(startTime, List.of(), shipmentStore, true);
+    }
+
+    private SimulationState(
+            Instant startTime,
+            List<Shipment> shipments,
+            ShipmentStore shipmentStore,
+            boolean publishing
+    ) {
         this.currentTime = startTime;
         this.activeShipments = shipments;
-        this.delayEvents = new ArrayList<>();
+        this.shipmentStore = shipmentStore;
+        this.delayEvents = new LinkedHashSet<>();
+        this.publishing = publishing;
+
+        if (publishing) {
+            // Freezes only progress columns; shipments are not copied
+            this.published = SimulationStateSnapshot.empty(startTime)
+                    .next(startTime, shipments, shipmentStore, List.of());
+        }
+    }
+
+    /**
+     * Creates a private working state that never publishes snapshots,
+     * for simulations that are not observed concurrently such as
+     * prediction runs.
+     */
+    public static SimulationState detached(Instant startTime, List<Shipment> shipments) {
+        return new SimulationState(startTime, shipments, null, false);
+    }
+
+    /**
+     * Creates a private, store-backed working state that never
+     * publishes snapshots.
+     */
+    public static SimulationState detached(Instant startTime, ShipmentStore shipmentStore) {
+        return new SimulationState(startTime, List.of(), shipmentStore, false);
     }
 
     public Instant getCurrentTime() {
@@ -36,23 +109,296 @@ public class SimulationState {
 
     public void advanceTime(Duration duration) {
         this.currentTime = currentTime.plus(duration);
+        expireDelays();
     }
 
     public List<Shipment> getActiveShipments() {
         return activeShipments;
     }
 
+    public Optional<ShipmentStore> getShipmentStore() {
+        return Optional.ofNullable(shipmentStore);
+    }
+
+    /**
+     * Returns whether any shipment, object or columnar, still has
+     * route segments to complete.
+     */
+    public boolean hasShipmentsInTransit() {
+        if (shipmentStore != null) {
+            return shipmentStore.hasShipmentsInTransit();
+        }
+        return activeShipments.stream().anyMatch(Shipment::hasMoreSegments);
+    }
+
     /**
      * Records a delay event that occurred during simulation.
      */
     public void addDelayEvent(DelayEvent delayEvent) {
         this.delayEvents.add(delayEvent);
+        this.delayEventList = null;
+        this.delayIndex.add(delayEvent);
+        indexWeatherDelay(delayEvent);
+
+        if (eventKernel != null) {
+            eventKernel.delayAdded(delayEvent);
+        }
+
+        // Published with the next version, not once per delay
+        delaysChanged = true;
+        stale = true;
     }
 
     /**
-     * Returns an immutable view of all delay events recorded so far.
+     * Returns an immutable list of the delay events that have not yet
+     * expired, in the order they were recorded. The list is copied once
+     * per change to the recorded delays and shared until the next one.
      */
     public List<DelayEvent> getDelayEvents() {
-        return Collections.unmodifiableList(delayEvents);
+        if (delayEventList == null) {
+            delayEventList = List.copyOf(delayEvents);
+        }
+        return delayEventList;
+    }
+
+    /**
+     * Records that external conditions, such as a forecast severity,
+     * change at the given instant. Only the earliest future change
+     * since the last {@link #clearConditionChanges()} is kept.
+     */
+    public void reportConditionChange(Instant at) {
+        if (at.isAfter(currentTime)
+                && (nextConditionChange == null || at.isBefore(nextConditionChange))) {
+            nextConditionChange = at;
+        }
+    }
+
+    /**
+     * Forgets reported condition changes, before external conditions
+     * are evaluated afresh.
+     */
+    public void clearConditionChanges() {
+        nextConditionChange = null;
+    }
+
+    /**
+     * Returns the earliest reported future change of external
+     * conditions, if any.
+     */
+    public Optional<Instant> getNextConditionChange() {
+        return Optional.ofNullable(nextConditionChange);
+    }
+
+    /**
+     * Holds a single shipment in place until the given instant, without
+     * affecting other shipments on its segment. The shipment is its
+     * position in the active shipments, or its row in the shipment
+     * store.
+     */
+    public void holdShipment(int position, Instant until) {
+        if (eventKernel != null) {
+            throw new IllegalStateException("Shipment holds are not supported by the event kernel");
+        }
+        if (holds == null) {
+            holds = new Instant[shipmentStore != null ? shipmentStore.size() : activeShipments.size()];
+        }
+        if (holds[position] == null || until.isAfter(holds[position])) {
+            holds[position] = until;
+        }
+    }
+
+    /**
+     * Returns the end of the hold on a shipment if it is still held at
+     * the given instant, or {@code null}. Like delays, a hold still
+     * applies at the instant it ends.
+     */
+    public Instant heldUntil(int position, Instant at) {
+        Instant until = holds != null ? holds[position] : null;
+        return until == null || until.isBefore(at) ? null : until;
+    }
+
+    /**
+     * Returns how much of the interval from {@code from} to {@code to}
+     * a shipment is held for, in nanoseconds. A hold ending within the
+     * interval covers only its first part, so holds shorter than a
+     * tick still cost their exact length.
+     */
+    public long heldNanos(int position, Instant from, Instant to) {
+        Instant until = holds != null ? holds[position] : null;
+        if (until == null || !until.isAfter(from)) {
+            return 0;
+        }
+        return Duration.between(from, until.isBefore(to) ? until : to).toNanos();
+    }
+
+    /**
+     * Returns the active weather delay recorded at the given terminal,
+     * if any. When several overlap, the one ending last is returned.
+     */
+    public Optional<DelayEvent> getActiveWeatherDelay(String terminalCode) {
+        DelayEvent delay = activeWeatherDelays.get(terminalCode);
+
+        if (delay == null || endOf(delay).isBefore(currentTime)) {
+            return Optional.empty();
+        }
+        return Optional.of(delay);
+    }
+
+    /**
+     * Sets the sink that receives delay events once they expire.
+     * By default expired delays are discarded. Only worth setting on
+     * states that are ticked for a while; short-lived states, such as
+     * those built for a single prediction request, expire nothing.
+     */
+    public void setDelayArchive(DelayArchive delayArchive) {
+        this.delayArchive = delayArchive;
+    }
+
+    /**
+     * Sets the tracker through which the engine applies every change
+     * to a shipment object. By default changes are applied directly.
+     * Not supported together with an event kernel.
+     */
+    public void setShipmentTracker(ShipmentTracker shipmentTracker) {
+        if (eventKernel != null) {
+            throw new IllegalStateException("Shipment trackers are not supported by the event kernel");
+        }
+        this.shipmentTracker = shipmentTracker;
+    }
+
+    public ShipmentTracker getShipmentTracker() {
+        return shipmentTracker;
+    }
+
+    /**
+     * Returns the scope index over recorded delay events, used for
+     * blocked checks during simulation.
+     */
+    public DelayIndex getDelayIndex() {
+        return delayIndex;
+    }
+
+    /**
+     * Switches this state to discrete-event advancement on a grid of
+     * the given tick size. Shipment progress within a segment is then
+     * materialized lazily; see {@link DiscreteEventKernel#synchronize()}.
+     */
+    public DiscreteEventKernel enableEventKernel(Duration tickSize) {
+        if (eventKernel != null) {
+            throw new IllegalStateException("Event kernel already enabled");
+        }
+        if (shipmentStore != null) {
+            throw new IllegalStateException("Event kernel requires shipment objects");
+        }
+        if (shipmentTracker != ShipmentTracker.DIRECT) {
+            throw new IllegalStateException("Event kernel does not support shipment trackers");
+        }
+        this.eventKernel = new DiscreteEventKernel(this, tickSize);
+
+        // Lazily advanced progress cannot be published per tick
+        this.publishing = false;
+        this.published = null;
+
+        return eventKernel;
+    }
+
+    /**
+     * Returns the most recently published immutable version of this
+     * state and asks for a current one to be published at the end of
+     * the next tick. Safe to call from any thread; the version returned
+     * may lag the live state by one tick. Empty for detached states and
+     * states advanced by an event kernel, whose shipment progress is
+     * only materialized on demand.
+     */
+    public Optional<SimulationStateSnapshot> getPublishedSnapshot() {
+        snapshotRequested = true;
+        return Optional.ofNullable(published);
+    }
+
+    /**
+     * Publishes this state as it is now, unless the latest published
+     * version is already current, and returns that version. Must only
+     * be called on the thread advancing this state, between ticks.
+     */
+    public Optional<SimulationStateSnapshot> currentSnapshot() {
+        if (publishing && stale) {
+            publish();
+        }
+        return Optional.ofNullable(published);
+    }
+
+    /**
+     * Marks the end of a tick. Called by the simulation engine once all
+     * shipments have been advanced; publishes a new version only if a
+     * reader asked for one since the last.
+     */
+    void publishSnapshot() {
+        if (!publishing) {
+            return;
+        }
+
+        stale = true;
+        if (snapshotRequested) {
+            publish();
+        }
+    }
+
+    private void publish() {
+        snapshotRequested = false;
+
+        SimulationStateSnapshot previous = published;
+        List<DelayEvent> delays = delaysChanged
+                ? getDelayEvents()
+                : previous.getDelayEvents();
+
+        published = previous.next(currentTime, activeShipments, shipmentStore, delays);
+        stale = false;
+        delaysChanged = false;
+    }
+
+    public Optional<DiscreteEventKernel> getEventKernel() {
+        return Optional.ofNullable(eventKernel);
+    }
+
+    /**
+     * Moves delays that ended before the current time out of live
+     * state. The index yields them in expiry order and each is removed
+     * from the recorded delays directly, so only expired delays are
+     * visited.
+     */
+    private void expireDelays() {
+        List<DelayEvent> expired = delayIndex.expire(currentTime);
+
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        delayEventList = null;
+        delaysChanged = true;
+
+        for (DelayEvent delay : expired) {
+            delayEvents.remove(delay);
+            delay.getLocationId().ifPresent(code ->
+                    activeWeatherDelays.remove(code, delay));
+        }
+
+        expired.forEach(delayArchive::archive);
+    }
+
+    private void indexWeatherDelay(DelayEvent delay) {
+        if (delay.getType() != DelayType.WEATHER || delay.getLocationId().isEmpty()) {
+            return;
+        }
+
+        // Keep the delay that blocks the terminal longest
+        activeWeatherDelays.merge(
+                delay.getLocationId().get(),
+                delay,
+                (current, added) -> endOf(added).isAfter(endOf(current)) ? added : current
+        );
+    }
+
+    private static Instant endOf(DelayEvent delay) {
+        return delay.getOccurredAt().plus(delay.getDuration());
     }
 }
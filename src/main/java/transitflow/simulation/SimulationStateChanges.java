@@ -0,0 +1,52 @@
+package transitflow.simulation;
+
+import transitflow.domain.delay.DelayEvent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Inputs that changed between two published versions of a
+ * simulation state: shipments that moved to a new segment (or
+ * appeared) and delays that were added or expired.
+ *
+ * Progress within a segment is not reported, since it does not
+ * change a shipment's predicted outcome.
+ */
+public class SimulationStateChanges {
+
+    private final Set<UUID> advancedShipments;
+    private final List<DelayEvent> addedDelays;
+    private final List<DelayEvent> expiredDelays;
+
+    SimulationStateChanges(
+            Set<UUID> advancedShipments,
+            List<DelayEvent> addedDelays,
+            List<DelayEvent> expiredDelays
+    ) {
+        this.advancedShipments = Set.copyOf(advancedShipments);
+        this.addedDelays = List.copyOf(addedDelays);
+        this.expiredDelays = List.copyOf(expiredDelays);
+    }
+
+    /**
+     * Returns whether the shipment changed segment or is new since
+     * the earlier version.
+     */
+    public boolean hasAdvanced(UUID shipmentId) {
+        return advancedShipments.contains(shipmentId);
+    }
+
+    public Set<UUID> getAdvancedShipments() {
+        return advancedShipments;
+    }
+
+    public List<DelayEvent> getAddedDelays() {
+        return addedDelays;
+    }
+
+    public List<DelayEvent> getExpiredDelays() {
+        return expiredDelays;
+    }
+}
@@ -1,4 +1,329 @@
-package main.java.transitflow.simulation;
+package transitflow.simulation;
 
-public class SimulationStateSnapshot {
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.shipment.Shipment;
+import transitflow.domain.shipment.ShipmentStatus;
+
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable version of a {@link SimulationState}, published by the
+ * live state at the end of a tick once a reader asked for one.
+ *
+ * Only shipment progress is frozen: segment index, elapsed nanoseconds
+ * and status are held in primitive columns of fixed-size chunks, while
+ * identity and route are shared with the live shipments, which never
+ * change them. Publishing a version thus copies a few primitives per
+ * shipment in each chunk whose progress changed, allocates no
+ * shipments, and shares every unchanged chunk and the delay list with
+ * its predecessor. Readers obtain a view consistent with exactly one
+ * tick through a single reference read (SRS NFR-5).
+ *
+ * Frozen shipments are materialized on first read and must never be
+ * advanced; callers needing a mutable working set use
+ * {@link #copyShipments()}.
+ */
+public final class SimulationStateSnapshot {
+
+    static final int CHUNK_SIZE = 256;
+
+    private static final ShipmentStatus[] STATUSES = ShipmentStatus.values();
+    private static final ProgressChunk[] NO_CHUNKS = new ProgressChunk[0];
+
+    private final long version;
+    private final Instant currentTime;
+    private final ProgressChunk[] chunks;
+    private final int shipmentCount;
+    private final ShipmentStore shipmentStore;
+    private final List<DelayEvent> delayEvents;
+
+    private SimulationStateSnapshot(
+            long version,
+            Instant currentTime,
+            ProgressChunk[] chunks,
+            int shipmentCount,
+            ShipmentStore shipmentStore,
+            List<DelayEvent> delayEvents
+    ) {
+        this.version = version;
+        this.currentTime = currentTime;
+        this.chunks = chunks;
+        this.shipmentCount = shipmentCount;
+        this.shipmentStore = shipmentStore;
+        this.delayEvents = delayEvents;
+    }
+
+    /**
+     * Creates the first version of a state, before any progress has
+     * been frozen.
+     */
+    static SimulationStateSnapshot empty(Instant currentTime) {
+        return new SimulationStateSnapshot(
+                0, currentTime, NO_CHUNKS, 0, null, List.of());
+    }
+
+    /**
+     * Creates the next version from live state. Chunks without any
+     * change in progress or membership are shared as is.
+     *
+     * @param delayEvents immutable delay list, shared when unchanged
+     */
+    SimulationStateSnapshot next(
+            Instant time,
+            List<Shipment> liveShipments,
+            ShipmentStore liveStore,
+            List<DelayEvent> delayEvents
+    ) {
+        int size = liveShipments.size();
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        ProgressChunk[] nextChunks = new ProgressChunk[chunkCount];
+        Iterator<Shipment> live = liveShipments.iterator();
+
+        for (int c = 0; c < chunkCount; c++) {
+            int length = Math.min(CHUNK_SIZE, size - c * CHUNK_SIZE);
+            ProgressChunk previous = c < chunks.length ? chunks[c] : null;
+            nextChunks[c] = ProgressChunk.next(previous, live, length);
+        }
+
+        return new SimulationStateSnapshot(
+                version + 1,
+                time,
+                nextChunks,
+                size,
+                liveStore != null ? liveStore.copy() : null,
+                delayEvents
+        );
+    }
+
+    /**
+     * Returns a number that increases with every published version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getCurrentTime() {
+        return currentTime;
+    }
+
+    /**
+     * Returns a read-only view of the frozen shipments. The shipments
+     * are shared with other readers and versions and must not be
+     * advanced.
+     */
+    public List<Shipment> getShipments() {
+        return new ShipmentView();
+    }
+
+    /**
+     * Returns private, mutable copies of this version's shipments.
+     */
+    public List<Shipment> copyShipments() {
+        List<Shipment> copies = new ArrayList<>(shipmentCount);
+        for (ProgressChunk chunk : chunks) {
+            for (int i = 0; i < chunk.size(); i++) {
+                copies.add(chunk.materialize(i));
+            }
+        }
+        return copies;
+    }
+
+    /**
+     * Returns the frozen columnar store for store-backed states. The
+     * store is shared and must be copied before it is advanced.
+     */
+    public Optional<ShipmentStore> getShipmentStore() {
+        return Optional.ofNullable(shipmentStore);
+    }
+
+    public List<DelayEvent> getDelayEvents() {
+        return delayEvents;
+    }
+
+    /**
+     * Returns what changed since an earlier version of the same state.
+     * Chunks shared between the versions are skipped without being
+     * visited, so the cost follows the number of changed shipments.
+     */
+    public SimulationStateChanges changesSince(SimulationStateSnapshot earlier) {
+        Set<UUID> advanced = new HashSet<>();
+
+        for (int c = 0; c < chunks.length; c++) {
+            ProgressChunk chunk = chunks[c];
+            ProgressChunk previous = c < earlier.chunks.length ? earlier.chunks[c] : null;
+
+            if (chunk == previous) {
+                continue;
+            }
+
+            for (int i = 0; i < chunk.size(); i++) {
+                boolean known = previous != null
+                        && i < previous.size()
+                        && previous.identities[i] == chunk.identities[i];
+
+                if (!known || previous.segmentIndices[i] != chunk.segmentIndices[i]) {
+                    advanced.add(chunk.identities[i].getId());
+                }
+            }
+        }
+
+        if (delayEvents == earlier.delayEvents) {
+            return new SimulationStateChanges(advanced, List.of(), List.of());
+        }
+
+        return new SimulationStateChanges(
+                advanced,
+                missingFrom(delayEvents, earlier.delayEvents),
+                missingFrom(earlier.delayEvents, delayEvents)
+        );
+    }
+
+    private static List<DelayEvent> missingFrom(List<DelayEvent> source, List<DelayEvent> other) {
+        Set<DelayEvent> present = Collections.newSetFromMap(new IdentityHashMap<>());
+        present.addAll(other);
+
+        List<DelayEvent> missing = new ArrayList<>();
+        for (DelayEvent delay : source) {
+            if (!present.contains(delay)) {
+                missing.add(delay);
+            }
+        }
+        return missing;
+    }
+
+    private final class ShipmentView extends AbstractList<Shipment> implements RandomAccess {
+
+        @Override
+        public Shipment get(int index) {
+            if (index < 0 || index >= shipmentCount) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return chunks[index / CHUNK_SIZE].frozen(index % CHUNK_SIZE);
+        }
+
+        @Override
+        public int size() {
+            return shipmentCount;
+        }
+    }
+
+    /**
+     * Frozen progress of up to {@link #CHUNK_SIZE} consecutive
+     * shipments, in columns laid out like {@link ShipmentStore}.
+     */
+    private static final class ProgressChunk {
+
+        // Live shipments, only read for their immutable identity and route
+        final Shipment[] identities;
+        final int[] segmentIndices;
+        final long[] elapsedNanos;
+        final byte[] statuses;
+
+        // Frozen shipments, materialized once on first read
+        private final AtomicReferenceArray<Shipment> frozen;
+
+        private ProgressChunk(
+                Shipment[] identities,
+                int[] segmentIndices,
+                long[] elapsedNanos,
+                byte[] statuses
+        ) {
+            this.identities = identities;
+            this.segmentIndices = segmentIndices;
+            this.elapsedNanos = elapsedNanos;
+            this.statuses = statuses;
+            this.frozen = new AtomicReferenceArray<>(identities.length);
+        }
+
+        /**
+         * Freezes the next {@code length} live shipments, returning
+         * the previous chunk itself if none of them changed.
+         */
+        static ProgressChunk next(ProgressChunk previous, Iterator<Shipment> live, int length) {
+            boolean sameShape = previous != null && previous.size() == length;
+            Shipment[] identities = null;
+            int[] segmentIndices = null;
+            long[] elapsedNanos = null;
+            byte[] statuses = null;
+
+            for (int i = 0; i < length; i++) {
+                Shipment current = live.next();
+
+                if (segmentIndices == null && sameShape && previous.holds(i, current)) {
+                    continue;
+                }
+
+                if (segmentIndices == null) {
+                    // First change in this chunk: stop sharing it
+                    identities = sameShape ? previous.identities : new Shipment[length];
+                    segmentIndices = sameShape
+                            ? Arrays.copyOf(previous.segmentIndices, length)
+                            : new int[length];
+                    elapsedNanos = sameShape
+                            ? Arrays.copyOf(previous.elapsedNanos, length)
+                            : new long[length];
+                    statuses = sameShape
+                            ? Arrays.copyOf(previous.statuses, length)
+                            : new byte[length];
+                }
+
+                if (identities[i] != current) {
+                    if (sameShape && identities == previous.identities) {
+                        identities = identities.clone();
+                    }
+                    identities[i] = current;
+                }
+
+                segmentIndices[i] = current.getCurrentSegmentIndex();
+                elapsedNanos[i] = current.getElapsedNanosInCurrentSegment();
+                statuses[i] = (byte) current.getStatus().ordinal();
+            }
+
+            return segmentIndices != null
+                    ? new ProgressChunk(identities, segmentIndices, elapsedNanos, statuses)
+                    : previous;
+        }
+
+        int size() {
+            return identities.length;
+        }
+
+        Shipment frozen(int i) {
+            Shipment shipment = frozen.get(i);
+            if (shipment == null) {
+                Shipment created = materialize(i);
+                shipment = frozen.compareAndSet(i, null, created) ? created : frozen.get(i);
+            }
+            return shipment;
+        }
+
+        Shipment materialize(int i) {
+            return new Shipment(
+                    identities[i],
+                    segmentIndices[i],
+                    elapsedNanos[i],
+                    STATUSES[statuses[i]]
+            );
+        }
+
+        private boolean holds(int i, Shipment live) {
+            return identities[i] == live
+                    && segmentIndices[i] == live.getCurrentSegmentIndex()
+                    && elapsedNanos[i] == live.getElapsedNanosInCurrentSegment()
+                    && statuses[i] == live.getStatus().ordinal();
+        }
+    }
 }
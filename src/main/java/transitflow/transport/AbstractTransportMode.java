@@ -0,0 +1,43 @@
+package transitflow.transport;
+
+/**
+ * Base class for the built-in transport modes.
+ *
+ * Each mode is identified by its ordinal, so every instance of the
+ * same mode compares equal and hashes alike, whether or not it is the
+ * canonical instance. The built-in modes therefore keep the public
+ * constructors they had before canonical instances existed: code
+ * that still builds its own instance behaves exactly as if it had
+ * used the canonical one, and callers need not change.
+ */
+public abstract class AbstractTransportMode implements TransportMode {
+
+    private final int ordinal;
+
+    protected AbstractTransportMode(int ordinal) {
+        if (ordinal < 0 || ordinal >= TransportModeFactory.MODE_COUNT) {
+            throw new IllegalArgumentException("Invalid transport mode ordinal: " + ordinal);
+        }
+        this.ordinal = ordinal;
+    }
+
+    @Override
+    public final int getOrdinal() {
+        return ordinal;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TransportMode mode && mode.getOrdinal() == ordinal;
+    }
+
+    @Override
+    public int hashCode() {
+        return ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
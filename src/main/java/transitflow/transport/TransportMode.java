@@ -14,6 +14,13 @@ public interface TransportMode {
 
     String getName();
 
+    /**
+     * Returns the small, dense id of this mode, below
+     * {@link TransportModeFactory#MODE_COUNT}. Instances of the same
+     * mode share an ordinal.
+     */
+    int getOrdinal();
+
     /**
      * Base transit time for this mode over a given segment.
      * (Later we can factor in distance, congestion, weather, etc.)
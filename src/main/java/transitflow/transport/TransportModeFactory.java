@@ -9,17 +9,40 @@ import transitflow.transport.truck.TruckTransport;
  * Factory for creating transport mode implementations.
  *
  * Centralizes transport mode instantiation to avoid coupling
- * domain logic to concrete transport implementations.
+ * domain logic to concrete transport implementations. Modes are
+ * canonical singletons, indexed by their ordinal.
  */
 public class TransportModeFactory {
 
+    /**
+     * Number of transport modes; every ordinal is below this.
+     */
+    public static final int MODE_COUNT = 4;
+
+    private static final TransportMode[] BY_ORDINAL = {
+            TruckTransport.INSTANCE,
+            RailTransport.INSTANCE,
+            AirTransport.INSTANCE,
+            SeaTransport.INSTANCE
+    };
+
     public static TransportMode create(String mode) {
         return switch (mode.toUpperCase()) {
-            case "TRUCK" -> new TruckTransport();
-            case "RAIL" -> new RailTransport();
-            case "AIR" -> new AirTransport();
-            case "SEA" -> new SeaTransport();
+            case "TRUCK" -> TruckTransport.INSTANCE;
+            case "RAIL" -> RailTransport.INSTANCE;
+            case "AIR" -> AirTransport.INSTANCE;
+            case "SEA" -> SeaTransport.INSTANCE;
             default -> throw new IllegalArgumentException("Unknown transport mode: " + mode);
         };
     }
+
+    /**
+     * Returns the canonical mode with the given ordinal.
+     */
+    public static TransportMode of(int ordinal) {
+        if (ordinal < 0 || ordinal >= MODE_COUNT) {
+            throw new IllegalArgumentException("Unknown transport mode ordinal: " + ordinal);
+        }
+        return BY_ORDINAL[ordinal];
+    }
 }
@@ -1,14 +1,28 @@
 package transitflow.transport.air;
 
-import transitflow.transport.TransportMode;
+import transitflow.transport.AbstractTransportMode;
 import java.time.Duration;
 
 /**
  * Transport mode implementation representing air transportation.
  *
  * Provides baseline transit behavior for air-based route segments.
+ * Use the canonical {@link #INSTANCE}; other instances compare equal
+ * to it.
  */
-public class AirTransport implements TransportMode {
+public class AirTransport extends AbstractTransportMode {
+
+    public static final int ORDINAL = 2;
+
+    public static final AirTransport INSTANCE = new AirTransport();
+
+    /**
+     * Prefer {@link #INSTANCE}; this constructor stays public for
+     * existing callers, see {@link AbstractTransportMode}.
+     */
+    public AirTransport() {
+        super(ORDINAL);
+    }
 
     @Override
     public String getName() {
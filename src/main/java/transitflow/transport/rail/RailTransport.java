@@ -1,6 +1,6 @@
 package transitflow.transport.rail;
 
-import transitflow.transport.TransportMode;
+import transitflow.transport.AbstractTransportMode;
 
 import java.time.Duration;
 
@@ -8,8 +8,22 @@ import java.time.Duration;
  * Transport mode implementation representing rail transportation.
  *
  * Provides baseline transit behavior for rail-based route segments.
+ * Use the canonical {@link #INSTANCE}; other instances compare equal
+ * to it.
  */
-public class RailTransport implements TransportMode {
+public class RailTransport extends AbstractTransportMode {
+
+    public static final int ORDINAL = 1;
+
+    public static final RailTransport INSTANCE = new RailTransport();
+
+    /**
+     * Prefer {@link #INSTANCE}; this constructor stays public for
+     * existing callers, see {@link AbstractTransportMode}.
+     */
+    public RailTransport() {
+        super(ORDINAL);
+    }
 
     @Override
     public String getName() {
@@ -1,6 +1,6 @@
 package transitflow.transport.sea;
 
-import transitflow.transport.TransportMode;
+import transitflow.transport.AbstractTransportMode;
 
 import java.time.Duration;
 
@@ -8,8 +8,22 @@ import java.time.Duration;
  * Transport mode implementation representing sea transportation.
  *
  * Provides baseline transit behavior for sea-based route segments.
+ * Use the canonical {@link #INSTANCE}; other instances compare equal
+ * to it.
  */
-public class SeaTransport implements TransportMode {
+public class SeaTransport extends AbstractTransportMode {
+
+    public static final int ORDINAL = 3;
+
+    public static final SeaTransport INSTANCE = new SeaTransport();
+
+    /**
+     * Prefer {@link #INSTANCE}; this constructor stays public for
+     * existing callers, see {@link AbstractTransportMode}.
+     */
+    public SeaTransport() {
+        super(ORDINAL);
+    }
 
     @Override
     public String getName() {
@@ -1,6 +1,6 @@
 package transitflow.transport.truck;
 
-import transitflow.transport.TransportMode;
+import transitflow.transport.AbstractTransportMode;
 
 import java.time.Duration;
 
@@ -8,8 +8,22 @@ import java.time.Duration;
  * Transport mode implementation representing truck transportation.
  *
  * Provides baseline transit behavior for truck-based route segments.
+ * Use the canonical {@link #INSTANCE}; other instances compare equal
+ * to it.
  */
-public class TruckTransport implements TransportMode {
+public class TruckTransport extends AbstractTransportMode {
+
+    public static final int ORDINAL = 0;
+
+    public static final TruckTransport INSTANCE = new TruckTransport();
+
+    /**
+     * Prefer {@link #INSTANCE}; this constructor stays public for
+     * existing callers, see {@link AbstractTransportMode}.
+     */
+    public TruckTransport() {
+        super(ORDINAL);
+    }
 
     @Override
     public String getName() {
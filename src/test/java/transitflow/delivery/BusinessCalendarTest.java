@@ -1,4 +1,100 @@
 package transitflow.delivery;
 
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class BusinessCalendarTest {
+
+    private static final ZoneId CHICAGO = ZoneId.of("America/Chicago");
+
+    @Test
+    void weekendsAreNotBusinessDays() {
+        BusinessCalendar calendar = new BusinessCalendar(CHICAGO);
+
+        assertTrue(calendar.isBusinessDay(at(2026, 1, 9), false));   // Friday
+        assertFalse(calendar.isBusinessDay(at(2026, 1, 10), false)); // Saturday
+        assertTrue(calendar.isBusinessDay(at(2026, 1, 10), true));
+        assertEquals(at(2026, 1, 12), calendar.nextBusinessDay(at(2026, 1, 9), false));
+    }
+
+    /**
+     * Verifies that holidays are skipped, including across a year
+     * boundary and for holidays observed on a weekday.
+     */
+    @Test
+    void skipsHolidays() {
+        // Arrange
+        BusinessCalendar calendar = new BusinessCalendar(CHICAGO, Holidays.usFederal());
+
+        // Act & Assert: Thanksgiving 2026 is Thursday, November 26
+        assertFalse(calendar.isBusinessDay(at(2026, 11, 26), false));
+        assertEquals(at(2026, 11, 27), calendar.nextBusinessDay(at(2026, 11, 25), false));
+
+        // Christmas on Friday, then the weekend
+        assertEquals(at(2026, 12, 28), calendar.nextBusinessDay(at(2026, 12, 24), false));
+
+        // New Year's Day 2027 is a Friday
+        assertEquals(at(2027, 1, 4), calendar.nextBusinessDay(at(2026, 12, 31), false));
+
+        // Independence Day 2026 falls on Saturday, observed Friday
+        assertFalse(calendar.isBusinessDay(at(2026, 7, 3), false));
+
+        // Holidays stay closed even when weekends are allowed
+        assertFalse(calendar.isBusinessDay(at(2026, 12, 25), true));
+        assertEquals(at(2026, 12, 26), calendar.nextBusinessDay(at(2026, 12, 24), true));
+    }
+
+    /**
+     * Verifies the bitset lookups against a day-by-day reference over
+     * random dates and holiday sets.
+     */
+    @Test
+    void matchesDayByDayReference() {
+        Random random = new Random(21);
+        List<LocalDate> listed = List.of(
+                LocalDate.of(2030, 3, 4),
+                LocalDate.of(2030, 3, 5),
+                LocalDate.of(2031, 1, 1)
+        );
+        Holidays holidays = Holidays.of("TEST", listed);
+        BusinessCalendar calendar = new BusinessCalendar(CHICAGO, holidays);
+
+        for (int i = 0; i < 5_000; i++) {
+            LocalDate date = LocalDate.of(2029, 1, 1).plusDays(random.nextInt(3 * 365));
+            boolean allowWeekends = random.nextBoolean();
+
+            assertEquals(
+                    isOpen(date, allowWeekends, listed),
+                    calendar.isBusinessDay(date.toEpochDay(), allowWeekends),
+                    date.toString());
+
+            LocalDate expected = date.plusDays(1);
+            while (!isOpen(expected, allowWeekends, listed)) {
+                expected = expected.plusDays(1);
+            }
+            assertEquals(expected.toEpochDay(), calendar.nextBusinessDay(date.toEpochDay(), allowWeekends));
+        }
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private static boolean isOpen(LocalDate date, boolean allowWeekends, List<LocalDate> holidays) {
+        boolean weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY
+                || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+        return (allowWeekends || !weekend) && !holidays.contains(date);
+    }
+
+    private static ZonedDateTime at(int year, int month, int day) {
+        return ZonedDateTime.of(year, month, day, 10, 0, 0, 0, CHICAGO);
+    }
 }
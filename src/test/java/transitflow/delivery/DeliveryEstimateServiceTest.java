@@ -2,12 +2,16 @@ package transitflow.delivery;
 
 import org.junit.jupiter.api.Test;
 import transitflow.domain.route.Terminal;
+import transitflow.domain.route.TerminalRegistry;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Tests DeliveryEstimateService behavior.
@@ -48,4 +52,62 @@ class DeliveryEstimateServiceTest {
                 "Delivery time should match arrival when before cut-off"
         );
     }
+
+    /**
+     * Verifies that bulk estimation over mixed terminals matches the
+     * single-arrival estimate truncated to milliseconds.
+     */
+    @Test
+    void bulkEstimatesMatchSingleEstimates() {
+        // Arrange
+        DeliveryEstimateService service = new DeliveryEstimateService();
+        TerminalRegistry terminals = new TerminalRegistry();
+
+        terminals.register("CHI", "Chicago", new StandardDeliveryPolicy(
+                ZoneId.of("America/Chicago"), LocalTime.of(6, 0), Holidays.usFederal()));
+        terminals.register("LAX", "Los Angeles", new WeekendDeliveryPolicy(
+                ZoneId.of("America/Los_Angeles"), LocalTime.of(9, 30)));
+        terminals.register("LON", "London", new DeliveryPolicyRegistry().policyFor(
+                "LON", DeliveryRule.standard(ZoneId.of("Europe/London"), LocalTime.of(7, 15, 0, 500_000))));
+        terminals.register("FIX", "Fixed", arrival -> arrival.plus(Duration.ofHours(30)));
+
+        Random random = new Random(24);
+        int count = 20_000;
+        long[] arrivals = new long[count];
+        int[] terminalIds = new int[count];
+        long from = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+
+        for (int i = 0; i < count; i++) {
+            arrivals[i] = from + (long) (random.nextDouble() * Duration.ofDays(3_650).toMillis());
+            terminalIds[i] = random.nextInt(terminals.size());
+        }
+
+        long[] deliveries = new long[count];
+
+        // Act
+        service.estimateDeliveryTimes(arrivals, terminalIds, terminals, deliveries);
+
+        // Assert
+        for (int i = 0; i < count; i++) {
+            Instant expected = service.estimateDeliveryTime(
+                    Instant.ofEpochMilli(arrivals[i]), terminals.get(terminalIds[i]));
+            assertEquals(expected.toEpochMilli(), deliveries[i]);
+        }
+    }
+
+    /**
+     * Verifies that ids outside the registry are rejected.
+     */
+    @Test
+    void bulkEstimatesRejectUnknownTerminal() {
+        // Arrange
+        DeliveryEstimateService service = new DeliveryEstimateService();
+        TerminalRegistry terminals = new TerminalRegistry();
+        terminals.register("CHI", "Chicago", new StandardDeliveryPolicy(
+                ZoneId.of("America/Chicago"), LocalTime.of(6, 0)));
+
+        // Act & Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> service.estimateDeliveryTimes(
+                new long[] {0L, 0L}, new int[] {0, 1}, terminals, new long[2]));
+    }
 }
@@ -0,0 +1,138 @@
+package transitflow.delivery;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests loading, interning and hot reloading of terminal delivery
+ * rules.
+ */
+public class DeliveryPolicyRegistryTest {
+
+    private static final ZoneId CHICAGO = ZoneId.of("America/Chicago");
+
+    // Saturday 10:00 in Chicago
+    private static final Instant SATURDAY_ARRIVAL = Instant.parse("2026-03-07T16:00:00Z");
+
+    /**
+     * Verifies that terminals with identical rules share one policy.
+     */
+    @Test
+    void internsIdenticalRules() throws IOException {
+        // Arrange
+        DeliveryPolicyRegistry registry = new DeliveryPolicyRegistry();
+
+        // Act
+        registry.reload(new StringReader(
+                "RULE,CHI,America/Chicago,06:00,false,US\n"
+                        + "RULE,DAL,America/Chicago,06:00,false,US\n"
+                        + "RULE,LAX,America/Los_Angeles,06:00,true,US\n"));
+
+        // Assert
+        assertSame(registry.findPolicy("CHI").orElseThrow(), registry.findPolicy("DAL").orElseThrow());
+        assertNotSame(registry.findPolicy("CHI").orElseThrow(), registry.findPolicy("LAX").orElseThrow());
+        assertEquals(2, registry.internedCount());
+    }
+
+    /**
+     * Verifies that a reload drops compiled policies no rule or
+     * terminal fallback uses any more, and keeps unchanged ones.
+     */
+    @Test
+    void prunesPoliciesUnusedAfterReload() throws IOException {
+        // Arrange
+        DeliveryPolicyRegistry registry = new DeliveryPolicyRegistry();
+        DeliveryRule fallback = DeliveryRule.standard(CHICAGO, LocalTime.of(6, 0));
+        registry.policyFor("CHI", fallback);
+        registry.reload(new StringReader(
+                "RULE,DAL,America/Chicago,07:00,false,US\n"
+                        + "RULE,LAX,America/Los_Angeles,06:00,true,US\n"));
+        DeliveryPolicy dallas = registry.findPolicy("DAL").orElseThrow();
+
+        // Act
+        registry.reload(new StringReader("RULE,DAL,America/Chicago,07:00,false,US\n"));
+
+        // Assert: the LAX rule is gone, the fallback stays interned
+        assertEquals(2, registry.internedCount());
+        assertSame(dallas, registry.findPolicy("DAL").orElseThrow());
+
+        registry.reload(new StringReader(""));
+        assertEquals(1, registry.internedCount());
+    }
+
+    /**
+     * Verifies that a terminal's policy handle follows reloads and
+     * falls back to its default rule while no rule is configured.
+     */
+    @Test
+    void terminalPolicyFollowsReloads() throws IOException {
+        // Arrange
+        DeliveryPolicyRegistry registry = new DeliveryPolicyRegistry();
+        DeliveryPolicy policy = registry.policyFor("CHI", DeliveryRule.standard(CHICAGO, LocalTime.of(6, 0)));
+
+        // Act & Assert: weekday-only fallback delivers Monday
+        assertEquals(Instant.parse("2026-03-09T11:00:00Z"), policy.calculateDeliveryDate(SATURDAY_ARRIVAL));
+
+        registry.reload(new StringReader("RULE,CHI,America/Chicago,12:00,true,NONE\n"));
+        assertEquals(SATURDAY_ARRIVAL, policy.calculateDeliveryDate(SATURDAY_ARRIVAL));
+
+        registry.reload(new StringReader(""));
+        assertEquals(Instant.parse("2026-03-09T11:00:00Z"), policy.calculateDeliveryDate(SATURDAY_ARRIVAL));
+        assertEquals(2, registry.getReloadCount());
+    }
+
+    /**
+     * Verifies that a snapshot keeps resolving terminal handles to the
+     * rule set it captured after the registry is reloaded.
+     */
+    @Test
+    void snapshotKeepsCapturedRuleSet() throws IOException {
+        // Arrange
+        DeliveryPolicyRegistry registry = new DeliveryPolicyRegistry();
+        DeliveryPolicy policy = registry.policyFor("CHI", DeliveryRule.standard(CHICAGO, LocalTime.of(6, 0)));
+        registry.reload(new StringReader("RULE,CHI,America/Chicago,12:00,true,NONE\n"));
+        DeliveryPolicySnapshot snapshot = registry.snapshot();
+
+        // Act
+        registry.reload(new StringReader(""));
+
+        // Assert
+        assertSame(snapshot.getPolicies().get("CHI"), snapshot.resolve(policy));
+        assertEquals(SATURDAY_ARRIVAL, snapshot.resolve(policy).calculateDeliveryDate(SATURDAY_ARRIVAL));
+        assertEquals(Instant.parse("2026-03-09T11:00:00Z"), policy.calculateDeliveryDate(SATURDAY_ARRIVAL));
+        assertEquals(Instant.parse("2026-03-09T11:00:00Z"),
+                registry.snapshot().resolve(policy).calculateDeliveryDate(SATURDAY_ARRIVAL));
+    }
+
+    /**
+     * Verifies that a malformed file is rejected with its line number
+     * and leaves the current rule set in place.
+     */
+    @Test
+    void keepsCurrentRulesWhenReloadFails() throws IOException {
+        // Arrange
+        DeliveryPolicyRegistry registry = new DeliveryPolicyRegistry();
+        registry.reload(new StringReader("RULE,CHI,America/Chicago,06:00,false,US\n"));
+        DeliveryPolicy current = registry.findPolicy("CHI").orElseThrow();
+
+        // Act
+        IllegalArgumentException error = assertThrows(
+                IllegalArgumentException.class,
+                () -> registry.reload(new StringReader(
+                        "RULE,CHI,America/Chicago,07:00,false,US\n"
+                                + "# comment\n"
+                                + "RULE,DAL,America/Chicago,06:00,false,EU\n")));
+
+        // Assert
+        assertTrue(error.getMessage().contains("line 3"));
+        assertSame(current, registry.findPolicy("CHI").orElseThrow());
+        assertEquals(1, registry.getReloadCount());
+    }
+}
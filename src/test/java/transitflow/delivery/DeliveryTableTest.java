@@ -0,0 +1,130 @@
+package transitflow.delivery;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that compiled delivery tables reproduce the direct policy
+ * calculations exactly.
+ */
+public class DeliveryTableTest {
+
+    private static final List<ZoneId> ZONES = List.of(
+            ZoneId.of("UTC"),
+            ZoneId.of("America/Chicago"),
+            ZoneId.of("America/St_Johns"),
+            ZoneId.of("America/Sao_Paulo"),
+            ZoneId.of("Europe/London"),
+            ZoneId.of("Asia/Kolkata"),
+            ZoneId.of("Australia/Lord_Howe"),
+            ZoneId.of("Pacific/Apia")
+    );
+
+    private static final long FROM = Instant.parse("1890-01-01T00:00:00Z").getEpochSecond();
+    private static final long TO = Instant.parse("2310-01-01T00:00:00Z").getEpochSecond();
+
+    /**
+     * Verifies that random arrivals across zones, years, cut times and
+     * holiday sets map to the same delivery as the direct calculation.
+     */
+    @Test
+    void matchesDirectCalculationForRandomArrivals() {
+        Random random = new Random(22);
+
+        for (int policies = 0; policies < 16; policies++) {
+            // Arrange
+            ZoneId zone = ZONES.get(random.nextInt(ZONES.size()));
+            LocalTime cut = randomCut(random);
+            Holidays holidays = random.nextBoolean() ? Holidays.usFederal() : Holidays.none();
+            StandardDeliveryPolicy standard = new StandardDeliveryPolicy(zone, cut, holidays);
+            WeekendDeliveryPolicy weekend = new WeekendDeliveryPolicy(zone, cut, holidays);
+
+            for (int i = 0; i < 1_000; i++) {
+                Instant arrival = Instant.ofEpochSecond(
+                        FROM + (long) (random.nextDouble() * (TO - FROM)),
+                        random.nextInt(4) == 0 ? random.nextInt(1_000_000_000) : 0);
+
+                // Act & Assert
+                assertEquals(standard.calculateDirectly(arrival), standard.calculateDeliveryDate(arrival),
+                        zone + " " + cut + " " + arrival);
+                assertEquals(weekend.calculateDirectly(arrival), weekend.calculateDeliveryDate(arrival),
+                        zone + " " + cut + " " + arrival);
+            }
+        }
+    }
+
+    /**
+     * Verifies arrivals around every offset transition, and around the
+     * cut time on the days either side of it.
+     */
+    @Test
+    void matchesDirectCalculationAroundTransitions() {
+        for (ZoneId zone : ZONES) {
+            for (LocalTime cut : List.of(LocalTime.of(0, 0), LocalTime.of(1, 30), LocalTime.of(2, 0),
+                    LocalTime.of(6, 0), LocalTime.of(23, 59, 59, 999_999_999))) {
+
+                // Arrange
+                StandardDeliveryPolicy standard = new StandardDeliveryPolicy(zone, cut, Holidays.usFederal());
+                WeekendDeliveryPolicy weekend = new WeekendDeliveryPolicy(zone, cut, Holidays.usFederal());
+                ZoneRules rules = zone.getRules();
+
+                ZoneOffsetTransition transition =
+                        rules.nextTransition(Instant.parse("2005-01-01T00:00:00Z"));
+
+                while (transition != null && transition.getInstant().isBefore(Instant.parse("2030-01-01T00:00:00Z"))) {
+                    for (long minutes = -3 * 1440; minutes <= 3 * 1440; minutes += 30) {
+                        Instant arrival = transition.getInstant().plusSeconds(minutes * 60);
+
+                        // Act & Assert
+                        assertEquals(standard.calculateDirectly(arrival), standard.calculateDeliveryDate(arrival),
+                                zone + " " + cut + " " + arrival);
+                        assertEquals(weekend.calculateDirectly(arrival), weekend.calculateDeliveryDate(arrival),
+                                zone + " " + cut + " " + arrival);
+                    }
+                    transition = rules.nextTransition(transition.getInstant());
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifies that an arrival within the cut minute is compared to
+     * the cut exactly.
+     */
+    @Test
+    void comparesArrivalWithinCutMinuteExactly() {
+        // Arrange
+        ZoneId chicago = ZoneId.of("America/Chicago");
+        StandardDeliveryPolicy policy = new StandardDeliveryPolicy(chicago, LocalTime.of(6, 0, 30));
+        Instant early = Instant.parse("2026-03-02T12:00:29.999999999Z"); // Monday 06:00:29.999999999
+        Instant late = Instant.parse("2026-03-02T12:00:30Z");
+
+        // Act & Assert
+        assertEquals(early, policy.calculateDeliveryDate(early));
+        assertEquals(Instant.parse("2026-03-03T12:00:30Z"), policy.calculateDeliveryDate(late));
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private static LocalTime randomCut(Random random) {
+        switch (random.nextInt(3)) {
+            case 0:
+                return LocalTime.of(random.nextInt(24), 0);
+            case 1:
+                return LocalTime.of(random.nextInt(24), random.nextInt(60));
+            default:
+                return LocalTime.ofNanoOfDay((long) (random.nextDouble() * 86_400_000_000_000L));
+        }
+    }
+}
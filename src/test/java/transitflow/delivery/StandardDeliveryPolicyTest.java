@@ -1,4 +1,33 @@
 package transitflow.delivery;
 
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class StandardDeliveryPolicyTest {
+
+    private static final ZoneId CHICAGO = ZoneId.of("America/Chicago");
+
+    /**
+     * Verifies that an arrival the day before Thanksgiving, after the
+     * cut, is delivered on the Friday rather than the holiday.
+     */
+    @Test
+    void deliversAfterRegionalHoliday() {
+        // Arrange
+        StandardDeliveryPolicy policy = new StandardDeliveryPolicy(
+                CHICAGO, LocalTime.of(6, 0), Holidays.usFederal());
+        Instant arrival = ZonedDateTime.of(2026, 11, 25, 14, 0, 0, 0, CHICAGO).toInstant();
+
+        // Act
+        Instant delivery = policy.calculateDeliveryDate(arrival);
+
+        // Assert
+        assertEquals(ZonedDateTime.of(2026, 11, 27, 6, 0, 0, 0, CHICAGO).toInstant(), delivery);
+    }
 }
@@ -0,0 +1,142 @@
+package transitflow.domain.network;
+
+import org.junit.jupiter.api.Test;
+import transitflow.domain.route.Route;
+import transitflow.domain.route.Segment;
+import transitflow.domain.route.Terminal;
+import transitflow.domain.route.TerminalRegistry;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests loading the network from its flat file format and querying
+ * neighbors and fastest paths.
+ */
+class NetworkGraphTest {
+
+    private static final Instant DEPARTURE = Instant.parse("2026-01-05T12:00:00Z");
+
+    private static final String NETWORK = String.join("\n",
+            "# test network",
+            "TERMINAL,CHI,Chicago,America/Chicago,06:00",
+            "TERMINAL,DAL,Dallas,America/Chicago,06:00",
+            "TERMINAL,HOU,Houston,America/Chicago,06:00",
+            "TERMINAL,ATL,Atlanta,America/New_York,06:00",
+            "TERMINAL,DEN,Denver,America/Denver,06:00",
+            "",
+            "LANE,CHI,DAL,TRUCK",
+            "LANE,CHI,DAL,RAIL",
+            "LANE,DAL,HOU,TRUCK",
+            "LANE,CHI,ATL,TRUCK",
+            "LANE,ATL,HOU,RAIL"
+    );
+
+    private final TerminalRegistry registry = new TerminalRegistry();
+
+    @Test
+    void storesOutgoingLanesPerNode() throws IOException {
+        // Arrange
+        NetworkGraph graph = load();
+        int chicago = node("CHI");
+
+        // Act
+        List<String> neighbors = new ArrayList<>();
+        for (int lane = graph.laneStart(chicago); lane < graph.laneEnd(chicago); lane++) {
+            neighbors.add(graph.terminal(graph.laneTarget(lane)).getCode());
+        }
+
+        // Assert
+        assertEquals(5, graph.nodeCount());
+        assertEquals(5, graph.laneCount());
+        assertEquals(List.of("DAL", "DAL", "ATL"), neighbors);
+        assertEquals(graph.laneStart(node("DEN")), graph.laneEnd(node("DEN")));
+    }
+
+    @Test
+    void findsFastestPath() throws IOException {
+        // Arrange
+        NetworkGraph graph = load();
+
+        // Act
+        NetworkPath path = graph.fastestPath(terminal("CHI"), terminal("HOU"), DEPARTURE).orElseThrow();
+
+        // Assert: truck 6h + truck 6h beats truck 6h + rail 12h
+        assertEquals(List.of("DAL", "HOU"), destinations(path));
+        assertEquals(DEPARTURE.plus(Duration.ofHours(12)), path.getArrival());
+
+        Route route = path.toRoute();
+        assertEquals("CHI", route.getOrigin().getCode());
+        assertEquals(Duration.ofHours(12), route.getTotalTransitTime());
+    }
+
+    /**
+     * Verifies that time-dependent lane durations reroute around a
+     * disrupted terminal.
+     */
+    @Test
+    void reroutesAroundTimeDependentDisruption() throws IOException {
+        // Arrange: lanes into Dallas are held until a day after departure
+        NetworkGraph graph = load();
+        long reopen = DEPARTURE.plus(Duration.ofDays(1)).getEpochSecond() * 1_000_000_000L;
+
+        LaneTravelTime dallasClosed = (Segment lane, long baseNanos, long departureNanos) ->
+                lane.getDestination().getCode().equals("DAL")
+                        ? Math.max(0, reopen - departureNanos) + baseNanos
+                        : baseNanos;
+
+        // Act
+        NetworkPath path = graph.fastestPath(
+                terminal("CHI"), terminal("HOU"), DEPARTURE, dallasClosed).orElseThrow();
+
+        // Assert
+        assertEquals(List.of("ATL", "HOU"), destinations(path));
+        assertEquals(DEPARTURE.plus(Duration.ofHours(18)), path.getArrival());
+    }
+
+    @Test
+    void reportsUnreachableDestination() throws IOException {
+        NetworkGraph graph = load();
+
+        assertTrue(graph.fastestPath(terminal("CHI"), terminal("DEN"), DEPARTURE).isEmpty());
+        assertTrue(graph.fastestPath(terminal("HOU"), terminal("CHI"), DEPARTURE).isEmpty());
+    }
+
+    @Test
+    void rejectsLaneToUndeclaredTerminal() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> NetworkLoader.load(new StringReader("LANE,CHI,DAL,TRUCK"), registry));
+
+        assertTrue(error.getMessage().contains("line 1"));
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private NetworkGraph load() throws IOException {
+        return NetworkLoader.load(new StringReader(NETWORK), registry);
+    }
+
+    private Terminal terminal(String code) {
+        return registry.findByCode(code).orElseThrow();
+    }
+
+    private int node(String code) {
+        return terminal(code).getRegistryId();
+    }
+
+    private List<String> destinations(NetworkPath path) {
+        List<String> codes = new ArrayList<>();
+        for (Segment segment : path.getSegments()) {
+            codes.add(segment.getDestination().getCode());
+        }
+        return codes;
+    }
+}
@@ -1,4 +1,72 @@
 package transitflow.domain.route;
 
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.transport.air.AirTransport;
+import transitflow.transport.rail.RailTransport;
+import transitflow.transport.truck.TruckTransport;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class RouteTest {
+
+    /**
+     * Verifies that remaining transit time from any position matches
+     * the sum over the remaining segments.
+     */
+    @Test
+    void remainingTransitTimeMatchesSegmentSum() {
+        // Arrange: rail 12h, truck 6h, air 2h
+        Route route = createRoute();
+        long hour = Duration.ofHours(1).toNanos();
+
+        // Act & Assert
+        assertEquals(Duration.ofHours(20), route.getTotalTransitTime());
+        assertEquals(20 * hour, route.getRemainingTransitNanos(0, 0));
+        assertEquals(15 * hour, route.getRemainingTransitNanos(0, 5 * hour));
+        assertEquals(8 * hour, route.getRemainingTransitNanos(1, 0));
+        assertEquals(2 * hour - 1, route.getRemainingTransitNanos(2, 1));
+        assertEquals(0, route.getRemainingTransitNanos(3, 0));
+
+        for (int i = 0; i < route.segmentCount(); i++) {
+            long expected = 0;
+            for (int j = i; j < route.segmentCount(); j++) {
+                expected += route.getSegments().get(j).getBaseTransitTime().toNanos();
+            }
+            assertEquals(expected, route.getRemainingTransitNanos(i, 0));
+        }
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private Route createRoute() {
+        Terminal chicago = createTerminal("CHI");
+        Terminal dallas = createTerminal("DAL");
+        Terminal houston = createTerminal("HOU");
+        Terminal denver = createTerminal("DEN");
+
+        return new Route(chicago, denver, List.of(
+                new Segment(chicago, dallas, new RailTransport()),
+                new Segment(dallas, houston, new TruckTransport()),
+                new Segment(houston, denver, new AirTransport())
+        ));
+    }
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
 }
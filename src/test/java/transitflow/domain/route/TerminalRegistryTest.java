@@ -0,0 +1,72 @@
+package transitflow.domain.route;
+
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.StandardDeliveryPolicy;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TerminalRegistryTest {
+
+    /**
+     * Verifies that each code resolves to one shared instance and that
+     * ids are assigned densely in registration order.
+     */
+    @Test
+    void internsTerminalsWithDenseIds() {
+        // Arrange
+        TerminalRegistry registry = new TerminalRegistry();
+
+        // Act
+        Terminal chicago = registry.intern(createTerminal("CHI"));
+        Terminal dallas = registry.intern(createTerminal("DAL"));
+        Terminal chicagoAgain = registry.intern(createTerminal("CHI"));
+
+        // Assert
+        assertSame(chicago, chicagoAgain);
+        assertEquals(0, chicago.getRegistryId());
+        assertEquals(1, dallas.getRegistryId());
+        assertEquals(2, registry.size());
+        assertSame(dallas, registry.get(1));
+        assertSame(chicago, registry.findByCode("CHI").orElseThrow());
+        assertEquals(List.of(chicago, dallas), registry.getAll());
+    }
+
+    @Test
+    void terminalsOutsideRegistryAreUnregistered() {
+        assertEquals(Terminal.UNREGISTERED, createTerminal("HOU").getRegistryId());
+        assertThrows(IndexOutOfBoundsException.class, () -> new TerminalRegistry().get(0));
+    }
+
+    /**
+     * Verifies that the id table grows past its initial capacity.
+     */
+    @Test
+    void growsBeyondInitialCapacity() {
+        TerminalRegistry registry = new TerminalRegistry();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, registry.intern(createTerminal("T" + i)).getRegistryId());
+        }
+
+        assertEquals("T99", registry.get(99).getCode());
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
+}
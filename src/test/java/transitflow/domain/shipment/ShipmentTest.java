@@ -1,4 +1,145 @@
 package transitflow.domain.shipment;
 
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.domain.route.Route;
+import transitflow.domain.route.Segment;
+import transitflow.domain.route.Terminal;
+import transitflow.transport.rail.RailTransport;
+import transitflow.transport.sea.SeaTransport;
+import transitflow.transport.truck.TruckTransport;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests shipment advancement along a multi-segment route.
+ */
 public class ShipmentTest {
+
+    private final Terminal chicago = createTerminal("CHI");
+    private final Terminal dallas = createTerminal("DAL");
+    private final Terminal houston = createTerminal("HOU");
+
+    private final Route route = new Route(chicago, houston, List.of(
+            new Segment(chicago, dallas, new RailTransport()),
+            new Segment(dallas, houston, new TruckTransport()),
+            new Segment(houston, chicago, new SeaTransport())
+    ));
+
+    /**
+     * Verifies that leftover tick time carries into the next segment.
+     */
+    @Test
+    void carriesLeftoverTimeAcrossSegments() {
+        // Arrange
+        Shipment shipment = new Shipment("TRACK1", route);
+        long rail = route.getSegmentTransitNanos(0);
+
+        // Act
+        shipment.advance(Duration.ofNanos(rail).plusMinutes(30));
+
+        // Assert
+        assertEquals(1, shipment.getCurrentSegmentIndex());
+        assertEquals(Duration.ofMinutes(30), shipment.getElapsedInCurrentSegment());
+        assertEquals(
+                route.getSegmentTransitNanos(1) - Duration.ofMinutes(30).toNanos(),
+                shipment.getRemainingNanosInCurrentSegment()
+        );
+        assertEquals(ShipmentStatus.IN_TRANSIT, shipment.getStatus());
+    }
+
+    /**
+     * Verifies that the primitive and Duration overloads advance
+     * identically and that the shipment arrives after its final segment.
+     */
+    @Test
+    void primitiveAdvanceMatchesDurationAdvance() {
+        // Arrange
+        Shipment byDuration = new Shipment("TRACK1", route);
+        Shipment byNanos = new Shipment("TRACK2", route);
+        Duration tick = Duration.ofMinutes(47);
+
+        // Act
+        while (byDuration.hasMoreSegments()) {
+            byDuration.advance(tick);
+            byNanos.advance(tick.toNanos());
+
+            assertEquals(byDuration.getCurrentSegmentIndex(), byNanos.getCurrentSegmentIndex());
+            assertEquals(
+                    byDuration.getElapsedNanosInCurrentSegment(),
+                    byNanos.getElapsedNanosInCurrentSegment()
+            );
+        }
+
+        // Assert
+        assertFalse(byNanos.hasMoreSegments());
+        assertEquals(ShipmentStatus.ARRIVED_AT_TERMINAL, byNanos.getStatus());
+    }
+
+    /**
+     * Verifies that the advance hot path allocates nothing, measured
+     * with the per-thread allocation counter.
+     */
+    @Test
+    void advanceDoesNotAllocate() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        // Arrange
+        Shipment[] shipments = new Shipment[64];
+        for (int i = 0; i < shipments.length; i++) {
+            shipments[i] = new Shipment("TRACK" + i, route);
+        }
+        long tick = Duration.ofMinutes(10).toNanos();
+
+        // Warm up so the measured loop runs compiled code
+        advanceAll(shipments, tick, 20_000);
+        resetAll(shipments);
+
+        // Act
+        long before = threads.getCurrentThreadAllocatedBytes();
+        advanceAll(shipments, tick, 2_000);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Assert
+        assertEquals(0, allocated);
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private void advanceAll(Shipment[] shipments, long tickNanos, int ticks) {
+        for (int t = 0; t < ticks; t++) {
+            for (Shipment shipment : shipments) {
+                shipment.advance(tickNanos);
+            }
+        }
+    }
+
+    private void resetAll(Shipment[] shipments) {
+        for (int i = 0; i < shipments.length; i++) {
+            shipments[i] = new Shipment("TRACK" + i, route);
+        }
+    }
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
 }
@@ -0,0 +1,334 @@
+package transitflow.integration.weather;
+
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.domain.route.Terminal;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the caching weather client against the stub provider.
+ *
+ * <p>Background refreshes are queued on a manual executor so tests
+ * can observe that stale forecasts are served without waiting on
+ * the provider.</p>
+ */
+class CachingWeatherClientTest {
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+    private static final Duration STALE = Duration.ofHours(1);
+    private static final Duration BUCKET = Duration.ofHours(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final CountingWeatherClient provider = new CountingWeatherClient();
+    private final Queue<Runnable> refreshQueue = new ArrayDeque<>();
+
+    private final Terminal chicago = createTerminal("CHI");
+    private final Terminal dallas = createTerminal("DAL");
+    private final Terminal houston = createTerminal("HOU");
+
+    @Test
+    void servesFreshForecastsFromCache() {
+        // Arrange
+        CachingWeatherClient client = createClient(10);
+
+        // Act
+        WeatherForecast first = client.getForecast(chicago);
+        clock.advance(Duration.ofMinutes(10));
+        WeatherForecast second = client.getForecast(chicago);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, provider.calls);
+        assertEquals(1, client.getMissCount());
+        assertEquals(1, client.getHitCount());
+    }
+
+    /**
+     * Verifies that expired forecasts are returned immediately while a
+     * single background refresh replaces them.
+     */
+    @Test
+    void servesStaleForecastWhileRefreshing() {
+        // Arrange
+        CachingWeatherClient client = createClient(10);
+        WeatherForecast original = client.getForecast(chicago);
+        clock.advance(TTL.plusMinutes(1));
+
+        // Act
+        WeatherForecast stale = client.getForecast(chicago);
+        client.getForecast(chicago);
+
+        // Assert: served without calling the provider, one refresh queued
+        assertSame(original, stale);
+        assertEquals(1, provider.calls);
+        assertEquals(2, client.getStaleHitCount());
+        assertEquals(1, refreshQueue.size());
+
+        runRefreshes();
+
+        assertEquals(2, provider.calls);
+        assertEquals(1, client.getRefreshCount());
+        assertNotSame(original, client.getForecast(chicago));
+        assertEquals(1, client.getHitCount());
+    }
+
+    @Test
+    void crossingForecastBucketTriggersRefresh() {
+        // Arrange: fetched just before the top of the hour
+        clock.advance(Duration.ofMinutes(55));
+        CachingWeatherClient client = createClient(10);
+        client.getForecast(chicago);
+
+        // Act: still within TTL but in the next bucket
+        clock.advance(Duration.ofMinutes(10));
+        client.getForecast(chicago);
+
+        // Assert
+        assertEquals(1, client.getStaleHitCount());
+        assertEquals(1, refreshQueue.size());
+    }
+
+    @Test
+    void loadsSynchronouslyOnceStaleWindowHasPassed() {
+        // Arrange
+        CachingWeatherClient client = createClient(10);
+        client.getForecast(chicago);
+
+        // Act
+        clock.advance(TTL.plus(STALE));
+        client.getForecast(chicago);
+
+        // Assert
+        assertEquals(2, client.getMissCount());
+        assertEquals(2, provider.calls);
+        assertTrue(refreshQueue.isEmpty());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedTerminal() {
+        // Arrange
+        CachingWeatherClient client = createClient(2);
+        client.getForecast(chicago);
+        client.getForecast(dallas);
+        client.getForecast(chicago);
+
+        // Act
+        client.getForecast(houston);
+        client.getForecast(dallas);
+
+        // Assert: DAL was evicted and had to be loaded again
+        assertEquals(2, client.size());
+        assertEquals(4, client.getMissCount());
+    }
+
+    /**
+     * Verifies that a batch lookup loads all cold terminals with one
+     * provider call and serves cached ones without calling it.
+     */
+    @Test
+    void batchLookupLoadsMissesInOneProviderCall() {
+        // Arrange
+        CachingWeatherClient client = createClient(10);
+        client.getForecast(chicago);
+
+        // Act
+        Map<String, WeatherForecast> forecasts =
+                client.getForecasts(List.of(dallas, chicago, houston, dallas));
+
+        // Assert
+        assertEquals(List.of("DAL", "CHI", "HOU"), List.copyOf(forecasts.keySet()));
+        assertEquals(2, provider.batches);
+        assertEquals(3, provider.calls);
+        assertEquals(1, client.getHitCount());
+        assertEquals(3, client.getMissCount());
+    }
+
+    /**
+     * Verifies that a refresh answered with fallback forecasts counts
+     * as failed, keeps serving the stale forecast and is retried.
+     */
+    @Test
+    void failedRefreshKeepsStaleForecastAndRetries() {
+        // Arrange
+        CachingWeatherClient client = createClient(10);
+        WeatherForecast original = client.getForecast(chicago);
+        clock.advance(TTL.plusMinutes(1));
+        client.getForecast(chicago);
+
+        // Act
+        provider.unavailable = true;
+        runRefreshes();
+        WeatherForecast stale = client.getForecast(chicago);
+
+        // Assert
+        assertEquals(1, client.getRefreshFailureCount());
+        assertEquals(0, client.getRefreshCount());
+        assertSame(original, stale);
+        assertEquals(1, refreshQueue.size());
+
+        provider.unavailable = false;
+        runRefreshes();
+
+        assertEquals(1, client.getRefreshCount());
+        assertNotSame(original, client.getForecast(chicago));
+    }
+
+    /**
+     * Verifies that fallback forecasts for a cold terminal are served
+     * but not cached.
+     */
+    @Test
+    void doesNotCacheFallbackForecasts() {
+        // Arrange
+        CachingWeatherClient client = createClient(10);
+        provider.unavailable = true;
+
+        // Act
+        WeatherForecast fallback = client.getForecast(dallas);
+        provider.unavailable = false;
+        WeatherForecast fresh = client.getForecast(dallas);
+
+        // Assert
+        assertEquals(WeatherSeverity.LOW, fallback.getSeverity());
+        assertEquals(WeatherSeverity.HIGH, fresh.getSeverity());
+        assertEquals(2, client.getMissCount());
+    }
+
+    /**
+     * Verifies that a terminal the provider leaves out of a batch
+     * answer is looked up singly and cached, rather than answered with
+     * a null forecast.
+     */
+    @Test
+    void looksUpTerminalsMissingFromBatchSingly() {
+        // Arrange
+        CachingWeatherClient client = createClient(10);
+        provider.omitted = "HOU";
+
+        // Act
+        Map<String, WeatherForecast> forecasts = client.getForecasts(List.of(dallas, houston));
+        WeatherForecast cached = client.getForecast(houston);
+
+        // Assert
+        assertEquals(List.of("DAL", "HOU"), List.copyOf(forecasts.keySet()));
+        assertEquals(WeatherSeverity.HIGH, forecasts.get("HOU").getSeverity());
+        assertSame(forecasts.get("HOU"), cached);
+        assertEquals(1, provider.batches);
+        assertEquals(3, provider.calls);
+        assertEquals(1, client.getHitCount());
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private CachingWeatherClient createClient(int maxEntries) {
+        return new CachingWeatherClient(
+                provider, clock, TTL, STALE, BUCKET, maxEntries, refreshQueue::add);
+    }
+
+    private void runRefreshes() {
+        while (!refreshQueue.isEmpty()) {
+            refreshQueue.poll().run();
+        }
+    }
+
+    /**
+     * Stub provider that counts how often it is called, per terminal
+     * and per batch, can report itself unavailable and can leave one
+     * terminal out of its batch answers.
+     */
+    private static class CountingWeatherClient extends StubWeatherClient {
+
+        private int calls;
+        private int batches;
+        private boolean unavailable;
+        private String omitted;
+
+        @Override
+        public CompletableFuture<Map<String, WeatherForecast>> getForecastsAsync(
+                Collection<Terminal> terminals
+        ) {
+            if (!unavailable) {
+                return super.getForecastsAsync(terminals).thenApply(forecasts -> {
+                    Map<String, WeatherForecast> answer = new LinkedHashMap<>(forecasts);
+                    answer.remove(omitted);
+                    return answer;
+                });
+            }
+
+            Map<String, WeatherForecast> fallback = new LinkedHashMap<>();
+            for (Terminal terminal : terminals) {
+                fallback.put(terminal.getCode(), new WeatherForecast(WeatherSeverity.LOW));
+            }
+            return CompletableFuture.failedFuture(new WeatherUnavailableException(
+                    "Provider down", fallback, fallback.keySet(), null));
+        }
+
+        @Override
+        public Map<String, WeatherForecast> getForecasts(Collection<Terminal> terminals) {
+            batches++;
+            return super.getForecasts(terminals);
+        }
+
+        @Override
+        public WeatherForecast getForecast(Terminal terminal) {
+            calls++;
+            return super.getForecast(terminal);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
+}
@@ -0,0 +1,284 @@
+package transitflow.integration.weather;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.domain.route.Terminal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the HTTP weather client against a local stub provider.
+ *
+ * <p>The stub server records every request and answers with whatever
+ * status, body and latency the test configures, so batching, timeouts
+ * and circuit breaking can be observed without a real provider.</p>
+ */
+class HttpWeatherClientTest {
+
+    private static final String API_KEY = "test-key";
+
+    private final List<HttpExchangeRecord> requests = new CopyOnWriteArrayList<>();
+
+    private volatile int status = 200;
+    private volatile String body = "{}";
+    private volatile long latencyMillis;
+
+    private HttpServer server;
+
+    private final Terminal chicago = createTerminal("CHI");
+    private final Terminal dallas = createTerminal("DAL");
+    private final Terminal houston = createTerminal("HOU");
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/weather/forecasts", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    /**
+     * Verifies that a batch of terminals is resolved with a single
+     * authenticated request.
+     */
+    @Test
+    void resolvesBatchInOneRequest() {
+        // Arrange
+        body = "{\"CHI\":\"HIGH\",\"DAL\":\"LOW\",\"HOU\":\"EXTREME\"}";
+        HttpWeatherClient client = createClient(Duration.ofSeconds(2), 3);
+
+        // Act
+        Map<String, WeatherForecast> forecasts =
+                client.getForecasts(List.of(chicago, dallas, houston, chicago));
+
+        // Assert
+        assertEquals(1, requests.size());
+        assertEquals("terminals=CHI,DAL,HOU", requests.get(0).query);
+        assertEquals(API_KEY, requests.get(0).apiKey);
+        assertEquals(WeatherSeverity.HIGH, forecasts.get("CHI").getSeverity());
+        assertEquals(WeatherSeverity.LOW, forecasts.get("DAL").getSeverity());
+        assertEquals(WeatherSeverity.EXTREME, forecasts.get("HOU").getSeverity());
+    }
+
+    @Test
+    void asyncVariantCompletesWithForecasts() {
+        // Arrange
+        body = "{\"DAL\":\"MODERATE\"}";
+        HttpWeatherClient client = createClient(Duration.ofSeconds(2), 3);
+
+        // Act
+        CompletableFuture<Map<String, WeatherForecast>> future =
+                client.getForecastsAsync(List.of(dallas));
+
+        // Assert
+        assertEquals(WeatherSeverity.MODERATE, future.join().get("DAL").getSeverity());
+    }
+
+    @Test
+    void parsesHourlyForecastSeries() {
+        // Arrange
+        body = "{\"CHI\":{\"start\":\"2026-01-01T00:00:00Z\",\"hourly\":[\"LOW\",\"EXTREME\"]}}";
+        HttpWeatherClient client = createClient(Duration.ofSeconds(2), 3);
+
+        // Act
+        WeatherForecast forecast = client.getForecast(chicago);
+
+        // Assert
+        assertEquals(2, forecast.getHours());
+        assertEquals(WeatherSeverity.LOW,
+                forecast.getSeverityAt(Instant.parse("2026-01-01T00:30:00Z")));
+        assertEquals(WeatherSeverity.EXTREME,
+                forecast.getSeverityAt(Instant.parse("2026-01-01T05:00:00Z")));
+    }
+
+    /**
+     * Verifies that failed requests fall back to the last forecast
+     * received for each terminal, and to LOW for unknown terminals.
+     */
+    @Test
+    void fallsBackToLastKnownForecastOnFailure() {
+        // Arrange
+        body = "{\"CHI\":\"EXTREME\"}";
+        HttpWeatherClient client = createClient(Duration.ofSeconds(2), 3);
+        client.getForecasts(List.of(chicago));
+
+        // Act
+        status = 503;
+        Map<String, WeatherForecast> forecasts = client.getForecasts(List.of(chicago, dallas));
+
+        // Assert
+        assertEquals(WeatherSeverity.EXTREME, forecasts.get("CHI").getSeverity());
+        assertEquals(WeatherSeverity.LOW, forecasts.get("DAL").getSeverity());
+        assertEquals(1, client.getFailureCount());
+        assertEquals(2, client.getFallbackCount());
+    }
+
+    /**
+     * Verifies that the asynchronous variant reports fallback answers
+     * as unavailable, including terminals missing from a response.
+     */
+    @Test
+    void asyncVariantReportsFallbacksAsUnavailable() {
+        // Arrange
+        body = "{\"CHI\":\"HIGH\"}";
+        HttpWeatherClient client = createClient(Duration.ofSeconds(2), 3);
+
+        // Act
+        CompletionException partial = assertThrows(CompletionException.class,
+                () -> client.getForecastsAsync(List.of(chicago, dallas)).join());
+        status = 503;
+        CompletionException failed = assertThrows(CompletionException.class,
+                () -> client.getForecastsAsync(List.of(chicago)).join());
+
+        // Assert
+        WeatherUnavailableException missing = (WeatherUnavailableException) partial.getCause();
+        assertEquals(Set.of("DAL"), missing.getUnavailableCodes());
+        assertEquals(WeatherSeverity.HIGH, missing.getFallbackForecasts().get("CHI").getSeverity());
+        assertEquals(WeatherSeverity.LOW, missing.getFallbackForecasts().get("DAL").getSeverity());
+
+        WeatherUnavailableException outage = (WeatherUnavailableException) failed.getCause();
+        assertEquals(Set.of("CHI"), outage.getUnavailableCodes());
+        assertEquals(WeatherSeverity.HIGH, outage.getFallbackForecasts().get("CHI").getSeverity());
+    }
+
+    /**
+     * Verifies that a request failing before it is sent counts as a
+     * failure and releases the half-open trial, so the provider is
+     * tried again after every cool-down.
+     */
+    @Test
+    void requestFailingBeforeSendReleasesTrial() {
+        // Arrange: an unsupported scheme is rejected while building the request
+        HttpWeatherClient client = new HttpWeatherClient(
+                URI.create("ftp://localhost/weather"),
+                API_KEY,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(1),
+                new CircuitBreaker(
+                        Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC),
+                        1,
+                        Duration.ZERO
+                )
+        );
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertEquals(WeatherSeverity.LOW, client.getForecast(chicago).getSeverity());
+        }
+
+        // Assert
+        assertEquals(3, client.getRequestCount());
+        assertEquals(3, client.getFailureCount());
+    }
+
+    /**
+     * Verifies that slow responses time out and that repeated failures
+     * open the circuit, after which the provider is not called.
+     */
+    @Test
+    void timeoutsOpenTheCircuit() {
+        // Arrange
+        latencyMillis = 1_000;
+        HttpWeatherClient client = createClient(Duration.ofMillis(100), 2);
+
+        // Act
+        client.getForecasts(List.of(chicago));
+        client.getForecasts(List.of(chicago));
+        Map<String, WeatherForecast> refused = client.getForecasts(List.of(chicago));
+
+        // Assert
+        assertEquals(2, client.getRequestCount());
+        assertEquals(2, client.getFailureCount());
+        assertEquals(WeatherSeverity.LOW, refused.get("CHI").getSeverity());
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private HttpWeatherClient createClient(Duration requestTimeout, int failureThreshold) {
+        URI baseUrl = URI.create("http://localhost:" + server.getAddress().getPort() + "/weather");
+
+        return new HttpWeatherClient(
+                baseUrl,
+                API_KEY,
+                Duration.ofSeconds(1),
+                requestTimeout,
+                new CircuitBreaker(
+                        Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC),
+                        failureThreshold,
+                        Duration.ofMinutes(1)
+                )
+        );
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.add(new HttpExchangeRecord(
+                exchange.getRequestURI().getQuery(),
+                exchange.getRequestHeaders().getFirst(HttpWeatherClient.API_KEY_HEADER)
+        ));
+
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        } catch (IOException e) {
+            // Client gave up waiting
+        }
+    }
+
+    private static class HttpExchangeRecord {
+
+        private final String query;
+        private final String apiKey;
+
+        private HttpExchangeRecord(String query, String apiKey) {
+            this.query = query;
+            this.apiKey = apiKey;
+        }
+    }
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
+}
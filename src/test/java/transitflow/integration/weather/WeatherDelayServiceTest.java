@@ -149,4 +149,42 @@ class WeatherDelayServiceTest {
         assertEquals(Duration.ofHours(8),
                 state.getDelayEvents().get(0).getDuration());
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies that an hourly forecast is applied at the simulated
+     * time: calm hours add nothing and the storm hour adds its delay.
+     */
+    @Test
+    void appliesSeverityInEffectAtSimulatedTime() {
+        // Arrange
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        WeatherForecast forecast = WeatherForecast.hourly(start, List.of(
+                WeatherSeverity.LOW,
+                WeatherSeverity.LOW,
+                WeatherSeverity.HIGH
+        ));
+
+        WeatherDelayService service =
+                new WeatherDelayService(terminal -> forecast);
+
+        Terminal terminal = createTerminal("CHI");
+        SimulationState state = new SimulationState(start, List.of());
+
+        // Act
+        service.applyWeatherDelays(state, terminal);
+        state.advanceTime(Duration.ofHours(1));
+        service.applyWeatherDelays(state, terminal);
+        int delaysBeforeStorm = state.getDelayEvents().size();
+
+        state.advanceTime(Duration.ofHours(1));
+        service.applyWeatherDelays(state, terminal);
+
+        // Assert
+        assertEquals(0, delaysBeforeStorm);
+        assertEquals(1, state.getDelayEvents().size());
+        assertEquals(start.plus(Duration.ofHours(2)),
+                state.getDelayEvents().get(0).getOccurredAt());
+        assertEquals(Duration.ofHours(4),
+                state.getDelayEvents().get(0).getDuration());
+    }
+}
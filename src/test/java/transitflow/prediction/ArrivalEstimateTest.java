@@ -13,6 +13,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -51,7 +52,7 @@ class ArrivalEstimateTest {
                     @Override
                     public void applyWeatherDelays(
                             SimulationState state,
-                            Terminal terminal
+                            Collection<Terminal> terminals
                     ) {
                         // intentionally no-op
                     }
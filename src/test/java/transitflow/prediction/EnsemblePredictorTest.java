@@ -0,0 +1,247 @@
+package transitflow.prediction;
+
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.DeliveryEstimateService;
+import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.delivery.WeekendDeliveryPolicy;
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.delay.DelayType;
+import transitflow.domain.route.*;
+import transitflow.domain.shipment.Shipment;
+import transitflow.integration.weather.WeatherClient;
+import transitflow.integration.weather.WeatherForecast;
+import transitflow.integration.weather.WeatherSeverity;
+import transitflow.simulation.SimulationEngine;
+import transitflow.simulation.SimulationState;
+import transitflow.transport.rail.RailTransport;
+import transitflow.transport.sea.SeaTransport;
+import transitflow.transport.truck.TruckTransport;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests Monte Carlo ensemble predictions.
+ *
+ * <p>Ensembles must be reproducible for a given seed despite running
+ * trials in parallel, and must produce ordered confidence bands.</p>
+ */
+class EnsemblePredictorTest {
+
+    private static final Instant START = Instant.parse("2026-01-05T12:00:00Z");
+
+    private final Terminal chicago = createTerminal("CHI");
+    private final Terminal dallas = createTerminal("DAL");
+    private final Terminal houston = createTerminal("HOU");
+
+    private final WeatherClient client = terminal -> new WeatherForecast(
+            terminal.getCode().equals("HOU") ? WeatherSeverity.MODERATE : WeatherSeverity.LOW);
+
+    private final EnsemblePredictor predictor = new EnsemblePredictor(
+            new SimulationEngine(),
+            new DeliveryEstimateService(),
+            client
+    );
+
+    @Test
+    void sameSeedReproducesResult() {
+        // Arrange
+        PredictionSnapshot snapshot = createSnapshot(20);
+
+        // Act
+        EnsembleResult first = predictor.predict(snapshot, 64, 42L);
+        EnsembleResult second = predictor.predict(snapshot, 64, 42L);
+
+        // Assert
+        assertEquals(first.getEstimates().size(), second.getEstimates().size());
+
+        for (int i = 0; i < first.getEstimates().size(); i++) {
+            EnsembleEstimate a = first.getEstimates().get(i);
+            EnsembleEstimate b = second.getEstimates().get(i);
+
+            assertEquals(a.getShipmentId(), b.getShipmentId());
+            assertEquals(a.getP50().getTerminalArrival(), b.getP50().getTerminalArrival());
+            assertEquals(a.getP90().getCustomerDelivery(), b.getP90().getCustomerDelivery());
+            assertEquals(a.getP99().getTerminalArrival(), b.getP99().getTerminalArrival());
+            assertEquals(
+                    a.getRiskAssessment().getDelayRiskScore(),
+                    b.getRiskAssessment().getDelayRiskScore()
+            );
+        }
+    }
+
+    /**
+     * Verifies that percentiles are ordered, that perturbations widen
+     * the band for a multi-leg route, and that risk is a probability.
+     */
+    @Test
+    void producesOrderedConfidenceBands() {
+        // Arrange
+        PredictionSnapshot snapshot = createSnapshot(5);
+
+        // Act
+        EnsembleResult result = predictor.predict(snapshot, 200, 7L);
+
+        // Assert
+        assertEquals(200, result.getTrials());
+
+        for (EnsembleEstimate estimate : result.getEstimates()) {
+            assertFalse(estimate.getP90().getTerminalArrival()
+                    .isBefore(estimate.getP50().getTerminalArrival()));
+            assertFalse(estimate.getP99().getTerminalArrival()
+                    .isBefore(estimate.getP90().getTerminalArrival()));
+            assertFalse(estimate.getP99().getCustomerDelivery()
+                    .isBefore(estimate.getP50().getCustomerDelivery()));
+
+            double risk = estimate.getRiskAssessment().getDelayRiskScore();
+            assertTrue(risk >= 0 && risk <= 1);
+        }
+
+        EnsembleEstimate multiLeg = result.findByTrackingNumber("TRACK0").orElseThrow();
+        assertTrue(multiLeg.getP99().getTerminalArrival()
+                .isAfter(multiLeg.getP50().getTerminalArrival()));
+        assertTrue(multiLeg.getRiskAssessment().getDelayRiskScore() > 0);
+    }
+
+    /**
+     * Verifies that with only symmetric perturbations, a delay whose
+     * duration scales by a log-normal factor of median one, about half
+     * of the trials deliver later than the reference.
+     */
+    @Test
+    void symmetricPerturbationsGiveEvenRisk() {
+        // Arrange
+        Terminal origin = createTerminal("CHI");
+        Terminal destination = new Terminal(
+                "DAL",
+                "DAL",
+                new WeekendDeliveryPolicy(ZoneId.of("America/Chicago"), LocalTime.MAX)
+        );
+        Shipment shipment = new Shipment("TRACK0", new Route(origin, destination, List.of(
+                new Segment(origin, destination, new TruckTransport()))));
+
+        SimulationState state = new SimulationState(START, List.of(shipment));
+        state.addDelayEvent(new DelayEvent(
+                DelayType.CONGESTION,
+                Duration.ofHours(100),
+                START,
+                "DAL",
+                "Yard congestion",
+                null,
+                null
+        ));
+
+        EnsemblePredictor symmetric = new EnsemblePredictor(
+                new SimulationEngine(),
+                new DeliveryEstimateService(),
+                terminal -> new WeatherForecast(WeatherSeverity.LOW),
+                0,
+                Duration.ZERO
+        );
+
+        // Act
+        EnsembleResult result = symmetric.predict(
+                PredictionSnapshotFactory.fromSimulationState(state), 1_000, 11L);
+
+        // Assert
+        double risk = result.findByTrackingNumber("TRACK0").orElseThrow()
+                .getRiskAssessment().getDelayRiskScore();
+        assertEquals(0.5, risk, 0.06);
+    }
+
+    /**
+     * Verifies that forecasts are fetched once per ensemble, in one
+     * batch, and shared by every trial.
+     */
+    @Test
+    void fetchesForecastsOncePerEnsemble() {
+        // Arrange
+        AtomicInteger batches = new AtomicInteger();
+        AtomicInteger lookups = new AtomicInteger();
+
+        WeatherClient countingClient = new WeatherClient() {
+            @Override
+            public WeatherForecast getForecast(Terminal terminal) {
+                lookups.incrementAndGet();
+                return client.getForecast(terminal);
+            }
+
+            @Override
+            public Map<String, WeatherForecast> getForecasts(Collection<Terminal> terminals) {
+                batches.incrementAndGet();
+                return client.getForecasts(terminals);
+            }
+        };
+
+        EnsemblePredictor countingPredictor = new EnsemblePredictor(
+                new SimulationEngine(),
+                new DeliveryEstimateService(),
+                countingClient
+        );
+
+        // Act
+        countingPredictor.predict(createSnapshot(10), 32, 3L);
+
+        // Assert
+        assertEquals(1, batches.get());
+        assertEquals(0, lookups.get());
+    }
+
+    @Test
+    void rejectsEmptyEnsemble() {
+        assertThrows(IllegalArgumentException.class,
+                () -> predictor.predict(createSnapshot(1), 0, 1L));
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private PredictionSnapshot createSnapshot(int shipmentCount) {
+        Route route = new Route(chicago, chicago, List.of(
+                new Segment(chicago, dallas, new RailTransport()),
+                new Segment(dallas, houston, new TruckTransport()),
+                new Segment(houston, chicago, new SeaTransport())
+        ));
+
+        List<Shipment> shipments = new ArrayList<>();
+        for (int i = 0; i < shipmentCount; i++) {
+            Shipment shipment = new Shipment("TRACK" + i, route);
+            shipment.advance(Duration.ofMinutes(50L * i));
+            shipments.add(shipment);
+        }
+
+        SimulationState state = new SimulationState(START, shipments);
+        state.addDelayEvent(new DelayEvent(
+                DelayType.CONGESTION,
+                Duration.ofHours(20),
+                START,
+                "DAL",
+                "Yard congestion",
+                null,
+                null
+        ));
+
+        return PredictionSnapshotFactory.fromSimulationState(state);
+    }
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
+}
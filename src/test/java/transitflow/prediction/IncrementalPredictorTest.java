@@ -0,0 +1,267 @@
+package transitflow.prediction;
+
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.DeliveryEstimateService;
+import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.delay.DelayType;
+import transitflow.domain.route.*;
+import transitflow.domain.shipment.Shipment;
+import transitflow.integration.weather.WeatherClient;
+import transitflow.integration.weather.WeatherDelayService;
+import transitflow.integration.weather.WeatherForecast;
+import transitflow.integration.weather.WeatherSeverity;
+import transitflow.simulation.DelayCoordinator;
+import transitflow.simulation.SimulationEngine;
+import transitflow.simulation.SimulationState;
+import transitflow.transport.sea.SeaTransport;
+import transitflow.transport.truck.TruckTransport;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests incremental re-prediction across prediction cycles.
+ *
+ * <p>Only shipments whose segment, relevant delays or route forecasts
+ * before arrival changed may be re-predicted; everything else must reuse
+ * its cached estimate.</p>
+ */
+class IncrementalPredictorTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+    private static final int SEA_SHIPMENTS = 50;
+
+    private final Terminal chicago = createTerminal("CHI");
+    private final Terminal dallas = createTerminal("DAL");
+    private final Terminal houston = createTerminal("HOU");
+
+    private final Map<String, WeatherForecast> forecasts = new HashMap<>();
+    private final WeatherClient client = terminal ->
+            forecasts.getOrDefault(terminal.getCode(), new WeatherForecast(WeatherSeverity.LOW));
+
+    private final PredictionEngine engine = new PredictionEngine(
+            new SimulationEngine(),
+            new DeliveryEstimateService(),
+            new DelayCoordinator(new WeatherDelayService(client))
+    );
+
+    private final SimulationEngine liveEngine = new SimulationEngine();
+    private final SimulationState liveState = new SimulationState(START, createShipments());
+    private final IncrementalPredictor predictor =
+            new IncrementalPredictor(engine, client, PredictionMode.EVENT_DRIVEN);
+
+    @Test
+    void unchangedShipmentsReuseCachedEstimates() {
+        // Arrange
+        Map<String, ArrivalEstimate> first = refresh();
+        assertEquals(SEA_SHIPMENTS + 1, predictor.getLastRecomputedCount());
+
+        // Act: progress within segments only
+        liveEngine.tick(liveState, Duration.ofHours(2));
+        Map<String, ArrivalEstimate> second = refresh();
+
+        // Assert
+        assertEquals(0, predictor.getLastRecomputedCount());
+        assertSame(first.get("SEA0"), second.get("SEA0"));
+        assertSame(first.get("TRUCK"), second.get("TRUCK"));
+    }
+
+    @Test
+    void segmentCompletionRepredictsOnlyThatShipment() {
+        // Arrange
+        refresh();
+
+        // Act: the truck leg completes, sea legs do not
+        liveEngine.tick(liveState, Duration.ofHours(6));
+        Map<String, ArrivalEstimate> estimates = refresh();
+
+        // Assert
+        assertEquals(1, predictor.getLastRecomputedCount());
+        assertEquals(START.plus(Duration.ofHours(6)), estimates.get("TRUCK").getTerminalArrival());
+    }
+
+    /**
+     * Verifies that a new delay re-predicts exactly the shipments it
+     * targets and that their estimates match a full prediction.
+     */
+    @Test
+    void delayOnRemainingRouteRepredictsAffectedShipments() {
+        // Arrange
+        Map<String, ArrivalEstimate> before = refresh();
+
+        // Act
+        liveState.addDelayEvent(new DelayEvent(
+                DelayType.CONGESTION,
+                Duration.ofHours(30),
+                START,
+                "HOU",
+                "Port congestion",
+                null,
+                null
+        ));
+        Map<String, ArrivalEstimate> after = refresh();
+
+        // Assert
+        assertEquals(SEA_SHIPMENTS, predictor.getLastRecomputedCount());
+        assertSame(before.get("TRUCK"), after.get("TRUCK"));
+
+        Shipment sea = liveState.getActiveShipments().get(0);
+        ArrivalEstimate full = engine.predictArrivalEstimate(
+                PredictionSnapshotFactory.fromSimulationState(liveState),
+                sea.getFinalDestination(),
+                PredictionMode.EVENT_DRIVEN
+        );
+        assertEquals(full.getTerminalArrival(), after.get("SEA0").getTerminalArrival());
+    }
+
+    @Test
+    void forecastChangeAtNextTerminalRepredictsAffectedShipments() {
+        // Arrange
+        refresh();
+
+        // Act
+        forecasts.put("DAL", new WeatherForecast(WeatherSeverity.HIGH));
+        Map<String, ArrivalEstimate> estimates = refresh();
+
+        // Assert
+        assertEquals(1, predictor.getLastRecomputedCount());
+        assertTrue(estimates.get("TRUCK").getTerminalArrival()
+                .isAfter(START.plus(Duration.ofHours(6))));
+    }
+
+    /**
+     * Verifies that a forecast change later in the series re-predicts
+     * the shipments arriving after it, while one beyond their arrival
+     * re-predicts nothing.
+     */
+    @Test
+    void laterForecastSlotChangeRepredictsShipmentsArrivingAfterIt() {
+        // Arrange
+        Map<String, ArrivalEstimate> before = refresh();
+
+        // Act: unchanged now, severe after the arrival of every sea leg
+        forecasts.put("HOU", hourlyForecast(2_000, WeatherSeverity.EXTREME));
+        refresh();
+
+        // Assert
+        assertEquals(0, predictor.getLastRecomputedCount());
+
+        // Act: unchanged now, severe while the sea legs are underway
+        forecasts.put("HOU", hourlyForecast(24, WeatherSeverity.EXTREME));
+        Map<String, ArrivalEstimate> after = refresh();
+
+        // Assert
+        assertEquals(SEA_SHIPMENTS, predictor.getLastRecomputedCount());
+        assertSame(before.get("TRUCK"), after.get("TRUCK"));
+        assertTrue(after.get("SEA0").getTerminalArrival()
+                .isAfter(before.get("SEA0").getTerminalArrival()));
+    }
+
+    /**
+     * Verifies that after a mix of changes a refresh yields the same
+     * estimates as a fresh full pass, including for an unchanged
+     * shipment that shares a terminal, and so injected weather delays,
+     * with a changed one.
+     */
+    @Test
+    void refreshMatchesFullPredictionAfterMixedChanges() {
+        // Arrange
+        Terminal memphis = createTerminal("MEM");
+        Segment feederLeg = new Segment(dallas, houston, new TruckTransport());
+        SimulationState state = new SimulationState(START, new ArrayList<>(List.of(
+                new Shipment("FEEDER", new Route(dallas, houston, List.of(feederLeg))),
+                new Shipment("LINKED", new Route(chicago, houston, List.of(
+                        new Segment(chicago, dallas, new TruckTransport()),
+                        new Segment(dallas, houston, new TruckTransport())))),
+                new Shipment("OTHER", new Route(chicago, memphis, List.of(
+                        new Segment(chicago, memphis, new TruckTransport()))))
+        )));
+        forecasts.put("HOU", new WeatherForecast(WeatherSeverity.HIGH));
+
+        IncrementalPredictor tickPredictor = new IncrementalPredictor(engine, client, PredictionMode.TICK);
+        tickPredictor.refresh(state.currentSnapshot().orElseThrow());
+
+        // Act: progress, a delay on the feeder's leg and a forecast change at MEM
+        liveEngine.tick(state, Duration.ofHours(2));
+        state.addDelayEvent(new DelayEvent(
+                DelayType.CONGESTION,
+                Duration.ofHours(5),
+                START,
+                null,
+                "Lane closure",
+                null,
+                feederLeg.getId()
+        ));
+        forecasts.put("MEM", new WeatherForecast(WeatherSeverity.MODERATE));
+
+        var version = state.currentSnapshot().orElseThrow();
+        Map<String, ArrivalEstimate> refreshed = tickPredictor.refresh(version);
+
+        // Assert
+        assertEquals(3, tickPredictor.getLastRecomputedCount());
+
+        PredictionResult full = engine.predictAll(new PredictionSnapshot(version), PredictionMode.TICK);
+        for (ShipmentPrediction prediction : full.getShipmentPredictions()) {
+            ArrivalEstimate expected = prediction.getArrivalEstimate().orElseThrow();
+            ArrivalEstimate actual = refreshed.get(prediction.getShipmentId());
+
+            assertEquals(expected.getTerminalArrival(), actual.getTerminalArrival(), prediction.getShipmentId());
+            assertEquals(expected.getCustomerDelivery(), actual.getCustomerDelivery(), prediction.getShipmentId());
+        }
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private Map<String, ArrivalEstimate> refresh() {
+        return predictor.refresh(liveState.currentSnapshot().orElseThrow());
+    }
+
+    /**
+     * Returns a forecast that is LOW for the given number of hours
+     * from the start and then switches to the given severity.
+     */
+    private WeatherForecast hourlyForecast(int lowHours, WeatherSeverity then) {
+        List<WeatherSeverity> severities = new ArrayList<>();
+        for (int i = 0; i < lowHours; i++) {
+            severities.add(WeatherSeverity.LOW);
+        }
+        severities.add(then);
+
+        return WeatherForecast.hourly(START, severities);
+    }
+
+    private List<Shipment> createShipments() {
+        List<Shipment> shipments = new ArrayList<>();
+
+        for (int i = 0; i < SEA_SHIPMENTS; i++) {
+            shipments.add(new Shipment("SEA" + i, new Route(dallas, houston, List.of(
+                    new Segment(dallas, houston, new SeaTransport())))));
+        }
+        shipments.add(new Shipment("TRUCK", new Route(chicago, dallas, List.of(
+                new Segment(chicago, dallas, new TruckTransport())))));
+
+        return shipments;
+    }
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
+}
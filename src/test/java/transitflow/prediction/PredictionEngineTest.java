@@ -6,16 +6,24 @@ import transitflow.domain.delay.DelayType;
 import transitflow.domain.route.*;
 import transitflow.domain.shipment.Shipment;
 import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.delivery.WeekendDeliveryPolicy;
 import transitflow.simulation.*;
 import transitflow.transport.truck.TruckTransport;
 import transitflow.delivery.DeliveryEstimateService;
+import transitflow.integration.weather.WeatherClient;
 import transitflow.integration.weather.WeatherDelayService;
+import transitflow.integration.weather.WeatherForecast;
+import transitflow.integration.weather.WeatherSeverity;
+import transitflow.transport.rail.RailTransport;
+import transitflow.transport.sea.SeaTransport;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -61,7 +69,7 @@ class PredictionEngineTest {
                     @Override
                     public void applyWeatherDelays(
                             SimulationState state,
-                            Terminal terminal
+                            Collection<Terminal> terminals
                     ) {
                         // intentionally no-op
                     }
@@ -85,6 +93,246 @@ class PredictionEngineTest {
         assertTrue(liveShipment.hasMoreSegments());
     }
 
+    /**
+     * Verifies that event-driven prediction produces exactly the same
+     * arrival as hourly ticking for a multi-modal route under
+     * recurring weather delays and a pre-existing scoped delay.
+     */
+    @Test
+    void eventDrivenPredictionMatchesTickPrediction() {
+
+        for (WeatherSeverity severity : WeatherSeverity.values()) {
+
+            ArrivalEstimate ticked = predictMultiModal(severity, PredictionMode.TICK);
+            ArrivalEstimate evented = predictMultiModal(severity, PredictionMode.EVENT_DRIVEN);
+
+            assertEquals(ticked.getTerminalArrival(), evented.getTerminalArrival(),
+                    "Arrival mismatch for " + severity);
+            assertEquals(ticked.getCustomerDelivery(), evented.getCustomerDelivery(),
+                    "Delivery mismatch for " + severity);
+        }
+    }
+
+    /**
+     * Verifies that event-driven prediction stops at the hourly slot
+     * where the next terminal's forecast turns severe, as hourly
+     * ticking does, instead of stepping past it.
+     */
+    @Test
+    void eventDrivenPredictionMatchesTickPredictionWithHourlyForecast() {
+
+        // Arrange
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        WeatherForecast forecast = WeatherForecast.hourly(start, List.of(
+                WeatherSeverity.LOW, WeatherSeverity.LOW, WeatherSeverity.EXTREME));
+
+        // Act
+        ArrivalEstimate ticked = predictSeaShipment(start, forecast, PredictionMode.TICK);
+        ArrivalEstimate evented = predictSeaShipment(start, forecast, PredictionMode.EVENT_DRIVEN);
+
+        // Assert
+        assertEquals(ticked.getTerminalArrival(), evented.getTerminalArrival());
+        assertEquals(ticked.getCustomerDelivery(), evented.getCustomerDelivery());
+    }
+
+    /**
+     * Verifies that event-driven prediction skips quiet ticks instead
+     * of re-evaluating conditions every simulated hour.
+     */
+    @Test
+    void eventDrivenPredictionEvaluatesFewerSteps() {
+
+        AtomicInteger tickCalls = new AtomicInteger();
+        AtomicInteger eventCalls = new AtomicInteger();
+
+        predictSeaShipment(tickCalls, PredictionMode.TICK);
+        predictSeaShipment(eventCalls, PredictionMode.EVENT_DRIVEN);
+
+        assertEquals(72, tickCalls.get());
+        assertTrue(eventCalls.get() < tickCalls.get() / 4,
+                "Event-driven mode should skip quiet ticks");
+    }
+
+    /**
+     * Verifies that predictions over a columnar shipment store match
+     * predictions over the equivalent shipment objects.
+     */
+    @Test
+    void storeBackedPredictionMatchesObjectPrediction() {
+
+        Shipment shipment = createSingleSegmentShipment();
+        shipment.advance(Duration.ofMinutes(50));
+
+        ShipmentStore store = new ShipmentStore();
+        store.add(shipment);
+
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        SimulationState objectState = new SimulationState(start, List.of(shipment));
+        SimulationState storeState = new SimulationState(start, store);
+
+        WeatherClient client = terminal -> new WeatherForecast(WeatherSeverity.MODERATE);
+
+        PredictionEngine engine =
+                new PredictionEngine(
+                        new SimulationEngine(),
+                        new DeliveryEstimateService(),
+                        new DelayCoordinator(new WeatherDelayService(client))
+                );
+
+        for (PredictionMode mode : PredictionMode.values()) {
+            ArrivalEstimate expected = engine.predictArrivalEstimate(
+                    PredictionSnapshotFactory.fromSimulationState(objectState),
+                    shipment.getFinalDestination(),
+                    mode
+            );
+            ArrivalEstimate actual = engine.predictArrivalEstimate(
+                    PredictionSnapshotFactory.fromSimulationState(storeState),
+                    shipment.getFinalDestination(),
+                    mode
+            );
+
+            assertEquals(expected.getTerminalArrival(), actual.getTerminalArrival());
+        }
+
+        // Live store untouched by prediction
+        assertEquals(0, store.getCurrentSegmentIndex(0));
+    }
+
+    /**
+     * Verifies that a single batch pass yields, for every shipment,
+     * the same estimate as predicting it alone, with each delivery
+     * computed by the shipment's own destination policy.
+     */
+    @Test
+    void predictAllMatchesIndividualPredictions() {
+        // Arrange
+        Terminal chicago = createTerminal("CHI");
+        Terminal dallas = createTerminal("DAL");
+        Terminal tokyo = new Terminal(
+                "TYO",
+                "Tokyo",
+                new WeekendDeliveryPolicy(ZoneId.of("Asia/Tokyo"), LocalTime.of(9, 0))
+        );
+
+        List<Shipment> shipments = List.of(
+                new Shipment("TRUCK", new Route(chicago, dallas, List.of(
+                        new Segment(chicago, dallas, new TruckTransport())))),
+                new Shipment("SEA", new Route(dallas, tokyo, List.of(
+                        new Segment(dallas, tokyo, new SeaTransport())))),
+                new Shipment("RAIL", new Route(dallas, chicago, List.of(
+                        new Segment(dallas, chicago, new RailTransport()))))
+        );
+
+        Instant start = Instant.parse("2026-01-02T15:00:00Z");
+        PredictionEngine engine = createEngine(WeatherSeverity.LOW);
+
+        // Act
+        PredictionResult result = engine.predictAll(
+                PredictionSnapshotFactory.fromSimulationState(new SimulationState(start, shipments)),
+                PredictionMode.EVENT_DRIVEN
+        );
+
+        // Assert
+        assertEquals(shipments.size(), result.getShipmentPredictions().size());
+
+        for (Shipment shipment : shipments) {
+            ArrivalEstimate alone = engine.predictArrivalEstimate(
+                    PredictionSnapshotFactory.fromSimulationState(
+                            new SimulationState(start, List.of(shipment))),
+                    shipment.getFinalDestination()
+            );
+            ArrivalEstimate batch = result.findByTrackingNumber(shipment.getTrackingNumber())
+                    .flatMap(ShipmentPrediction::getArrivalEstimate)
+                    .orElseThrow();
+
+            assertEquals(alone.getTerminalArrival(), batch.getTerminalArrival());
+            assertEquals(alone.getCustomerDelivery(), batch.getCustomerDelivery());
+        }
+    }
+
+    /**
+     * Verifies that shipments bound for registry terminals, whose
+     * deliveries are estimated in bulk, get the same estimates as
+     * shipments predicted alone, alongside an unregistered destination.
+     */
+    @Test
+    void predictAllEstimatesRegisteredDestinationsInBulk() {
+        // Arrange
+        TerminalRegistry registry = new TerminalRegistry();
+        Terminal chicago = registry.intern(createTerminal("CHI"));
+        Terminal dallas = registry.intern(createTerminal("DAL"));
+        Terminal tokyo = new Terminal(
+                "TYO",
+                "Tokyo",
+                new WeekendDeliveryPolicy(ZoneId.of("Asia/Tokyo"), LocalTime.of(9, 0))
+        );
+
+        List<Shipment> shipments = List.of(
+                new Shipment("TRUCK", new Route(chicago, dallas, List.of(
+                        new Segment(chicago, dallas, new TruckTransport())))),
+                new Shipment("RAIL", new Route(dallas, chicago, List.of(
+                        new Segment(dallas, chicago, new RailTransport())))),
+                new Shipment("SEA", new Route(dallas, tokyo, List.of(
+                        new Segment(dallas, tokyo, new SeaTransport()))))
+        );
+
+        // Friday afternoon, so the registered arrivals wait for Monday
+        Instant start = Instant.parse("2026-01-02T15:00:00Z");
+        PredictionEngine engine = createEngine(WeatherSeverity.LOW);
+
+        // Act
+        PredictionResult result = engine.predictAll(
+                PredictionSnapshotFactory.fromSimulationState(new SimulationState(start, shipments)),
+                PredictionMode.TICK
+        );
+
+        // Assert
+        for (Shipment shipment : shipments) {
+            ArrivalEstimate alone = engine.predictArrivalEstimate(
+                    PredictionSnapshotFactory.fromSimulationState(
+                            new SimulationState(start, List.of(shipment))),
+                    shipment.getFinalDestination()
+            );
+            ArrivalEstimate batch = result.findByTrackingNumber(shipment.getTrackingNumber())
+                    .flatMap(ShipmentPrediction::getArrivalEstimate)
+                    .orElseThrow();
+
+            assertEquals(alone.getTerminalArrival(), batch.getTerminalArrival());
+            assertEquals(alone.getCustomerDelivery(), batch.getCustomerDelivery());
+        }
+    }
+
+    @Test
+    void predictReportsShipmentsBeyondHorizonAsInTransit() {
+        // Arrange
+        Terminal chicago = createTerminal("CHI");
+        Terminal dallas = createTerminal("DAL");
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+
+        SimulationState liveState = new SimulationState(start, List.of(
+                new Shipment("TRUCK", new Route(chicago, dallas, List.of(
+                        new Segment(chicago, dallas, new TruckTransport())))),
+                new Shipment("SEA", new Route(chicago, dallas, List.of(
+                        new Segment(chicago, dallas, new SeaTransport()))))
+        ));
+
+        // Act
+        PredictionResult result = createEngine(WeatherSeverity.LOW).predict(
+                PredictionSnapshotFactory.fromSimulationState(liveState),
+                Duration.ofMinutes(450)
+        );
+
+        // Assert
+        assertEquals(start.plus(Duration.ofMinutes(450)), result.getPredictedAt());
+        assertEquals(
+                start.plus(Duration.ofHours(6)),
+                result.findByTrackingNumber("TRUCK")
+                        .flatMap(ShipmentPrediction::getPredictedCompletionTime)
+                        .orElseThrow()
+        );
+        assertFalse(result.findByTrackingNumber("SEA").orElseThrow().isComplete());
+    }
+
     /* ------------------------------------------------------------------
        Test helpers
        ------------------------------------------------------------------ */
@@ -119,4 +367,145 @@ class PredictionEngineTest {
 
         return new Shipment("TRACK123", route);
     }
-}
\ No newline at end of file
+
+    private ArrivalEstimate predictMultiModal(
+            WeatherSeverity severity,
+            PredictionMode mode
+    ) {
+        Terminal chicago = createTerminal("CHI");
+        Terminal dallas = createTerminal("DAL");
+        Terminal houston = createTerminal("HOU");
+
+        Segment rail = new Segment(chicago, dallas, new RailTransport());
+        Segment sea = new Segment(dallas, houston, new SeaTransport());
+        Segment truck = new Segment(houston, chicago, new TruckTransport());
+
+        Route route = new Route(chicago, chicago, List.of(rail, sea, truck));
+        Shipment shipment = new Shipment("TRACK123", route);
+
+        // Start mid-leg so completions fall between tick boundaries
+        shipment.advance(Duration.ofMinutes(95));
+
+        SimulationState liveState = new SimulationState(
+                Instant.parse("2026-01-01T00:20:00Z"),
+                List.of(shipment)
+        );
+
+        liveState.addDelayEvent(new DelayEvent(
+                DelayType.CONGESTION,
+                Duration.ofMinutes(150),
+                liveState.getCurrentTime().plus(Duration.ofHours(30)),
+                null,
+                "Sea lane congestion",
+                sea.getTransportMode(),
+                null
+        ));
+
+        WeatherClient client = terminal -> new WeatherForecast(
+                terminal.getCode().equals("HOU") ? severity : WeatherSeverity.LOW
+        );
+
+        PredictionEngine engine =
+                new PredictionEngine(
+                        new SimulationEngine(),
+                        new DeliveryEstimateService(),
+                        new DelayCoordinator(new WeatherDelayService(client))
+                );
+
+        return engine.predictArrivalEstimate(
+                PredictionSnapshotFactory.fromSimulationState(liveState),
+                shipment.getFinalDestination(),
+                mode
+        );
+    }
+
+    private void predictSeaShipment(AtomicInteger forecastCalls, PredictionMode mode) {
+
+        Terminal origin = createTerminal("DAL");
+        Terminal destination = createTerminal("HOU");
+
+        Segment segment = new Segment(origin, destination, new SeaTransport());
+        Shipment shipment = new Shipment(
+                "TRACK123",
+                new Route(origin, destination, List.of(segment))
+        );
+
+        WeatherClient client = terminal -> {
+            forecastCalls.incrementAndGet();
+            return new WeatherForecast(WeatherSeverity.LOW);
+        };
+
+        PredictionEngine engine =
+                new PredictionEngine(
+                        new SimulationEngine(),
+                        new DeliveryEstimateService(),
+                        new DelayCoordinator(new WeatherDelayService(client))
+                );
+
+        SimulationState liveState = new SimulationState(
+                Instant.parse("2026-01-01T00:00:00Z"),
+                List.of(shipment)
+        );
+
+        engine.predictArrivalEstimate(
+                PredictionSnapshotFactory.fromSimulationState(liveState),
+                destination,
+                mode
+        );
+    }
+
+    private ArrivalEstimate predictSeaShipment(
+            Instant start,
+            WeatherForecast destinationForecast,
+            PredictionMode mode
+    ) {
+        Terminal origin = createTerminal("DAL");
+        Terminal destination = createTerminal("HOU");
+
+        Segment segment = new Segment(origin, destination, new SeaTransport());
+        Shipment shipment = new Shipment(
+                "TRACK123",
+                new Route(origin, destination, List.of(segment))
+        );
+
+        WeatherClient client = terminal -> terminal.getCode().equals("HOU")
+                ? destinationForecast
+                : new WeatherForecast(WeatherSeverity.LOW);
+
+        PredictionEngine engine =
+                new PredictionEngine(
+                        new SimulationEngine(),
+                        new DeliveryEstimateService(),
+                        new DelayCoordinator(new WeatherDelayService(client))
+                );
+
+        SimulationState liveState = new SimulationState(start, List.of(shipment));
+
+        return engine.predictArrivalEstimate(
+                PredictionSnapshotFactory.fromSimulationState(liveState),
+                destination,
+                mode
+        );
+    }
+
+    private PredictionEngine createEngine(WeatherSeverity severity) {
+        WeatherClient client = terminal -> new WeatherForecast(severity);
+
+        return new PredictionEngine(
+                new SimulationEngine(),
+                new DeliveryEstimateService(),
+                new DelayCoordinator(new WeatherDelayService(client))
+        );
+    }
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
+}
@@ -0,0 +1,207 @@
+package transitflow.repo;
+
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.delay.DelayType;
+import transitflow.domain.route.Route;
+import transitflow.domain.route.Segment;
+import transitflow.domain.route.Terminal;
+import transitflow.domain.shipment.Shipment;
+import transitflow.domain.shipment.ShipmentStatus;
+import transitflow.simulation.SimulationEngine;
+import transitflow.simulation.SimulationState;
+import transitflow.transport.truck.TruckTransport;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests lookups and secondary index maintenance of the shipment
+ * repository.
+ */
+class ShipmentRepositoryTest {
+
+    private static final Terminal CHI = terminal("CHI");
+    private static final Terminal DAL = terminal("DAL");
+    private static final Terminal HOU = terminal("HOU");
+
+    /**
+     * Verifies that indexes follow a shipment as it advances through
+     * its segments and arrives.
+     */
+    @Test
+    void reindexesShipmentsAsTheyAdvance() {
+        // Arrange
+        ShipmentRepository repository = new ShipmentRepository();
+        Route route = route(CHI, DAL, HOU);
+        repository.save(new Shipment("TRACK1", route));
+
+        // Assert: on the first leg, inbound to DAL
+        assertEquals(List.of("TRACK1"), trackingNumbers(repository.findInboundTo("DAL")));
+        assertEquals(List.of("TRACK1"), trackingNumbers(repository.findByDestination("HOU")));
+        assertTrue(repository.findInboundTo("HOU").isEmpty());
+
+        // Act: finish the first leg
+        repository.update("TRACK1", shipment -> shipment.advance(route.getSegmentTransitNanos(0)));
+
+        // Assert
+        assertTrue(repository.findInboundTo("DAL").isEmpty());
+        assertEquals(List.of("TRACK1"), trackingNumbers(repository.findInboundTo("HOU")));
+        assertEquals(1, repository.findByStatus(ShipmentStatus.IN_TRANSIT).size());
+
+        // Act: arrive
+        repository.update("TRACK1", shipment -> shipment.advance(route.getSegmentTransitNanos(1)));
+
+        // Assert
+        assertTrue(repository.findInboundTo("HOU").isEmpty());
+        assertTrue(repository.findByStatus(ShipmentStatus.IN_TRANSIT).isEmpty());
+        assertEquals(List.of("TRACK1"), trackingNumbers(repository.findByStatus(ShipmentStatus.ARRIVED_AT_TERMINAL)));
+        assertEquals(List.of("TRACK1"), trackingNumbers(repository.findByDestination("HOU")));
+    }
+
+    /**
+     * Verifies that replacing and deleting shipments removes their
+     * old index entries.
+     */
+    @Test
+    void replaceAndDeleteUnindex() {
+        // Arrange
+        ShipmentRepository repository = new ShipmentRepository();
+        repository.save(new Shipment("TRACK1", route(CHI, DAL)));
+
+        // Act
+        repository.save(new Shipment("TRACK1", route(CHI, HOU)));
+
+        // Assert
+        assertTrue(repository.findByDestination("DAL").isEmpty());
+        assertEquals(1, repository.findByDestination("HOU").size());
+        assertEquals(1, repository.count());
+
+        // Act
+        assertTrue(repository.delete("TRACK1"));
+
+        // Assert
+        assertFalse(repository.delete("TRACK1"));
+        assertTrue(repository.findByDestination("HOU").isEmpty());
+        assertTrue(repository.findByStatus(ShipmentStatus.IN_TRANSIT).isEmpty());
+        assertTrue(repository.findByTrackingId("TRACK1").isEmpty());
+        assertTrue(repository.update("TRACK1", Shipment::copy).isEmpty());
+    }
+
+    /**
+     * Verifies that concurrent saves and updates leave every index
+     * consistent with the stored shipments.
+     */
+    @Test
+    void indexesStayConsistentUnderConcurrentWriters() throws Exception {
+        // Arrange
+        ShipmentRepository repository = new ShipmentRepository();
+        Route route = route(CHI, DAL, HOU);
+        int threads = 8;
+        int perThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        String trackingNumber = "T" + thread + "-" + i;
+                        repository.save(new Shipment(trackingNumber, route));
+                        if (i % 2 == 0) {
+                            repository.update(trackingNumber,
+                                    shipment -> shipment.advance(route.getSegmentTransitNanos(0)));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        int total = threads * perThread;
+        assertEquals(total, repository.count());
+        assertEquals(total, repository.findByDestination("HOU").size());
+        assertEquals(total / 2, repository.findInboundTo("DAL").size());
+        assertEquals(total / 2, repository.findInboundTo("HOU").size());
+        assertEquals(total, repository.findByStatus(ShipmentStatus.IN_TRANSIT).size());
+    }
+
+    /**
+     * Verifies that shipments advanced by a parallel simulation tick
+     * are re-indexed, and that blocked ones are found as delayed.
+     */
+    @Test
+    void reindexesShipmentsAdvancedBySimulation() {
+        // Arrange
+        ShipmentRepository repository = new ShipmentRepository();
+        Route toHouston = route(CHI, DAL, HOU);
+        Route toDallas = route(HOU, DAL);
+
+        List<Shipment> shipments = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Shipment shipment = new Shipment("T" + i, i % 2 == 0 ? toHouston : toDallas);
+            repository.save(shipment);
+            shipments.add(shipment);
+        }
+
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        SimulationState state = new SimulationState(start, shipments);
+        state.setShipmentTracker(repository);
+        state.addDelayEvent(new DelayEvent(
+                DelayType.CONGESTION, Duration.ofDays(1), start, null, "Yard congestion", null,
+                toDallas.getSegments().get(0).getId()));
+
+        // Act: long enough for the first leg to Dallas, split across workers
+        new SimulationEngine(1, 8).tick(state, Duration.ofNanos(toHouston.getSegmentTransitNanos(0)));
+
+        // Assert
+        assertEquals(50, repository.findInboundTo("HOU").size());
+        assertEquals(50, repository.findInboundTo("DAL").size());
+        assertEquals(50, repository.findByStatus(ShipmentStatus.DELAYED).size());
+        assertEquals(50, repository.findByStatus(ShipmentStatus.IN_TRANSIT).size());
+        assertEquals(ShipmentStatus.DELAYED, repository.findByTrackingId("T1").orElseThrow().getStatus());
+        assertNotSame(shipments.get(0), repository.findByTrackingId("T0").orElseThrow());
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private static Terminal terminal(String code) {
+        return new Terminal(code, code, new StandardDeliveryPolicy(
+                ZoneId.of("America/Chicago"), LocalTime.of(6, 0)));
+    }
+
+    private static Route route(Terminal... stops) {
+        List<Segment> segments = new ArrayList<>();
+        for (int i = 1; i < stops.length; i++) {
+            segments.add(new Segment(stops[i - 1], stops[i], new TruckTransport()));
+        }
+        return new Route(stops[0], stops[stops.length - 1], segments);
+    }
+
+    private static List<String> trackingNumbers(List<Shipment> shipments) {
+        List<String> numbers = new ArrayList<>();
+        for (Shipment shipment : shipments) {
+            numbers.add(shipment.getTrackingNumber());
+        }
+        return numbers;
+    }
+}
@@ -13,6 +13,8 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -86,14 +88,14 @@ class DelayCoordinatorTest {
     /**
      * Verifies that the coordinator applies
      * delays independently for multiple
-     * active shipments.
+     * active shipments heading to different terminals.
      */
     @Test
     void coordinatorAppliesDelaysForMultipleShipments() {
 
         // Arrange
-        Shipment shipment1 = createSingleSegmentShipment();
-        Shipment shipment2 = createSingleSegmentShipment();
+        Shipment shipment1 = createSingleSegmentShipment("DAL");
+        Shipment shipment2 = createSingleSegmentShipment("HOU");
 
         SimulationState state =
                 new SimulationState(
@@ -114,6 +116,43 @@ class DelayCoordinatorTest {
         assertEquals(2, state.getDelayEvents().size());
     }
 
+    /**
+     * Verifies that shipments sharing a next terminal cause a single
+     * weather resolution per call, all terminals are resolved in one
+     * batch, and that the cost is reported.
+     */
+    @Test
+    void coordinatorResolvesEachTerminalOncePerCall() {
+
+        // Arrange
+        List<Shipment> shipments = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            shipments.add(createSingleSegmentShipment(i % 2 == 0 ? "DAL" : "HOU"));
+        }
+
+        SimulationState state =
+                new SimulationState(
+                        Instant.parse("2026-01-01T00:00:00Z"),
+                        shipments
+                );
+
+        CountingWeatherDelayService countingService =
+                new CountingWeatherDelayService();
+
+        DelayCoordinator coordinator =
+                new DelayCoordinator(countingService);
+
+        // Act
+        coordinator.applyExternalDelays(state);
+        coordinator.applyExternalDelays(state);
+
+        // Assert
+        assertEquals(List.of("DAL", "HOU", "DAL", "HOU"), countingService.resolved);
+        assertEquals(2, countingService.batches);
+        assertEquals(4, coordinator.getTerminalLookups());
+        assertEquals(200, coordinator.getShipmentsVisited());
+    }
+
     /* ------------------------------------------------------------------
        Test helpers
        ------------------------------------------------------------------ */
@@ -138,21 +177,53 @@ class DelayCoordinatorTest {
         @Override
         public void applyWeatherDelays(
                 SimulationState state,
-                Terminal terminal
+                Collection<Terminal> terminals
         ) {
-            state.addDelayEvent(new DelayEvent(
-                    DelayType.WEATHER,
-                    durationToInject,
-                    state.getCurrentTime(),
-                    terminal.getCode(),
-                    "Stub delay",
-                    null,
-                    null
-            ));
+            for (Terminal terminal : terminals) {
+                state.addDelayEvent(new DelayEvent(
+                        DelayType.WEATHER,
+                        durationToInject,
+                        state.getCurrentTime(),
+                        terminal.getCode(),
+                        "Stub delay",
+                        null,
+                        null
+                ));
+            }
+        }
+    }
+
+    /**
+     * Records the terminals the coordinator resolves, in order, and
+     * the number of batched calls made.
+     */
+    private static class CountingWeatherDelayService
+            extends WeatherDelayService {
+
+        private final List<String> resolved = new ArrayList<>();
+        private int batches;
+
+        public CountingWeatherDelayService() {
+            super(null);
+        }
+
+        @Override
+        public void applyWeatherDelays(
+                SimulationState state,
+                Collection<Terminal> terminals
+        ) {
+            batches++;
+            for (Terminal terminal : terminals) {
+                resolved.add(terminal.getCode());
+            }
         }
     }
 
     private Shipment createSingleSegmentShipment() {
+        return createSingleSegmentShipment("DAL");
+    }
+
+    private Shipment createSingleSegmentShipment(String destinationCode) {
 
         Terminal origin = new Terminal(
                 "CHI",
@@ -164,8 +235,8 @@ class DelayCoordinatorTest {
         );
 
         Terminal destination = new Terminal(
-                "DAL",
-                "Dallas",
+                destinationCode,
+                destinationCode,
                 new StandardDeliveryPolicy(
                         ZoneId.of("America/Chicago"),
                         LocalTime.of(6, 0)
@@ -0,0 +1,142 @@
+package transitflow.simulation;
+
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.delay.DelayType;
+import transitflow.domain.route.Segment;
+import transitflow.domain.route.Terminal;
+import transitflow.transport.TransportMode;
+import transitflow.transport.rail.RailTransport;
+import transitflow.transport.truck.TruckTransport;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests scope-based delay lookup and expiry in DelayIndex.
+ */
+class DelayIndexTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final Terminal chicago = createTerminal("CHI");
+    private final Terminal dallas = createTerminal("DAL");
+    private final Segment truckSegment = new Segment(chicago, dallas, new TruckTransport());
+    private final Segment railSegment = new Segment(dallas, chicago, new RailTransport());
+
+    @Test
+    void globalDelayBlocksEverySegment() {
+        DelayIndex index = new DelayIndex();
+        index.add(delay(Duration.ofHours(2), null, null, null));
+
+        assertTrue(index.isBlocked(truckSegment, START.plusSeconds(3600)));
+        assertTrue(index.isBlocked(railSegment, START.plusSeconds(3600)));
+    }
+
+    @Test
+    void scopedDelaysBlockOnlyMatchingSegments() {
+        DelayIndex index = new DelayIndex();
+        index.add(delay(Duration.ofHours(2), null, truckSegment.getTransportMode(), null));
+        index.add(delay(Duration.ofHours(2), null, null, UUID.randomUUID()));
+        index.add(delay(Duration.ofHours(2), "HOU", null, null));
+
+        assertTrue(index.isBlocked(truckSegment, START));
+        assertFalse(index.isBlocked(railSegment, START));
+
+        index.add(delay(Duration.ofHours(2), "CHI", null, null));
+        assertTrue(index.isBlocked(railSegment, START));
+    }
+
+    /**
+     * Verifies that a mode-scoped delay recorded with a different
+     * instance of the mode still matches segments using that mode.
+     */
+    @Test
+    void modeDelayMatchesAcrossModeInstances() {
+        DelayIndex index = new DelayIndex();
+        DelayEvent truckDelay = delay(Duration.ofHours(2), null, TruckTransport.INSTANCE, null);
+        index.add(truckDelay);
+
+        assertTrue(index.isBlocked(truckSegment, START));
+        assertFalse(index.isBlocked(railSegment, START));
+        assertTrue(DelayIndex.appliesTo(truckDelay, truckSegment));
+        assertFalse(DelayIndex.appliesTo(truckDelay, railSegment));
+    }
+
+    /**
+     * Verifies that the latest end wins when several delays
+     * target the same segment.
+     */
+    @Test
+    void reportsLatestEndAcrossScopes() {
+        DelayIndex index = new DelayIndex();
+        index.add(delay(Duration.ofHours(2), "DAL", null, null));
+        index.add(delay(Duration.ofHours(5), null, null, truckSegment.getId()));
+
+        assertEquals(START.plus(Duration.ofHours(5)), index.blockedUntil(truckSegment, START));
+        assertEquals(START.plus(Duration.ofHours(2)), index.nextExpiry(START));
+    }
+
+    /**
+     * Verifies that delays stay active up to and including their
+     * end instant and drop out of the index afterwards.
+     */
+    @Test
+    void expiredDelaysDropOutOfIndex() {
+        DelayIndex index = new DelayIndex();
+        index.add(delay(Duration.ofHours(2), "DAL", null, null));
+        index.add(delay(Duration.ofHours(4), null, null, null));
+
+        Instant firstEnd = START.plus(Duration.ofHours(2));
+        assertTrue(index.expire(firstEnd).isEmpty());
+        assertEquals(2, index.size());
+
+        index.expire(firstEnd.plusSeconds(1));
+        assertEquals(1, index.size());
+        assertEquals(START.plus(Duration.ofHours(4)),
+                index.blockedUntil(truckSegment, firstEnd.plusSeconds(1)));
+
+        index.expire(START.plus(Duration.ofHours(5)));
+        assertEquals(0, index.size());
+        assertNull(index.nextExpiry(START.plus(Duration.ofHours(5))));
+        assertFalse(index.isBlocked(truckSegment, START.plus(Duration.ofHours(5))));
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private DelayEvent delay(
+            Duration duration,
+            String locationId,
+            TransportMode mode,
+            UUID segmentId
+    ) {
+        return new DelayEvent(
+                DelayType.CUSTOM,
+                duration,
+                START,
+                locationId,
+                "Test delay",
+                mode,
+                segmentId
+        );
+    }
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
+}
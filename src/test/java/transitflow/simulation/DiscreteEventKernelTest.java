@@ -0,0 +1,235 @@
+package transitflow.simulation;
+
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.delay.DelayType;
+import transitflow.domain.route.*;
+import transitflow.domain.shipment.Shipment;
+import transitflow.integration.weather.WeatherDelayService;
+import transitflow.integration.weather.WeatherForecast;
+import transitflow.integration.weather.WeatherSeverity;
+import transitflow.transport.TransportMode;
+import transitflow.transport.air.AirTransport;
+import transitflow.transport.rail.RailTransport;
+import transitflow.transport.sea.SeaTransport;
+import transitflow.transport.truck.TruckTransport;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the discrete-event kernel behind SimulationEngine.
+ *
+ * <p>The kernel must produce exactly the same shipment progression
+ * as ticking every shipment on every tick, while only touching
+ * shipments that have an event due.</p>
+ */
+class DiscreteEventKernelTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration TICK = Duration.ofMinutes(30);
+
+    private final TransportMode truck = new TruckTransport();
+    private final TransportMode rail = new RailTransport();
+    private final TransportMode air = new AirTransport();
+    private final TransportMode sea = new SeaTransport();
+
+    private final Terminal chicago = createTerminal("CHI");
+    private final Terminal dallas = createTerminal("DAL");
+    private final Terminal houston = createTerminal("HOU");
+
+    /**
+     * Verifies that kernel-driven ticks match per-tick simulation
+     * under scoped delays and recurring weather checks.
+     */
+    @Test
+    void kernelMatchesTickSimulation() {
+
+        Network network = new Network();
+        List<Shipment> ticked = network.shipments();
+        List<Shipment> evented = network.shipments();
+
+        SimulationState tickState = new SimulationState(START, ticked);
+        SimulationState eventState = new SimulationState(START, evented);
+
+        WeatherDelayService weather = new WeatherDelayService(terminal ->
+                new WeatherForecast(terminal.getCode().equals("HOU")
+                        ? WeatherSeverity.MODERATE
+                        : WeatherSeverity.LOW));
+
+        DelayCoordinator coordinator = new DelayCoordinator(weather);
+        SimulationEngine engine = new SimulationEngine();
+
+        eventState.enableEventKernel(TICK)
+                .scheduleWeatherChecks(weather::applyWeatherDelays, TICK);
+
+        for (int i = 0; i < 800; i++) {
+
+            if (i == 5) {
+                addDelay(tickState, network, 0);
+                addDelay(eventState, network, 0);
+            }
+            if (i == 40) {
+                addDelay(tickState, network, 1);
+                addDelay(eventState, network, 1);
+            }
+            if (i == 90) {
+                addDelay(tickState, network, 2);
+                addDelay(eventState, network, 2);
+            }
+
+            coordinator.applyExternalDelays(tickState);
+            engine.tick(tickState, TICK);
+            engine.tick(eventState, TICK);
+
+            eventState.getEventKernel().orElseThrow().synchronize();
+
+            assertEquals(tickState.getCurrentTime(), eventState.getCurrentTime());
+
+            for (int s = 0; s < ticked.size(); s++) {
+                Shipment expected = ticked.get(s);
+                Shipment actual = evented.get(s);
+
+                assertEquals(expected.getCurrentSegmentIndex(), actual.getCurrentSegmentIndex(),
+                        "Segment mismatch for shipment " + s + " at tick " + i);
+                if (expected.hasMoreSegments()) {
+                    assertEquals(expected.getRemainingInCurrentSegment(),
+                            actual.getRemainingInCurrentSegment(),
+                            "Progress mismatch for shipment " + s + " at tick " + i);
+                }
+                assertEquals(expected.getStatus(), actual.getStatus());
+            }
+        }
+
+        assertTrue(ticked.stream().noneMatch(Shipment::hasMoreSegments));
+    }
+
+    /**
+     * Verifies that mid-leg shipments do not generate events on
+     * every tick.
+     */
+    @Test
+    void idleShipmentsDoNotScheduleEventsPerTick() {
+
+        Segment segment = new Segment(chicago, houston, sea);
+        List<Shipment> shipments = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            shipments.add(new Shipment("TRACK" + i,
+                    new Route(chicago, houston, List.of(segment))));
+        }
+
+        SimulationState state = new SimulationState(START, shipments);
+        DiscreteEventKernel kernel = state.enableEventKernel(TICK);
+
+        new SimulationEngine().tick(state, Duration.ofHours(10));
+
+        // One pending completion per shipment, nothing else
+        assertEquals(100, kernel.pendingEvents());
+
+        kernel.synchronize();
+        assertEquals(Duration.ofHours(62), shipments.get(0).getRemainingInCurrentSegment());
+    }
+
+    /**
+     * Verifies that copying shipments applies pending progress to the
+     * copies only, leaving live shipments as the kernel left them.
+     */
+    @Test
+    void copyingShipmentsDoesNotMaterializeLiveProgress() {
+
+        Shipment shipment = new Shipment("TRACK1",
+                new Route(chicago, houston, List.of(new Segment(chicago, houston, sea))));
+
+        SimulationState state = new SimulationState(START, List.of(shipment));
+        DiscreteEventKernel kernel = state.enableEventKernel(TICK);
+
+        new SimulationEngine().tick(state, Duration.ofHours(10));
+
+        Shipment copy = kernel.copyShipments().get(0);
+
+        assertNotSame(shipment, copy);
+        assertEquals(Duration.ofHours(62), copy.getRemainingInCurrentSegment());
+        assertEquals(Duration.ofHours(72), shipment.getRemainingInCurrentSegment());
+
+        kernel.synchronize();
+        assertEquals(copy.getRemainingInCurrentSegment(), shipment.getRemainingInCurrentSegment());
+        assertEquals(copy.getStatus(), shipment.getStatus());
+    }
+
+    @Test
+    void rejectsTicksOffTheKernelGrid() {
+
+        SimulationState state = new SimulationState(START, List.of());
+        state.enableEventKernel(TICK);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimulationEngine().tick(state, Duration.ofMinutes(45)));
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    /**
+     * Fixed set of segments so delays can target shared segment ids.
+     */
+    private final class Network {
+
+        private final Segment chicagoDallasRail = new Segment(chicago, dallas, rail);
+        private final Segment dallasHoustonTruck = new Segment(dallas, houston, truck);
+        private final Segment houstonChicagoAir = new Segment(houston, chicago, air);
+        private final Segment chicagoHoustonSea = new Segment(chicago, houston, sea);
+
+        List<Shipment> shipments() {
+            List<Shipment> shipments = new ArrayList<>();
+
+            shipments.add(new Shipment("A", new Route(chicago, houston,
+                    List.of(chicagoDallasRail, dallasHoustonTruck))));
+            shipments.add(new Shipment("B", new Route(dallas, chicago,
+                    List.of(dallasHoustonTruck, houstonChicagoAir))));
+            shipments.add(new Shipment("C", new Route(chicago, houston,
+                    List.of(chicagoHoustonSea))));
+            shipments.add(new Shipment("D", new Route(chicago, chicago,
+                    List.of(chicagoDallasRail, dallasHoustonTruck, houstonChicagoAir))));
+
+            // Start some shipments mid-leg, off the tick grid
+            shipments.get(1).advance(Duration.ofMinutes(95));
+            shipments.get(3).advance(Duration.ofMinutes(17));
+
+            return shipments;
+        }
+
+        DelayEvent delay(int index, Instant now) {
+            return switch (index) {
+                case 0 -> new DelayEvent(DelayType.CREW_DELAY, Duration.ofMinutes(200),
+                        now, null, "Rail crew shortage", rail, null);
+                case 1 -> new DelayEvent(DelayType.CONGESTION, Duration.ofMinutes(75),
+                        now, null, "Lane closure", null, dallasHoustonTruck.getId());
+                default -> new DelayEvent(DelayType.CUSTOM, Duration.ofMinutes(130),
+                        now, null, "Network outage", null, null);
+            };
+        }
+    }
+
+    private void addDelay(SimulationState state, Network network, int index) {
+        state.addDelayEvent(network.delay(index, state.getCurrentTime()));
+    }
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
+}
@@ -0,0 +1,160 @@
+package transitflow.simulation;
+
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.delay.DelayType;
+import transitflow.domain.route.*;
+import transitflow.domain.shipment.Shipment;
+import transitflow.domain.shipment.ShipmentStatus;
+import transitflow.transport.rail.RailTransport;
+import transitflow.transport.sea.SeaTransport;
+import transitflow.transport.truck.TruckTransport;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the columnar shipment store.
+ *
+ * <p>Rows must advance exactly like individual Shipment objects,
+ * both directly and when ticked through SimulationEngine.</p>
+ */
+class ShipmentStoreTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final Terminal chicago = createTerminal("CHI");
+    private final Terminal dallas = createTerminal("DAL");
+    private final Terminal houston = createTerminal("HOU");
+
+    private final Route route = new Route(chicago, houston, List.of(
+            new Segment(chicago, dallas, new RailTransport()),
+            new Segment(dallas, houston, new TruckTransport()),
+            new Segment(houston, chicago, new SeaTransport())
+    ));
+
+    @Test
+    void advanceMatchesShipmentAdvance() {
+        Shipment shipment = new Shipment("TRACK1", route);
+        ShipmentStore store = new ShipmentStore();
+        int row = store.add("TRACK1", route);
+
+        Duration[] ticks = {
+                Duration.ofMinutes(7), Duration.ofHours(11), Duration.ofMinutes(53),
+                Duration.ofHours(8), Duration.ofNanos(1), Duration.ofDays(2), Duration.ofDays(2)
+        };
+
+        for (Duration tick : ticks) {
+            shipment.advance(tick);
+            store.advance(row, tick.toNanos());
+
+            assertEquals(shipment.getCurrentSegmentIndex(), store.getCurrentSegmentIndex(row));
+            assertEquals(shipment.getElapsedInCurrentSegment().toNanos(), store.getElapsedNanos(row));
+            assertEquals(shipment.getStatus(), store.getStatus(row));
+        }
+
+        assertFalse(store.hasMoreSegments(row));
+        assertEquals(ShipmentStatus.ARRIVED_AT_TERMINAL, store.getStatus(row));
+    }
+
+    @Test
+    void internsSharedRoutesAndPreservesProgress() {
+        Shipment shipment = new Shipment("TRACK1", route);
+        shipment.advance(Duration.ofHours(13));
+
+        ShipmentStore store = new ShipmentStore(1);
+        int first = store.add(shipment);
+        int second = store.add("TRACK2", route);
+
+        assertEquals(1, store.routeCount());
+        assertEquals(2, store.size());
+        assertEquals(1, store.getCurrentSegmentIndex(first));
+        assertEquals(Duration.ofHours(5).toNanos(), store.getRemainingNanos(first));
+        assertEquals(0, store.getCurrentSegmentIndex(second));
+        assertEquals("TRACK2", store.getTrackingNumber(second));
+    }
+
+    @Test
+    void copyIsIndependentOfOriginal() {
+        ShipmentStore store = new ShipmentStore();
+        int row = store.add("TRACK1", route);
+
+        ShipmentStore copy = store.copy();
+        copy.advance(row, Duration.ofHours(13).toNanos());
+
+        assertEquals(0, store.getCurrentSegmentIndex(row));
+        assertEquals(1, copy.getCurrentSegmentIndex(row));
+    }
+
+    /**
+     * Verifies that ticking a store-backed state matches ticking the
+     * same shipments as objects, including delay blocking and the
+     * parallel path.
+     */
+    @Test
+    void storeBackedTickMatchesObjectTick() {
+        List<Shipment> shipments = new ArrayList<>();
+        ShipmentStore store = new ShipmentStore();
+
+        for (int i = 0; i < 200; i++) {
+            Shipment shipment = new Shipment("TRACK" + i, route);
+            shipment.advance(Duration.ofMinutes(37L * i));
+            shipments.add(shipment);
+            store.add(shipment);
+        }
+
+        SimulationState objectState = new SimulationState(START, shipments);
+        SimulationState storeState = new SimulationState(START, store);
+
+        for (SimulationState state : List.of(objectState, storeState)) {
+            state.addDelayEvent(new DelayEvent(
+                    DelayType.CONGESTION,
+                    Duration.ofHours(3),
+                    START.plus(Duration.ofHours(4)),
+                    "HOU",
+                    "Port congestion",
+                    null,
+                    null
+            ));
+        }
+
+        SimulationEngine serial = new SimulationEngine();
+        SimulationEngine parallel = new SimulationEngine(1, 16);
+
+        for (int tick = 0; tick < 60; tick++) {
+            serial.tick(objectState, Duration.ofMinutes(90));
+            parallel.tick(storeState, Duration.ofMinutes(90));
+
+            for (int row = 0; row < shipments.size(); row++) {
+                Shipment expected = shipments.get(row);
+
+                assertEquals(expected.getCurrentSegmentIndex(), store.getCurrentSegmentIndex(row));
+                assertEquals(expected.getElapsedInCurrentSegment().toNanos(), store.getElapsedNanos(row));
+            }
+        }
+
+        assertEquals(objectState.hasShipmentsInTransit(), storeState.hasShipmentsInTransit());
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
+}
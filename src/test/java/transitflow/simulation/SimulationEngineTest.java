@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import transitflow.delivery.StandardDeliveryPolicy;
 import transitflow.domain.route.*;
 import transitflow.domain.shipment.Shipment;
+import transitflow.domain.shipment.ShipmentStatus;
 import transitflow.transport.truck.TruckTransport;
 import transitflow.domain.delay.DelayEvent;
 import transitflow.domain.delay.DelayType;
@@ -13,6 +14,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -348,4 +350,126 @@ public class SimulationEngineTest {
         // Assert
         assertEquals(0, shipment.getCurrentSegmentIndex());
     }
+
+    /**
+     * Verifies that a parallel tick over fork-join chunks produces
+     * exactly the same shipment progression as the serial path.
+     */
+    @Test
+    void parallelTickMatchesSerialTick() {
+        // Arrange
+        List<Shipment> serialShipments = new ArrayList<>();
+        List<Shipment> parallelShipments = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            Shipment serial = createSingleSegmentShipment();
+            Shipment parallel = createSingleSegmentShipment();
+
+            // Stagger progress so shipments complete on different ticks
+            Duration head = Duration.ofMinutes(i % 360);
+            serial.advance(head);
+            parallel.advance(head);
+
+            serialShipments.add(serial);
+            parallelShipments.add(parallel);
+        }
+
+        SimulationState serialState = createStateWithShipments(serialShipments);
+        SimulationState parallelState = createStateWithShipments(parallelShipments);
+
+        for (SimulationState state : List.of(serialState, parallelState)) {
+            state.addDelayEvent(new DelayEvent(
+                    DelayType.CONGESTION,
+                    Duration.ofHours(1),
+                    state.getCurrentTime().plus(Duration.ofHours(2)),
+                    "DAL",
+                    "Dock congestion",
+                    null,
+                    null
+            ));
+        }
+
+        SimulationEngine serialEngine = new SimulationEngine(Integer.MAX_VALUE, 1);
+        SimulationEngine parallelEngine = new SimulationEngine(1, 7);
+
+        // Act
+        for (int tick = 0; tick < 12; tick++) {
+            serialEngine.tick(serialState, Duration.ofMinutes(40));
+            parallelEngine.tick(parallelState, Duration.ofMinutes(40));
+
+            // Assert
+            for (int i = 0; i < serialShipments.size(); i++) {
+                Shipment expected = serialShipments.get(i);
+                Shipment actual = parallelShipments.get(i);
+
+                assertEquals(expected.getCurrentSegmentIndex(), actual.getCurrentSegmentIndex());
+                if (expected.hasMoreSegments()) {
+                    assertEquals(expected.getRemainingInCurrentSegment(),
+                            actual.getRemainingInCurrentSegment());
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifies that a hold blocks only the held shipment, not others
+     * on the same segment, and that event-driven stepping stops at the
+     * tick it ends.
+     */
+    @Test
+    void holdBlocksOnlyHeldShipment() {
+        // Arrange
+        Shipment held = createSingleSegmentShipment();
+        Shipment moving = new Shipment("TRACK456", held.getRoute());
+        SimulationState state = createStateWithShipments(new ArrayList<>(List.of(held, moving)));
+        SimulationEngine engine = new SimulationEngine();
+
+        state.holdShipment(0, state.getCurrentTime().plus(Duration.ofMinutes(150)));
+
+        // Act
+        long ticks = engine.ticksUntilNextEvent(state, Duration.ofHours(1));
+        engine.tick(state, Duration.ofHours(2));
+
+        // Assert
+        assertEquals(2, ticks);
+        assertEquals(0, held.getElapsedNanosInCurrentSegment());
+        assertEquals(Duration.ofHours(2).toNanos(), moving.getElapsedNanosInCurrentSegment());
+    }
+
+    /**
+     * Verifies that a hold ending within a tick withholds only the
+     * held part of that tick's progress, in tick and event-driven
+     * stepping alike.
+     */
+    @Test
+    void subTickHoldWithholdsOnlyItsLength() {
+        // Arrange
+        Shipment held = createSingleSegmentShipment();
+        SimulationState state = createStateWithShipments(new ArrayList<>(List.of(held)));
+        SimulationEngine engine = new SimulationEngine();
+
+        state.holdShipment(0, state.getCurrentTime().plus(Duration.ofMinutes(45)));
+
+        // Act
+        long ticks = engine.ticksUntilNextEvent(state, Duration.ofHours(1));
+        engine.tick(state, Duration.ofHours(1));
+
+        // Assert: six hours of transit plus the 45 minute hold
+        assertEquals(7, ticks);
+        assertEquals(Duration.ofMinutes(15).toNanos(), held.getElapsedNanosInCurrentSegment());
+        assertEquals(ShipmentStatus.IN_TRANSIT, held.getStatus());
+    }
+
+    @Test
+    void rejectsNonPositiveParallelSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(10, 0));
+    }
+
+    private SimulationState createStateWithShipments(List<Shipment> shipments) {
+        return new SimulationState(
+                Instant.parse("2026-01-01T00:00:00Z"),
+                shipments
+        );
+    }
 }
@@ -0,0 +1,273 @@
+package transitflow.simulation;
+
+import org.junit.jupiter.api.Test;
+import transitflow.delivery.StandardDeliveryPolicy;
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.delay.DelayType;
+import transitflow.domain.route.Route;
+import transitflow.domain.route.Segment;
+import transitflow.domain.route.Terminal;
+import transitflow.domain.shipment.Shipment;
+import transitflow.transport.rail.RailTransport;
+import transitflow.transport.sea.SeaTransport;
+import transitflow.transport.truck.TruckTransport;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the immutable versions published by live simulation state.
+ *
+ * <p>A published version must stay frozen while the live state keeps
+ * ticking, share unchanged shipments with its successor, always
+ * reflect exactly one completed tick, and only be built when asked
+ * for.</p>
+ */
+class SimulationStateSnapshotTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration TICK = Duration.ofMinutes(30);
+
+    private final Terminal chicago = createTerminal("CHI");
+    private final Terminal dallas = createTerminal("DAL");
+    private final Terminal houston = createTerminal("HOU");
+
+    private final Route route = new Route(chicago, houston, List.of(
+            new Segment(chicago, dallas, new RailTransport()),
+            new Segment(dallas, houston, new TruckTransport()),
+            new Segment(houston, chicago, new SeaTransport())
+    ));
+
+    @Test
+    void publishedVersionIsUnaffectedByLaterTicks() {
+        // Arrange
+        Shipment shipment = new Shipment("TRACK1", route);
+        SimulationState state = new SimulationState(START, List.of(shipment));
+        SimulationEngine engine = new SimulationEngine();
+
+        engine.tick(state, TICK);
+        SimulationStateSnapshot before = state.currentSnapshot().orElseThrow();
+
+        // Act
+        engine.tick(state, TICK);
+        SimulationStateSnapshot after = state.currentSnapshot().orElseThrow();
+
+        // Assert
+        assertEquals(START.plus(TICK), before.getCurrentTime());
+        assertEquals(TICK.toNanos(), before.getShipments().get(0).getElapsedNanosInCurrentSegment());
+        assertEquals(TICK.multipliedBy(2).toNanos(), after.getShipments().get(0).getElapsedNanosInCurrentSegment());
+        assertTrue(after.getVersion() > before.getVersion());
+        assertNotSame(shipment, after.getShipments().get(0));
+    }
+
+    /**
+     * Verifies that blocked shipments keep their frozen copy across
+     * versions while moving shipments are re-copied.
+     */
+    @Test
+    void sharesUnchangedShipmentsBetweenVersions() {
+        // Arrange
+        Route truckRoute = new Route(dallas, houston, List.of(
+                new Segment(dallas, houston, new TruckTransport())));
+
+        List<Shipment> shipments = new ArrayList<>();
+        for (int i = 0; i < SimulationStateSnapshot.CHUNK_SIZE; i++) {
+            shipments.add(new Shipment("BLOCKED" + i, route));
+        }
+        shipments.add(new Shipment("MOVING", truckRoute));
+
+        SimulationState state = new SimulationState(START, shipments);
+        state.addDelayEvent(new DelayEvent(
+                DelayType.CONGESTION,
+                Duration.ofDays(1),
+                START,
+                "DAL",
+                "Yard congestion",
+                null,
+                null
+        ));
+        SimulationEngine engine = new SimulationEngine();
+
+        // The first blocked tick marks the shipments delayed
+        engine.tick(state, TICK);
+        SimulationStateSnapshot before = state.currentSnapshot().orElseThrow();
+
+        // Act
+        engine.tick(state, TICK);
+        SimulationStateSnapshot after = state.currentSnapshot().orElseThrow();
+
+        // Assert
+        for (int i = 0; i < SimulationStateSnapshot.CHUNK_SIZE; i++) {
+            assertSame(before.getShipments().get(i), after.getShipments().get(i));
+        }
+        int moving = SimulationStateSnapshot.CHUNK_SIZE;
+        assertNotSame(before.getShipments().get(moving), after.getShipments().get(moving));
+        assertSame(before.getDelayEvents(), after.getDelayEvents());
+    }
+
+    /**
+     * Verifies that a version of a moving shipment freezes only its
+     * progress, sharing identity and route with the live shipment, and
+     * hands out one frozen shipment however often it is read.
+     */
+    @Test
+    void freezesOnlyProgressOfMovingShipments() {
+        // Arrange
+        Shipment shipment = new Shipment("TRACK1", route);
+        SimulationState state = new SimulationState(START, List.of(shipment));
+        SimulationEngine engine = new SimulationEngine();
+        SimulationStateSnapshot before = state.currentSnapshot().orElseThrow();
+
+        // Act
+        engine.tick(state, TICK);
+        SimulationStateSnapshot after = state.currentSnapshot().orElseThrow();
+        Shipment frozen = after.getShipments().get(0);
+
+        // Assert
+        assertNotSame(shipment, frozen);
+        assertSame(frozen, after.getShipments().get(0));
+        assertEquals(shipment.getId(), frozen.getId());
+        assertSame(shipment.getTrackingNumber(), frozen.getTrackingNumber());
+        assertSame(route, frozen.getRoute());
+        assertEquals(TICK.toNanos(), frozen.getElapsedNanosInCurrentSegment());
+        assertEquals(0, before.getShipments().get(0).getElapsedNanosInCurrentSegment());
+        assertTrue(after.changesSince(before).getAdvancedShipments().isEmpty());
+    }
+
+    /**
+     * Verifies that a reader grabbing versions while the engine ticks
+     * on another thread only ever observes whole ticks.
+     */
+    @Test
+    void concurrentReadersObserveWholeTicks() throws InterruptedException {
+        // Arrange
+        List<Shipment> shipments = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            shipments.add(new Shipment("TRACK" + i, route));
+        }
+        SimulationState state = new SimulationState(START, shipments);
+        SimulationEngine engine = new SimulationEngine();
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread writer = new Thread(() -> {
+            for (int tick = 0; tick < 300; tick++) {
+                engine.tick(state, TICK);
+            }
+        });
+
+        // Act
+        writer.start();
+        while (writer.isAlive()) {
+            SimulationStateSnapshot version = state.getPublishedSnapshot().orElseThrow();
+            long expected = Math.min(
+                    Duration.between(START, version.getCurrentTime()).toNanos(),
+                    totalTransitNanos());
+
+            for (Shipment shipment : version.getShipments()) {
+                if (progressNanos(shipment) != expected) {
+                    failure.compareAndSet(null, shipment.getTrackingNumber()
+                            + " inconsistent at " + version.getCurrentTime());
+                }
+            }
+        }
+        writer.join();
+
+        // Assert
+        assertNull(failure.get());
+        assertEquals(START.plus(TICK.multipliedBy(300)),
+                state.currentSnapshot().orElseThrow().getCurrentTime());
+    }
+
+    /**
+     * Verifies that ticks and delays nobody asked to observe publish
+     * nothing, and that a request is served at the end of the next
+     * tick with every delay recorded during it.
+     */
+    @Test
+    void publishesOnlyWhenAsked() {
+        // Arrange
+        SimulationState state = new SimulationState(START, List.of(new Shipment("TRACK1", route)));
+        SimulationEngine engine = new SimulationEngine();
+        long initial = state.getPublishedSnapshot().orElseThrow().getVersion();
+
+        engine.tick(state, TICK);
+        SimulationStateSnapshot requested = state.getPublishedSnapshot().orElseThrow();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            state.addDelayEvent(new DelayEvent(
+                    DelayType.CONGESTION,
+                    Duration.ofHours(1),
+                    START,
+                    "HOU",
+                    "Yard congestion",
+                    null,
+                    null
+            ));
+        }
+        SimulationStateSnapshot beforeTick = state.getPublishedSnapshot().orElseThrow();
+
+        engine.tick(state, TICK);
+        engine.tick(state, TICK);
+        SimulationStateSnapshot served = state.getPublishedSnapshot().orElseThrow();
+
+        // Assert: one version per request, none for the last tick
+        assertEquals(initial + 1, requested.getVersion());
+        assertSame(requested, beforeTick);
+        assertEquals(initial + 2, served.getVersion());
+        assertEquals(START.plus(TICK.multipliedBy(2)), served.getCurrentTime());
+        assertEquals(3, served.getDelayEvents().size());
+    }
+
+    @Test
+    void detachedAndKernelStatesDoNotPublish() {
+        // Arrange
+        SimulationState detached = SimulationState.detached(START, List.of());
+        SimulationState kernelState = new SimulationState(START, List.of());
+
+        // Act
+        kernelState.enableEventKernel(TICK);
+
+        // Assert
+        assertTrue(detached.getPublishedSnapshot().isEmpty());
+        assertTrue(kernelState.getPublishedSnapshot().isEmpty());
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private long progressNanos(Shipment shipment) {
+        long progress = shipment.hasMoreSegments() ? shipment.getElapsedNanosInCurrentSegment() : 0;
+        for (int i = 0; i < shipment.getCurrentSegmentIndex(); i++) {
+            progress += route.getSegmentTransitNanos(i);
+        }
+        return progress;
+    }
+
+    private long totalTransitNanos() {
+        long total = 0;
+        for (int i = 0; i < route.segmentCount(); i++) {
+            total += route.getSegmentTransitNanos(i);
+        }
+        return total;
+    }
+
+    private Terminal createTerminal(String code) {
+        return new Terminal(
+                code,
+                code,
+                new StandardDeliveryPolicy(
+                        ZoneId.of("America/Chicago"),
+                        LocalTime.of(6, 0)
+                )
+        );
+    }
+}
@@ -1,9 +1,20 @@
 package transitflow.simulation;
 
 import org.junit.jupiter.api.Test;
+import transitflow.domain.delay.DelayEvent;
+import transitflow.domain.delay.DelayType;
+import transitflow.repo.DelayEventRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class SimulationStateTest {
 
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
     @Test
     void startsWithNoDelayEvents() { }
 
@@ -12,5 +23,106 @@ class SimulationStateTest {
 
     @Test
     void exposesDelayEventsAsUnmodifiableList() { }
-}
 
+    /**
+     * Verifies that delays leave live state once they expire and
+     * are handed to the configured archive.
+     */
+    @Test
+    void movesExpiredDelaysToArchive() {
+        SimulationState state = new SimulationState(START, List.of());
+        DelayEventRepository archive = new DelayEventRepository(10);
+        state.setDelayArchive(archive);
+
+        DelayEvent shortDelay = delay(Duration.ofHours(1));
+        DelayEvent longDelay = delay(Duration.ofHours(3));
+        state.addDelayEvent(shortDelay);
+        state.addDelayEvent(longDelay);
+
+        // Still active at exactly its end time
+        state.advanceTime(Duration.ofHours(1));
+        assertEquals(2, state.getDelayEvents().size());
+
+        state.advanceTime(Duration.ofMinutes(1));
+        assertEquals(List.of(longDelay), state.getDelayEvents());
+        assertEquals(List.of(shortDelay), archive.findRecent());
+        assertEquals(1, state.getDelayIndex().size());
+    }
+
+    /**
+     * Verifies that live delay state stays bounded when delays are
+     * injected continuously over a long run.
+     */
+    @Test
+    void liveDelaysStayBoundedOverLongRuns() {
+        SimulationState state = new SimulationState(START, List.of());
+        DelayEventRepository archive = new DelayEventRepository(100);
+        state.setDelayArchive(archive);
+
+        for (int hour = 0; hour < 24 * 30; hour++) {
+            state.addDelayEvent(delay(state.getCurrentTime(), Duration.ofHours(4)));
+            state.advanceTime(Duration.ofHours(1));
+        }
+
+        assertTrue(state.getDelayEvents().size() <= 5);
+        assertEquals(100, archive.findRecent().size());
+        assertEquals(24 * 30 - state.getDelayEvents().size(), archive.getArchivedCount());
+    }
+
+    /**
+     * Verifies that weather delays are indexed by terminal, that the
+     * longest overlapping one wins, and that entries leave the index
+     * when their delay expires.
+     */
+    @Test
+    void indexesActiveWeatherDelaysByTerminal() {
+        SimulationState state = new SimulationState(START, List.of());
+
+        DelayEvent shortStorm = weatherDelay("CHI", Duration.ofHours(1));
+        DelayEvent longStorm = weatherDelay("CHI", Duration.ofHours(4));
+        state.addDelayEvent(longStorm);
+        state.addDelayEvent(shortStorm);
+        state.addDelayEvent(delay(Duration.ofHours(8)));
+
+        assertEquals(longStorm, state.getActiveWeatherDelay("CHI").orElseThrow());
+        assertTrue(state.getActiveWeatherDelay("DAL").isEmpty());
+
+        state.advanceTime(Duration.ofHours(4));
+        assertEquals(longStorm, state.getActiveWeatherDelay("CHI").orElseThrow());
+
+        state.advanceTime(Duration.ofMinutes(1));
+        assertTrue(state.getActiveWeatherDelay("CHI").isEmpty());
+    }
+
+    /* ------------------------------------------------------------------
+       Test helpers
+       ------------------------------------------------------------------ */
+
+    private DelayEvent delay(Duration duration) {
+        return delay(START, duration);
+    }
+
+    private DelayEvent delay(Instant occurredAt, Duration duration) {
+        return new DelayEvent(
+                DelayType.CONGESTION,
+                duration,
+                occurredAt,
+                "CHI",
+                "Yard congestion",
+                null,
+                null
+        );
+    }
+
+    private DelayEvent weatherDelay(String terminalCode, Duration duration) {
+        return new DelayEvent(
+                DelayType.WEATHER,
+                duration,
+                START,
+                terminalCode,
+                "Weather disruption",
+                null,
+                null
+        );
+    }
+}
@@ -1,4 +1,46 @@
 package transitflow.transport;
 
+import org.junit.jupiter.api.Test;
+import transitflow.transport.air.AirTransport;
+import transitflow.transport.rail.RailTransport;
+import transitflow.transport.sea.SeaTransport;
+import transitflow.transport.truck.TruckTransport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class TransportModeFactoryTest {
+
+    /**
+     * Verifies that the factory hands out canonical singletons whose
+     * ordinals index back to the same instance.
+     */
+    @Test
+    void createsCanonicalModes() {
+        // Act
+        TransportMode truck = TransportModeFactory.create("truck");
+        TransportMode sea = TransportModeFactory.create("SEA");
+
+        // Assert
+        assertSame(TruckTransport.INSTANCE, truck);
+        assertSame(truck, TransportModeFactory.create("TRUCK"));
+        assertSame(sea, TransportModeFactory.of(sea.getOrdinal()));
+
+        for (int ordinal = 0; ordinal < TransportModeFactory.MODE_COUNT; ordinal++) {
+            assertEquals(ordinal, TransportModeFactory.of(ordinal).getOrdinal());
+        }
+    }
+
+    @Test
+    void instancesOfSameModeAreEqual() {
+        assertEquals(new RailTransport(), RailTransport.INSTANCE);
+        assertEquals(new AirTransport().hashCode(), AirTransport.INSTANCE.hashCode());
+        assertNotEquals(new SeaTransport(), new TruckTransport());
+    }
+
+    @Test
+    void rejectsUnknownModes() {
+        assertThrows(IllegalArgumentException.class, () -> TransportModeFactory.create("BARGE"));
+        assertThrows(IllegalArgumentException.class,
+                () -> TransportModeFactory.of(TransportModeFactory.MODE_COUNT));
+    }
 }